@@ -0,0 +1,85 @@
+package tsp.commands.benchmark;
+
+import org.bukkit.command.CommandSender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tsp.commands.command.bukkit.BukkitCommandContext;
+import tsp.commands.command.context.CommandContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Assertion chains, both passing and failing through the shared empty contexts.
+ *
+ * @author TheSilentPro (Silent)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AssertionBenchmark {
+
+    private CommandSender player;
+    private CommandSender console;
+    private BenchmarkCommand command;
+    private String[] args;
+
+    @Setup
+    public void setup() {
+        player = MockSenders.player("Notch");
+        console = MockSenders.console();
+        command = new BenchmarkCommand("heal", ctx -> {});
+        args = new String[]{"Notch"};
+    }
+
+    @Benchmark
+    public CommandContext<CommandSender> passing() {
+        return new BukkitCommandContext<>(player, args, command)
+                .assertPlayer()
+                .assertLength(1)
+                .reply("Healed!");
+    }
+
+    @Benchmark
+    public CommandContext<CommandSender> failingLength() {
+        return new BukkitCommandContext<>(player, args, command)
+                .assertLength(2)
+                .assertLength(3)
+                .reply("Unreachable");
+    }
+
+    @Benchmark
+    public CommandContext<CommandSender> failingPlayer() {
+        return new BukkitCommandContext<>(console, args, command)
+                .assertPlayer()
+                .assertPlayer()
+                .reply("Unreachable");
+    }
+
+    @Benchmark
+    public CommandContext<CommandSender> failingOp() {
+        return new BukkitCommandContext<>(console, args, command)
+                .assertOp()
+                .assertLength(1)
+                .reply("Unreachable");
+    }
+
+    @Benchmark
+    public Object failureReason() {
+        return new BukkitCommandContext<>(console, args, command)
+                .assertPlayer()
+                .assertLength(1)
+                .failure();
+    }
+
+}
@@ -0,0 +1,40 @@
+package tsp.commands.benchmark;
+
+import org.bukkit.command.CommandSender;
+import tsp.commands.command.bukkit.AbstractBukkitCommand;
+import tsp.commands.command.bukkit.BukkitCommandContext;
+import tsp.commands.command.tree.CommandNodeBuilder;
+
+import java.util.function.Consumer;
+
+/**
+ * A command with a configurable tree and handler, used by the benchmarks without registering it.
+ *
+ * @author TheSilentPro (Silent)
+ */
+public class BenchmarkCommand extends AbstractBukkitCommand {
+
+    private final Consumer<CommandNodeBuilder<BukkitCommandContext<CommandSender>>> tree;
+    private final Consumer<BukkitCommandContext<CommandSender>> handler;
+
+    public BenchmarkCommand(String name, Consumer<CommandNodeBuilder<BukkitCommandContext<CommandSender>>> tree, Consumer<BukkitCommandContext<CommandSender>> handler) {
+        super(name, new String[0]);
+        this.tree = tree;
+        this.handler = handler;
+    }
+
+    public BenchmarkCommand(String name, Consumer<BukkitCommandContext<CommandSender>> handler) {
+        this(name, root -> {}, handler);
+    }
+
+    @Override
+    public void tree(CommandNodeBuilder<BukkitCommandContext<CommandSender>> root) {
+        tree.accept(root);
+    }
+
+    @Override
+    public void handle(BukkitCommandContext<CommandSender> ctx) {
+        handler.accept(ctx);
+    }
+
+}
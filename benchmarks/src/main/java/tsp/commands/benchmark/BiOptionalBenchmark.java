@@ -0,0 +1,80 @@
+package tsp.commands.benchmark;
+
+import org.bukkit.command.CommandSender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tsp.commands.command.bukkit.BukkitCommandContext;
+import tsp.commands.command.util.BiOptional;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Chained {@link BiOptional} calls on a shared context, boxed against the primitive specializations.
+ * Run with the gc profiler, {@code gc.alloc.rate.norm} is the allocation per chained call.
+ *
+ * @author TheSilentPro (Silent)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BiOptionalBenchmark {
+
+    private BukkitCommandContext<CommandSender> ctx;
+
+    @Setup
+    public void setup() {
+        BenchmarkCommand command = new BenchmarkCommand("give", ctx -> {});
+        ctx = new BukkitCommandContext<>(MockSenders.player("Notch"), new String[]{"Notch", "64", "2.5", "x"}, command);
+    }
+
+    @Benchmark
+    public int boxedChain() {
+        return ctx.arg(2, Integer.class)
+                .filter(amount -> amount > 0)
+                .map(amount -> amount * 2)
+                .orElse(0);
+    }
+
+    @Benchmark
+    public int intChain() {
+        return ctx.intArg(2)
+                .filter(amount -> amount > 0)
+                .map(amount -> amount * 2)
+                .orElse(0);
+    }
+
+    @Benchmark
+    public double doubleChain() {
+        return ctx.doubleArg(3)
+                .filter(multiplier -> multiplier > 0)
+                .map(multiplier -> multiplier * 2)
+                .orElse(0);
+    }
+
+    @Benchmark
+    public int missingChain() {
+        return ctx.rawArg(9)
+                .filter(arg -> !arg.isEmpty())
+                .map(String::length)
+                .orElse(0);
+    }
+
+    @Benchmark
+    public int invalidIntChain() {
+        return ctx.intArg(4)
+                .map(amount -> amount * 2)
+                .orElse(0);
+    }
+
+}
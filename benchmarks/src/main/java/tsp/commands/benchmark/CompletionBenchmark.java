@@ -0,0 +1,81 @@
+package tsp.commands.benchmark;
+
+import org.bukkit.command.CommandSender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tsp.commands.command.completion.Suggestions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tab completion through {@code onTabComplete}, and prefix filtering of a large suggestion source.
+ *
+ * @author TheSilentPro (Silent)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompletionBenchmark {
+
+    @Param({"100", "10000"})
+    public int entries;
+
+    private CommandSender sender;
+    private BenchmarkCommand command;
+    private List<String> warps;
+    private Suggestions suggestions;
+    private String[] args;
+
+    @Setup
+    public void setup() {
+        sender = MockSenders.player("Notch");
+        warps = new ArrayList<>(entries);
+        for (int i = 0; i < entries; i++) {
+            warps.add("warp" + i);
+        }
+        suggestions = Suggestions.of(warps);
+        command = new BenchmarkCommand("warp", root -> {
+            for (String warp : warps) {
+                root.literal(warp, node -> node.executes(ctx -> {}));
+            }
+        }, ctx -> {});
+        command.compileTree();
+        args = new String[]{"warp12"};
+    }
+
+    @Benchmark
+    public List<String> onTabComplete() {
+        return command.onTabComplete(sender, null, "warp", args);
+    }
+
+    @Benchmark
+    public List<String> sortedPrefix() {
+        return suggestions.startingWith("warp12");
+    }
+
+    @Benchmark
+    public List<String> linearPrefix() {
+        List<String> matches = new ArrayList<>();
+        for (String warp : warps) {
+            if (warp.regionMatches(true, 0, "warp12", 0, 6)) {
+                matches.add(warp);
+            }
+        }
+        return matches;
+    }
+
+}
@@ -0,0 +1,118 @@
+package tsp.commands.benchmark;
+
+import org.bukkit.command.CommandSender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tsp.commands.command.bukkit.BukkitCommandContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Context construction in {@code onCommand} and the argument accessors.
+ * Accessor benchmarks build a fresh context per operation, as every dispatch does.
+ *
+ * @author TheSilentPro (Silent)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContextBenchmark {
+
+    private CommandSender sender;
+    private BenchmarkCommand command;
+    private String[] args;
+    private String[] quotedArgs;
+
+    @Setup
+    public void setup() {
+        sender = MockSenders.player("Notch");
+        command = new BenchmarkCommand("give", ctx -> {});
+        command.compileTree();
+        args = new String[]{"Notch", "diamond", "64", "-silent", "-radius"};
+        quotedArgs = new String[]{"Notch", "\"Diamond", "Sword\"", "of", "the", "ancients"};
+    }
+
+    @Benchmark
+    public boolean onCommand() {
+        return command.onCommand(sender, null, "give", args);
+    }
+
+    @Benchmark
+    public BukkitCommandContext<CommandSender> construct() {
+        return new BukkitCommandContext<>(sender, args, command);
+    }
+
+    @Benchmark
+    public Object args() {
+        return new BukkitCommandContext<>(sender, args, command).args();
+    }
+
+    @Benchmark
+    public void arg(Blackhole blackhole) {
+        BukkitCommandContext<CommandSender> ctx = new BukkitCommandContext<>(sender, args, command);
+        for (int i = 1; i <= args.length; i++) {
+            blackhole.consume(ctx.arg(i));
+        }
+    }
+
+    @Benchmark
+    public void rawArg(Blackhole blackhole) {
+        BukkitCommandContext<CommandSender> ctx = new BukkitCommandContext<>(sender, args, command);
+        for (int i = 1; i <= args.length; i++) {
+            blackhole.consume(ctx.rawArg(i));
+        }
+    }
+
+    @Benchmark
+    public Object typedArg() {
+        return new BukkitCommandContext<>(sender, args, command).arg(3, Integer.class).orElse(0);
+    }
+
+    @Benchmark
+    public Object options() {
+        return new BukkitCommandContext<>(sender, args, command).options(0);
+    }
+
+    @Benchmark
+    public void optionsTwice(Blackhole blackhole) {
+        BukkitCommandContext<CommandSender> ctx = new BukkitCommandContext<>(sender, args, command);
+        blackhole.consume(ctx.options(0));
+        blackhole.consume(ctx.options(0));
+    }
+
+    @Benchmark
+    public void flagsTwice(Blackhole blackhole) {
+        BukkitCommandContext<CommandSender> ctx = new BukkitCommandContext<>(sender, args, command);
+        blackhole.consume(ctx.hasFlag("silent"));
+        blackhole.consume(ctx.flag("radius"));
+    }
+
+    @Benchmark
+    public void quotedAndGreedy(Blackhole blackhole) {
+        BukkitCommandContext<CommandSender> ctx = new BukkitCommandContext<>(sender, quotedArgs, command);
+        blackhole.consume(ctx.quotedArg(2));
+        blackhole.consume(ctx.greedyArg(3));
+    }
+
+    @Benchmark
+    public Object biOptionalChain() {
+        return new BukkitCommandContext<>(sender, args, command)
+                .rawArg(3)
+                .filter(arg -> !arg.isEmpty())
+                .map(String::length)
+                .orElse(0);
+    }
+
+}
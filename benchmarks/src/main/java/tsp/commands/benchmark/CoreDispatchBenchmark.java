@@ -0,0 +1,150 @@
+package tsp.commands.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tsp.commands.command.AbstractCommand;
+import tsp.commands.command.Cmd;
+import tsp.commands.command.context.CommandContext;
+import tsp.commands.command.tree.CommandNodeBuilder;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Dispatch through {@code commands-core} alone, with a plain sender object instead of a mocked platform api.
+ * Comparing it to {@link DispatchBenchmark#onCommand()} shows what the Bukkit adapter adds on top.
+ *
+ * @author TheSilentPro (Silent)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CoreDispatchBenchmark {
+
+    private FakeSender sender;
+    private FakeCommand command;
+    private String[] giveArgs;
+    private String[] invalidArgs;
+
+    @Setup
+    public void setup() {
+        sender = new FakeSender("Notch");
+        command = new FakeCommand("shop", root -> root
+                .literal("give", give -> give
+                        .argument("item", String.class, item -> item
+                                .argument("amount", Integer.class, amount -> amount.executes(ctx -> ctx.sender().received++))))
+                .literal("price", price -> price
+                        .argument("item", String.class, item -> item.executes(ctx -> ctx.sender().received++))));
+        command.compileTree();
+        giveArgs = new String[]{"give", "diamond", "64"};
+        invalidArgs = new String[]{"give", "diamond", "lots"};
+    }
+
+    @Benchmark
+    public int dispatch() {
+        command.dispatch(new FakeContext(sender, command, giveArgs));
+        return sender.received;
+    }
+
+    @Benchmark
+    public int dispatchInvalid() {
+        command.dispatch(new FakeContext(sender, command, invalidArgs));
+        return sender.received;
+    }
+
+    /**
+     * A sender that counts what it receives.
+     */
+    public static final class FakeSender {
+
+        private final String name;
+        int received;
+
+        public FakeSender(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+    }
+
+    public static final class FakeContext implements CommandContext<FakeSender> {
+
+        private final FakeSender sender;
+        private final FakeCommand command;
+        private final String[] args;
+
+        public FakeContext(FakeSender sender, FakeCommand command, String[] args) {
+            this.sender = sender;
+            this.command = command;
+            this.args = args;
+        }
+
+        @Override
+        public FakeSender sender() {
+            return sender;
+        }
+
+        @Nonnull
+        @Override
+        public String[] rawArgs() {
+            return args;
+        }
+
+        @Override
+        public Cmd<FakeSender, ?, ?> command() {
+            return command;
+        }
+
+        @Override
+        public Object senderId() {
+            return sender.getName();
+        }
+
+        @Override
+        public FakeContext reply(String message) {
+            sender.received++;
+            return this;
+        }
+
+    }
+
+    public static final class FakeCommand extends AbstractCommand<FakeSender, Void, FakeContext> {
+
+        private final Consumer<CommandNodeBuilder<FakeContext>> tree;
+
+        public FakeCommand(String name, Consumer<CommandNodeBuilder<FakeContext>> tree) {
+            super(name, new String[0]);
+            this.tree = tree;
+        }
+
+        @Override
+        public void tree(CommandNodeBuilder<FakeContext> root) {
+            tree.accept(root);
+        }
+
+        @Override
+        public void handle(FakeContext ctx) {
+            ctx.reply("/shop give <item> <amount>");
+        }
+
+        @Override
+        public void register(Void commandHandler) {}
+
+    }
+
+}
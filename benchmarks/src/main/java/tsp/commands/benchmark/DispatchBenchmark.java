@@ -0,0 +1,82 @@
+package tsp.commands.benchmark;
+
+import org.bukkit.command.CommandSender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tsp.commands.command.bukkit.BukkitCommandContext;
+import tsp.commands.command.tree.CommandNode;
+import tsp.commands.command.tree.CommandTree;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Subcommand resolution through a compiled tree of 200 paths, compared to a chain of string compares.
+ *
+ * @author TheSilentPro (Silent)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DispatchBenchmark {
+
+    private static final int GROUPS = 20;
+    private static final int ACTIONS = 10;
+
+    private CommandSender sender;
+    private BenchmarkCommand command;
+    private CommandTree<BukkitCommandContext<CommandSender>> tree;
+    private String[] args;
+
+    @Setup
+    public void setup() {
+        sender = MockSenders.player("Notch");
+        command = new BenchmarkCommand("shop", root -> {
+            for (int group = 0; group < GROUPS; group++) {
+                int g = group;
+                root.literal("group" + g, node -> {
+                    for (int action = 0; action < ACTIONS; action++) {
+                        node.literal("action" + action, leaf -> leaf.argument("amount", Integer.class, amount -> amount.executes(ctx -> {})));
+                    }
+                });
+            }
+        }, ctx -> {});
+        tree = command.compileTree();
+        args = new String[]{"group17", "action9", "64"};
+    }
+
+    @Benchmark
+    public CommandNode<BukkitCommandContext<CommandSender>> resolve() {
+        return tree.resolve(args);
+    }
+
+    @Benchmark
+    public boolean onCommand() {
+        return command.onCommand(sender, null, "shop", args);
+    }
+
+    @Benchmark
+    public int stringCompares() {
+        for (int group = 0; group < GROUPS; group++) {
+            if (args[0].equalsIgnoreCase("group" + group)) {
+                for (int action = 0; action < ACTIONS; action++) {
+                    if (args[1].equalsIgnoreCase("action" + action)) {
+                        return group * ACTIONS + action;
+                    }
+                }
+            }
+        }
+        return -1;
+    }
+
+}
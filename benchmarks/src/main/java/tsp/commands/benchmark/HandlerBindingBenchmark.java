@@ -0,0 +1,111 @@
+package tsp.commands.benchmark;
+
+import org.bukkit.command.CommandSender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tsp.commands.command.annotation.Arg;
+import tsp.commands.command.annotation.Command;
+import tsp.commands.command.annotation.CommandScanner;
+import tsp.commands.command.annotation.Flag;
+import tsp.commands.command.annotation.HandlerBinding;
+import tsp.commands.command.annotation.Subcommand;
+import tsp.commands.command.bukkit.AbstractBukkitCommand;
+import tsp.commands.command.bukkit.BukkitCommandContext;
+import tsp.commands.command.flag.FlagSpec;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dispatch of the same scanned command set through each {@link HandlerBinding},
+ * against a hand-written command calling the handlers directly.
+ *
+ * @author TheSilentPro (Silent)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HandlerBindingBenchmark {
+
+    private static final FlagSpec FLAGS = FlagSpec.builder().flag("silent", 's').build();
+
+    @Param({"REFLECTION", "METHOD_HANDLE", "LAMBDA"})
+    public HandlerBinding binding;
+
+    private Handlers handlers;
+    private AbstractBukkitCommand scanned;
+    private BenchmarkCommand direct;
+    private CommandSender sender;
+    private String[] give;
+    private String[] price;
+
+    @Setup
+    public void setup() {
+        handlers = new Handlers();
+        scanned = CommandScanner.scan(handlers, binding);
+        scanned.compileTree();
+        direct = new BenchmarkCommand("shop", root -> {
+            root.literal("give", node -> node.argument("item", String.class, item -> item.argument("amount", int.class, amount -> amount.executes(ctx -> {
+                String[] args = ctx.flags().positional();
+                handlers.give(ctx, args[1], Integer.parseInt(args[2]), ctx.hasFlag("silent"));
+            }))));
+            root.literal("price", node -> node.argument("item", String.class, item -> item.executes(ctx -> handlers.price(ctx, ctx.flags().positional()[1]))));
+        }, ctx -> {}) {
+            @Override
+            public FlagSpec getFlagSpec() {
+                return FLAGS;
+            }
+        };
+        direct.compileTree();
+        sender = MockSenders.player("Notch");
+        give = new String[]{"give", "diamond", "64", "-s"};
+        price = new String[]{"price", "diamond"};
+    }
+
+    @Benchmark
+    public long scannedGive() {
+        scanned.dispatch(new BukkitCommandContext<>(sender, give, scanned));
+        return handlers.total;
+    }
+
+    @Benchmark
+    public long scannedPrice() {
+        scanned.dispatch(new BukkitCommandContext<>(sender, price, scanned));
+        return handlers.total;
+    }
+
+    @Benchmark
+    public long directGive() {
+        direct.dispatch(new BukkitCommandContext<>(sender, give, direct));
+        return handlers.total;
+    }
+
+    @Command("shop")
+    public static class Handlers {
+
+        private long total;
+
+        @Subcommand("give")
+        public void give(BukkitCommandContext<CommandSender> ctx, @Arg("item") String item, @Arg("amount") int amount, @Flag(value = "silent", shortName = 's') boolean silent) {
+            total += item.length() + amount + (silent ? 1 : 0);
+        }
+
+        @Subcommand("price")
+        public void price(BukkitCommandContext<CommandSender> ctx, @Arg("item") String item) {
+            total += item.length();
+        }
+
+    }
+
+}
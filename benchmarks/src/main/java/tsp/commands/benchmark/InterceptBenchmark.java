@@ -0,0 +1,98 @@
+package tsp.commands.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tsp.commands.benchmark.CoreDispatchBenchmark.FakeCommand;
+import tsp.commands.benchmark.CoreDispatchBenchmark.FakeContext;
+import tsp.commands.benchmark.CoreDispatchBenchmark.FakeSender;
+import tsp.commands.command.intercept.Interceptor;
+import tsp.commands.command.tree.CommandNode;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Dispatch through a command, a subcommand and an argument node with one interceptor each:
+ * the chain composed when the tree was compiled, against looking the interceptors of the resolved path up per call.
+ *
+ * @author TheSilentPro (Silent)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InterceptBenchmark {
+
+    private final Map<String, List<Interceptor<FakeContext>>> registered = new HashMap<>();
+    private FakeSender sender;
+    private FakeCommand command;
+    private String[] args;
+    private long elapsed;
+
+    @Setup
+    public void setup() {
+        Interceptor<FakeContext> named = Interceptor.before(ctx -> ctx.sender().getName() != null);
+        Interceptor<FakeContext> timed = Interceptor.timed((ctx, nanos) -> elapsed += nanos);
+        Interceptor<FakeContext> counted = Interceptor.after(ctx -> ctx.sender().received++);
+        registered.put("shop", List.of(named));
+        registered.put("shop give", List.of(timed));
+        registered.put("shop give <amount>", List.of(counted));
+
+        sender = new FakeSender("Notch");
+        command = new FakeCommand("shop", root -> root
+                .intercept(named)
+                .literal("give", give -> give
+                        .intercept(timed)
+                        .argument("amount", Integer.class, amount -> amount
+                                .intercept(counted)
+                                .executes(ctx -> ctx.sender().received++))));
+        command.compileTree();
+        args = new String[]{"give", "64"};
+    }
+
+    @Benchmark
+    public int compiled() {
+        command.dispatch(new FakeContext(sender, command, args));
+        return sender.received;
+    }
+
+    @Benchmark
+    public int resolved() {
+        FakeContext ctx = new FakeContext(sender, command, args);
+        List<Interceptor<FakeContext>> interceptors = new ArrayList<>(registered.get(command.getName()));
+        CommandNode<FakeContext> node = command.getTree().getRoot();
+        for (String arg : args) {
+            node = node.child(arg);
+            List<Interceptor<FakeContext>> own = registered.get(node.getPath());
+            if (own != null) {
+                interceptors.addAll(own);
+            }
+        }
+
+        proceed(ctx, interceptors, 0, c -> c.sender().received++);
+        return sender.received;
+    }
+
+    private static void proceed(FakeContext ctx, List<Interceptor<FakeContext>> interceptors, int index, Consumer<FakeContext> handler) {
+        if (index == interceptors.size()) {
+            handler.accept(ctx);
+        } else {
+            interceptors.get(index).intercept(ctx, next -> proceed(next, interceptors, index + 1, handler));
+        }
+    }
+
+}
@@ -0,0 +1,79 @@
+package tsp.commands.benchmark;
+
+import net.md_5.bungee.api.chat.BaseComponent;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+
+import java.lang.reflect.Proxy;
+import java.util.UUID;
+
+/**
+ * Mock {@link CommandSender senders} for running the pipeline without a server.
+ * Backed by dynamic proxies so they do not break when the api adds methods.
+ * Every permission is granted, no sender is op and messages are discarded.
+ *
+ * @author TheSilentPro (Silent)
+ */
+public final class MockSenders {
+
+    /**
+     * Discards chat components, also returned where a {@link CommandSender.Spigot} is expected.
+     */
+    private static final Player.Spigot SPIGOT = new Player.Spigot() {
+        @Override
+        public void sendMessage(BaseComponent component) {}
+
+        @Override
+        public void sendMessage(BaseComponent... components) {}
+    };
+
+    private MockSenders() {}
+
+    public static CommandSender console() {
+        return create(CommandSender.class, "CONSOLE", null);
+    }
+
+    public static Player player(String name) {
+        return create(Player.class, name, UUID.nameUUIDFromBytes(name.getBytes()));
+    }
+
+    private static <T extends CommandSender> T create(Class<T> type, String name, UUID uniqueId) {
+        Object sender = Proxy.newProxyInstance(MockSenders.class.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getName":
+                    return name;
+                case "getUniqueId":
+                    return uniqueId;
+                case "spigot":
+                    return SPIGOT;
+                case "hasPermission":
+                case "isOnline":
+                    return true;
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                case "toString":
+                    return "MockSender{" + name + "}";
+                default:
+                    return defaultValue(method.getReturnType());
+            }
+        });
+        return type.cast(sender);
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        } else if (type == int.class || type == short.class || type == byte.class || type == char.class) {
+            return 0;
+        } else if (type == long.class) {
+            return 0L;
+        } else if (type == double.class || type == float.class) {
+            return 0D;
+        } else {
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,140 @@
+package tsp.commands.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tsp.commands.benchmark.CoreDispatchBenchmark.FakeCommand;
+import tsp.commands.command.permission.PermissionFingerprint;
+import tsp.commands.command.permission.PermissionIndex;
+import tsp.commands.command.tree.CommandNode;
+import tsp.commands.command.tree.CommandTree;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * A login wave of 500 players across 5 ranks receiving 200 commands with 3 guarded subcommands each:
+ * every player walking every tree against their permissions, against one fingerprint per player
+ * and one filtered tree per rank and command.
+ *
+ * @author TheSilentPro (Silent)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PermissionFilterBenchmark {
+
+    private static final int COMMANDS = 200;
+    private static final int RANKS = 5;
+    private static final int PLAYERS = 500;
+
+    private final List<CommandTree<?>> trees = new ArrayList<>(COMMANDS);
+    private final List<String> permissions = new ArrayList<>(COMMANDS);
+    private final List<Predicate<String>> players = new ArrayList<>(PLAYERS);
+    private PermissionIndex index;
+
+    @Setup
+    public void setup() {
+        for (int i = 0; i < COMMANDS; i++) {
+            String name = "cmd" + i;
+            FakeCommand command = new FakeCommand(name, root -> root
+                    .literal("list", list -> list.permission(name + ".list").executes(ctx -> {}))
+                    .literal("edit", edit -> edit.permission(name + ".edit")
+                            .argument("value", Integer.class, value -> value.executes(ctx -> {})))
+                    .literal("admin", admin -> admin.permission(name + ".admin").executes(ctx -> {})));
+            trees.add(command.compileTree());
+            permissions.add(name);
+        }
+
+        List<Set<String>> ranks = new ArrayList<>(RANKS);
+        for (int rank = 0; rank < RANKS; rank++) {
+            Set<String> granted = new HashSet<>();
+            for (int i = 0; i < COMMANDS; i++) {
+                // Higher ranks see more commands and more of their subcommands.
+                if (i % RANKS <= rank) {
+                    granted.add("cmd" + i);
+                    granted.add("cmd" + i + ".list");
+                    if (rank >= 2) {
+                        granted.add("cmd" + i + ".edit");
+                    }
+                    if (rank == RANKS - 1) {
+                        granted.add("cmd" + i + ".admin");
+                    }
+                }
+            }
+            ranks.add(granted);
+        }
+        for (int i = 0; i < PLAYERS; i++) {
+            players.add(ranks.get(i % RANKS)::contains);
+        }
+    }
+
+    /**
+     * A fresh index per wave, so filtered trees are rebuilt instead of carried over from the previous invocation.
+     */
+    @Setup(Level.Invocation)
+    public void wave() {
+        index = new PermissionIndex();
+        for (int i = 0; i < COMMANDS; i++) {
+            index.register(trees.get(i), permissions.get(i));
+        }
+    }
+
+    @Benchmark
+    public int perPlayer() {
+        int visible = 0;
+        for (Predicate<String> player : players) {
+            for (int i = 0; i < COMMANDS; i++) {
+                if (player.test(permissions.get(i))) {
+                    visible += walk(trees.get(i).getRoot(), player);
+                }
+            }
+        }
+        return visible;
+    }
+
+    @Benchmark
+    public int fingerprinted() {
+        int visible = 0;
+        for (Predicate<String> player : players) {
+            PermissionFingerprint fingerprint = index.fingerprint(player);
+            for (int i = 0; i < COMMANDS; i++) {
+                visible += fingerprint.filter(trees.get(i), permissions.get(i)).size();
+            }
+        }
+        return visible;
+    }
+
+    private static int walk(CommandNode<?> node, Predicate<String> player) {
+        for (String permission : node.getPermissions()) {
+            if (!player.test(permission)) {
+                return 0;
+            }
+        }
+
+        int visible = 1;
+        for (CommandNode<?> literal : node.getLiterals().collect("", new ArrayList<>())) {
+            visible += walk(literal, player);
+        }
+        for (CommandNode<?> argument : node.getArguments()) {
+            visible += walk(argument, player);
+        }
+        return visible;
+    }
+
+}
@@ -0,0 +1,73 @@
+package tsp.commands.benchmark;
+
+import org.bukkit.command.CommandSender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tsp.commands.command.bukkit.BukkitCommandContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replying with a 40 line listing: one send per line, against a buffered context which makes a single send
+ * and a multi-line reply handed to the sender in one call. The mock sender discards messages, so this is the cost
+ * on the calling side and excludes the packets saved.
+ *
+ * @author TheSilentPro (Silent)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReplyBenchmark {
+
+    private static final int LINES = 40;
+
+    private CommandSender sender;
+    private BenchmarkCommand command;
+    private String[] lines;
+
+    @Setup
+    public void setup() {
+        sender = MockSenders.player("Notch");
+        command = new BenchmarkCommand("help", ctx -> {});
+        lines = new String[LINES];
+        for (int i = 0; i < LINES; i++) {
+            lines[i] = "§6/help " + i + " §7- Shows help page " + i;
+        }
+    }
+
+    @Benchmark
+    public Object perLine() {
+        BukkitCommandContext<CommandSender> ctx = new BukkitCommandContext<>(sender, lines, command);
+        for (String line : lines) {
+            ctx.reply(line);
+        }
+        return ctx;
+    }
+
+    @Benchmark
+    public Object buffered() {
+        BukkitCommandContext<CommandSender> ctx = new BukkitCommandContext<>(sender, lines, command);
+        ctx.buffer();
+        for (String line : lines) {
+            ctx.reply(line);
+        }
+        return ctx.unbuffer();
+    }
+
+    @Benchmark
+    public Object multiLine() {
+        return new BukkitCommandContext<>(sender, lines, command).reply(lines);
+    }
+
+}
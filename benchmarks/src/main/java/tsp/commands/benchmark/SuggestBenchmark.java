@@ -0,0 +1,102 @@
+package tsp.commands.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tsp.commands.benchmark.CoreDispatchBenchmark.FakeCommand;
+import tsp.commands.benchmark.CoreDispatchBenchmark.FakeContext;
+import tsp.commands.benchmark.CoreDispatchBenchmark.FakeSender;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * "Did you mean" for a mistyped warp among 5000: searching the compiled literal trie against comparing the input to every literal.
+ * Warp names are random, so prefixes are shared less than between real names.
+ *
+ * @author TheSilentPro (Silent)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SuggestBenchmark {
+
+    private static final int WARPS = 5000;
+
+    private final List<String> warps = new ArrayList<>(WARPS);
+    private FakeCommand command;
+    private FakeContext ctx;
+    private String typo;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        for (int i = 0; i < WARPS; i++) {
+            StringBuilder warp = new StringBuilder();
+            for (int j = 4 + random.nextInt(8); j > 0; j--) {
+                warp.append((char) ('a' + random.nextInt(26)));
+            }
+            warps.add(warp.toString());
+        }
+
+        command = new FakeCommand("warp", root -> {
+            for (String warp : warps) {
+                root.literal(warp, node -> node.executes(ctx -> {}));
+            }
+        });
+        command.compileTree();
+
+        StringBuilder typo = new StringBuilder(warps.get(WARPS / 2));
+        typo.setCharAt(1, '#');
+        this.typo = typo.toString();
+        ctx = new FakeContext(new FakeSender("Notch"), command, new String[]{this.typo});
+    }
+
+    @Benchmark
+    public List<String> indexed() {
+        return command.getTree().suggest(ctx);
+    }
+
+    @Benchmark
+    public List<String> linear() {
+        List<String> matches = new ArrayList<>();
+        for (String warp : warps) {
+            if (distance(typo, warp) <= 2) {
+                matches.add(warp);
+            }
+        }
+        return matches;
+    }
+
+    private static int distance(String a, String b) {
+        int[] previous = new int[b.length() + 1];
+        int[] row = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            row[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = Character.toLowerCase(a.charAt(i - 1)) == Character.toLowerCase(b.charAt(j - 1)) ? 0 : 1;
+                row[j] = Math.min(Math.min(row[j - 1], previous[j]) + 1, previous[j - 1] + cost);
+            }
+            int[] swap = previous;
+            previous = row;
+            row = swap;
+        }
+        return previous[b.length()];
+    }
+
+}
@@ -0,0 +1,185 @@
+package tsp.commands.command.brigadier;
+
+import com.mojang.brigadier.Command;
+import com.mojang.brigadier.arguments.ArgumentType;
+import com.mojang.brigadier.arguments.BoolArgumentType;
+import com.mojang.brigadier.arguments.DoubleArgumentType;
+import com.mojang.brigadier.arguments.FloatArgumentType;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.arguments.LongArgumentType;
+import com.mojang.brigadier.arguments.StringArgumentType;
+import com.mojang.brigadier.builder.ArgumentBuilder;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.builder.RequiredArgumentBuilder;
+import com.mojang.brigadier.suggestion.SuggestionProvider;
+import com.mojang.brigadier.tree.LiteralCommandNode;
+import tsp.commands.command.tree.CommandNode;
+import tsp.commands.command.tree.CommandTree;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiPredicate;
+
+/**
+ * Converts a compiled {@link CommandTree} into Brigadier nodes, so clients parse, validate and suggest
+ * the structure of a command locally.
+ * <p>
+ * Literals and their aliases become literal nodes. Arguments of the built-in number, boolean and string types become
+ * the matching Brigadier argument types and are validated by the client. Any other argument is exported as a single
+ * word whose suggestions are requested from the server, the only round trip left. String arguments are limited to
+ * Brigadier's unquoted characters by the client, other input is highlighted but still sent.
+ * The root and every node guarded by a permission require the source to be able to use them,
+ * so clients do not see subcommands they can not use.
+ * <p>
+ * The root accepts any trailing input, like the handler it dispatches to.
+ *
+ * @param <S> The command source of the platform.
+ * @author TheSilentPro (Silent)
+ */
+public final class BrigadierExporter<S> {
+
+    /**
+     * The name of the greedy argument accepting trailing input below the root.
+     */
+    public static final String TRAILING_ARGUMENT = "args";
+
+    private final BiPredicate<S, CommandNode<?>> canUse;
+    private final Command<S> executor;
+    @Nullable
+    private final SuggestionProvider<S> suggestions;
+
+    /**
+     * Create an exporter.
+     *
+     * @param canUse Tests whether a source can use a node, the root standing for the command itself.
+     * @param executor Executes the exported nodes, typically by handing the input back to the platform's dispatcher.
+     * @param suggestions Suggests arguments without a Brigadier type, or {@code null} to leave them without suggestions.
+     */
+    public BrigadierExporter(@Nonnull BiPredicate<S, CommandNode<?>> canUse, @Nonnull Command<S> executor, @Nullable SuggestionProvider<S> suggestions) {
+        this.canUse = Objects.requireNonNull(canUse, "canUse");
+        this.executor = Objects.requireNonNull(executor, "executor");
+        this.suggestions = suggestions;
+    }
+
+    /**
+     * Export a tree under the name of its root.
+     *
+     * @param tree The tree.
+     * @return The root literal node
+     */
+    @Nonnull
+    public LiteralCommandNode<S> export(@Nonnull CommandTree<?> tree) {
+        return export(tree, tree.getRoot().getName());
+    }
+
+    /**
+     * Export a tree under a label, e.g. an alias or a namespaced label of the command.
+     *
+     * @param tree The tree.
+     * @param label The label.
+     * @return The root literal node
+     */
+    @Nonnull
+    public LiteralCommandNode<S> export(@Nonnull CommandTree<?> tree, @Nonnull String label) {
+        LiteralArgumentBuilder<S> root = LiteralArgumentBuilder.literal(label);
+        // The root stands for the command itself, whose permission is not part of the tree.
+        apply(root, tree.getRoot(), -1);
+        root.then(RequiredArgumentBuilder.<S, String>argument(TRAILING_ARGUMENT, StringArgumentType.greedyString()).executes(executor));
+        return root.build();
+    }
+
+    /**
+     * The Brigadier type validating an argument type on the client.
+     *
+     * @param type The argument type.
+     * @return The Brigadier type, or {@code null} if there is none and the argument must be suggested by the server.
+     */
+    @Nullable
+    public static ArgumentType<?> argumentType(@Nonnull Class<?> type) {
+        if (type == String.class) {
+            return StringArgumentType.word();
+        } else if (type == Integer.class || type == int.class) {
+            return IntegerArgumentType.integer();
+        } else if (type == Long.class || type == long.class) {
+            return LongArgumentType.longArg();
+        } else if (type == Double.class || type == double.class) {
+            return DoubleArgumentType.doubleArg();
+        } else if (type == Float.class || type == float.class) {
+            return FloatArgumentType.floatArg();
+        } else if (type == Boolean.class || type == boolean.class) {
+            return BoolArgumentType.bool();
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * @param inherited The number of permissions of the parent node, the node's own permissions start with those.
+     */
+    private void apply(ArgumentBuilder<S, ?> builder, CommandNode<?> node, int inherited) {
+        // Brigadier does not descend into nodes the source can not use, so only nodes adding a permission are tested.
+        int permissions = node.getPermissions().length;
+        if (permissions > inherited) {
+            builder.requires(source -> canUse.test(source, node));
+        }
+        if (node.isExecutable()) {
+            builder.executes(executor);
+        }
+
+        for (CommandNode<?> literal : literals(node)) {
+            builder.then(literal(literal, literal.getName(), permissions));
+            for (String alias : literal.getAliases()) {
+                // Brigadier has no aliases, a redirect would not be executable itself.
+                builder.then(literal(literal, alias, permissions));
+            }
+        }
+        for (CommandNode<?> argument : node.getArguments()) {
+            builder.then(argument(argument, permissions));
+        }
+    }
+
+    private LiteralArgumentBuilder<S> literal(CommandNode<?> node, String name, int inherited) {
+        LiteralArgumentBuilder<S> builder = LiteralArgumentBuilder.literal(name);
+        apply(builder, node, inherited);
+        return builder;
+    }
+
+    private RequiredArgumentBuilder<S, ?> argument(CommandNode<?> node, int inherited) {
+        ArgumentType<?> type = node.getType() != null ? argumentType(node.getType()) : null;
+        RequiredArgumentBuilder<S, ?> builder;
+        if (type != null) {
+            builder = RequiredArgumentBuilder.argument(node.getName(), type);
+        } else {
+            RequiredArgumentBuilder<S, String> word = RequiredArgumentBuilder.argument(node.getName(), StringArgumentType.word());
+            builder = suggestions != null ? word.suggests(suggestions) : word;
+        }
+        apply(builder, node, inherited);
+        return builder;
+    }
+
+    /**
+     * The distinct literal children of a node, the trie holding each under its name and every alias.
+     */
+    private static List<CommandNode<?>> literals(CommandNode<?> node) {
+        if (node.getLiterals().isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<? extends CommandNode<?>> entries = node.getLiterals().collect("", new ArrayList<>());
+        Set<CommandNode<?>> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<CommandNode<?>> literals = new ArrayList<>(entries.size());
+        for (CommandNode<?> entry : entries) {
+            if (seen.add(entry)) {
+                literals.add(entry);
+            }
+        }
+        return literals;
+    }
+
+}
@@ -0,0 +1,24 @@
+package tsp.commands.command.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Binds a {@link Subcommand} parameter to a positional argument, parsed by the parser registered for the parameter type.
+ *
+ * @author TheSilentPro (Silent)
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.PARAMETER)
+public @interface Arg {
+
+    /**
+     * @return The name of the argument, shown in usage.
+     */
+    String value();
+
+}
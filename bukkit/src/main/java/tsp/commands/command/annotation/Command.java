@@ -0,0 +1,36 @@
+package tsp.commands.command.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares a command whose handlers are the {@link Subcommand} methods of the annotated class.
+ * <p>
+ * The annotation processor generates {@code <ClassName>_Command}, a {@link tsp.commands.command.bukkit.AbstractBukkitCommand}
+ * with the dispatch tree and argument binding compiled in, so nothing is looked up reflectively at runtime.
+ *
+ * @author TheSilentPro (Silent)
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Command {
+
+    /**
+     * @return The name of the command.
+     */
+    String value();
+
+    String[] aliases() default {};
+
+    String description() default "";
+
+    /**
+     * @return The message sent when the sender lacks a permission, empty for none.
+     */
+    String permissionMessage() default "";
+
+}
@@ -0,0 +1,387 @@
+package tsp.commands.command.annotation;
+
+import org.bukkit.command.CommandSender;
+import tsp.commands.command.bukkit.AbstractBukkitCommand;
+import tsp.commands.command.bukkit.BukkitCommandContext;
+import tsp.commands.command.flag.FlagSpec;
+import tsp.commands.command.parser.ArgumentParser;
+import tsp.commands.command.tree.CommandNodeBuilder;
+
+import javax.annotation.Nonnull;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Builds commands from {@link Command} classes at runtime, for builds that cannot run the annotation processor.
+ * <p>
+ * The class is scanned once, when the command is created. Handler methods are bound according to a {@link HandlerBinding},
+ * by default through {@link java.lang.invoke.LambdaMetafactory}, so dispatch costs the same as a hand-written call.
+ *
+ * @author TheSilentPro (Silent)
+ */
+public final class CommandScanner {
+
+    private CommandScanner() {}
+
+    /**
+     * Create a command from an instance of a {@link Command} class, binding its handlers through lambdas.
+     *
+     * @param handler The instance whose {@link Subcommand} methods handle the command.
+     * @return Command
+     * @throws IllegalArgumentException If the class is not a valid command.
+     */
+    @Nonnull
+    public static AbstractBukkitCommand scan(@Nonnull Object handler) {
+        return scan(handler, HandlerBinding.LAMBDA);
+    }
+
+    /**
+     * Create a command from an instance of a {@link Command} class.
+     *
+     * @param handler The instance whose {@link Subcommand} methods handle the command.
+     * @param binding How handler methods are invoked.
+     * @return Command
+     * @throws IllegalArgumentException If the class is not a valid command.
+     */
+    @Nonnull
+    public static AbstractBukkitCommand scan(@Nonnull Object handler, @Nonnull HandlerBinding binding) {
+        Class<?> type = handler.getClass();
+        Command command = type.getAnnotation(Command.class);
+        if (command == null) {
+            throw new IllegalArgumentException(type.getName() + " is not annotated with @Command");
+        }
+
+        MethodHandles.Lookup lookup;
+        try {
+            lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+        } catch (IllegalAccessException ex) {
+            throw new IllegalArgumentException("No access to " + type.getName(), ex);
+        }
+
+        ScannedCommand scanned = new ScannedCommand(command, type.getAnnotation(Permission.class), handler, binding, lookup);
+        for (Method method : type.getDeclaredMethods()) {
+            Subcommand subcommand = method.getAnnotation(Subcommand.class);
+            if (subcommand != null) {
+                scanned.read(method, subcommand);
+            }
+        }
+        if (scanned.usage.isEmpty()) {
+            throw new IllegalArgumentException(type.getName() + " declares no @Subcommand methods");
+        }
+        return scanned;
+    }
+
+    private static final class ScannedCommand extends AbstractBukkitCommand {
+
+        private final Object target;
+        private final HandlerBinding binding;
+        private final MethodHandles.Lookup lookup;
+        private final Optional<String> description;
+        private final Node root = new Node(null, null);
+        private final Map<String, Boolean> flags = new LinkedHashMap<>();
+        private final Map<String, Character> shortNames = new LinkedHashMap<>();
+        private final List<String> usage = new ArrayList<>();
+        private FlagSpec flagSpec = FlagSpec.none();
+        private String[] usageLines;
+        private volatile Consumer<BukkitCommandContext<CommandSender>> rootExecutor;
+
+        private ScannedCommand(Command command, Permission permission, Object target, HandlerBinding binding, MethodHandles.Lookup lookup) {
+            super(permission != null ? permission.value() : null, emptyToNull(command.permissionMessage()), command.value(), command.aliases());
+            this.target = target;
+            this.binding = binding;
+            this.lookup = lookup;
+            this.description = Optional.ofNullable(emptyToNull(command.description()));
+        }
+
+        @Override
+        public Optional<String> getDescription() {
+            return description;
+        }
+
+        @Override
+        public FlagSpec getFlagSpec() {
+            return flagSpec;
+        }
+
+        @Override
+        public void handle(BukkitCommandContext<CommandSender> ctx) {
+            Consumer<BukkitCommandContext<CommandSender>> executor = rootExecutor;
+            if (executor != null) {
+                executor.accept(ctx);
+            } else {
+                didYouMean(ctx).ifPresent(ctx::reply);
+                ctx.reply(usageLines);
+            }
+        }
+
+        @Override
+        public void tree(CommandNodeBuilder<BukkitCommandContext<CommandSender>> builder) {
+            usageLines = usage.toArray(new String[0]);
+            if (root.handler != null) {
+                rootExecutor = executor(root.handler);
+            }
+            build(builder, root);
+        }
+
+        private void read(Method method, Subcommand subcommand) {
+            String signature = method.getDeclaringClass().getName() + "#" + method.getName();
+            Parameter[] parameters = method.getParameters();
+            if (parameters.length == 0 || !parameters[0].getType().isAssignableFrom(BukkitCommandContext.class)) {
+                throw new IllegalArgumentException("The first parameter of " + signature + " must accept a BukkitCommandContext");
+            }
+
+            Node node = root;
+            StringBuilder line = new StringBuilder("/").append(getName());
+            int index = 0;
+            String path = subcommand.value().trim();
+            if (!path.isEmpty()) {
+                for (String literal : path.split("\\s+")) {
+                    node = node.child("literal " + literal.toLowerCase(Locale.ROOT), literal, null);
+                    line.append(' ').append(literal);
+                    index++;
+                }
+                if (subcommand.aliases().length > 0) {
+                    node.aliases = subcommand.aliases();
+                }
+            }
+
+            List<Binding> bindings = new ArrayList<>();
+            bindings.add(new Binding(Kind.CONTEXT, null, null, 0));
+            for (int i = 1; i < parameters.length; i++) {
+                Parameter parameter = parameters[i];
+                Class<?> type = parameter.getType();
+                Flag flag = parameter.getAnnotation(Flag.class);
+                if (flag != null) {
+                    bindings.add(readFlag(signature, flag, type));
+                    continue;
+                }
+
+                Arg arg = parameter.getAnnotation(Arg.class);
+                String name = arg != null ? arg.value() : parameter.getName();
+                node = node.child("argument " + name + " " + type.getName(), name, type);
+                bindings.add(new Binding(Kind.ARGUMENT, name, type, index++));
+                line.append(" <").append(name).append('>');
+            }
+
+            if (node.handler != null) {
+                throw new IllegalArgumentException(signature + " handles " + line + " which is already handled by " + node.handler.method.getName());
+            }
+            Permission permission = method.getAnnotation(Permission.class);
+            if (permission != null && node == root) {
+                throw new IllegalArgumentException("Use @Permission on the class of " + signature + " to require a permission for the command itself");
+            }
+
+            node.handler = new Handler(method, bindings);
+            node.description = emptyToNull(subcommand.description());
+            node.permission = permission != null ? permission.value() : null;
+            usage.add(line.toString());
+        }
+
+        private Binding readFlag(String signature, Flag flag, Class<?> type) {
+            boolean takesValue = type != boolean.class;
+            if (takesValue && type.isPrimitive()) {
+                throw new IllegalArgumentException("Flag --" + flag.value() + " of " + signature + " is null when absent, use the boxed type");
+            }
+
+            Boolean declared = flags.putIfAbsent(flag.value(), takesValue);
+            if (declared != null && declared != takesValue) {
+                throw new IllegalArgumentException("Flag --" + flag.value() + " is declared both with and without a value");
+            }
+            if (flag.shortName() != '\0') {
+                for (Map.Entry<String, Character> entry : shortNames.entrySet()) {
+                    if (entry.getValue() == flag.shortName() && !entry.getKey().equals(flag.value())) {
+                        throw new IllegalArgumentException("Short name -" + flag.shortName() + " is already used by --" + entry.getKey());
+                    }
+                }
+                shortNames.put(flag.value(), flag.shortName());
+            }
+
+            FlagSpec.Builder spec = FlagSpec.builder();
+            for (Map.Entry<String, Boolean> entry : flags.entrySet()) {
+                Character shortName = shortNames.get(entry.getKey());
+                if (entry.getValue()) {
+                    if (shortName != null) spec.option(entry.getKey(), shortName); else spec.option(entry.getKey());
+                } else {
+                    if (shortName != null) spec.flag(entry.getKey(), shortName); else spec.flag(entry.getKey());
+                }
+            }
+            flagSpec = spec.build();
+            return new Binding(takesValue ? Kind.OPTION : Kind.FLAG, flag.value(), type, -1);
+        }
+
+        private void build(CommandNodeBuilder<BukkitCommandContext<CommandSender>> builder, Node node) {
+            for (Node child : node.children.values()) {
+                Consumer<CommandNodeBuilder<BukkitCommandContext<CommandSender>>> spec = childBuilder -> {
+                    childBuilder.aliases(child.aliases);
+                    childBuilder.description(child.description);
+                    childBuilder.permission(child.permission);
+                    if (child.handler != null) {
+                        childBuilder.executes(executor(child.handler));
+                    }
+                    build(childBuilder, child);
+                };
+                if (child.type == null) {
+                    builder.literal(child.name, spec);
+                } else {
+                    builder.argument(child.name, child.type, spec);
+                }
+            }
+        }
+
+        private Consumer<BukkitCommandContext<CommandSender>> executor(Handler handler) {
+            List<ParameterBinder<BukkitCommandContext<CommandSender>>> binders = new ArrayList<>();
+            for (Binding parameter : handler.bindings) {
+                binders.add(binder(parameter));
+            }
+            Function<BukkitCommandContext<CommandSender>, String[]> arguments = flags.isEmpty()
+                    ? BukkitCommandContext::rawArgs
+                    : ctx -> ctx.flags().positional();
+
+            Method method = handler.method;
+            boolean isStatic = Modifier.isStatic(method.getModifiers());
+            if (binding == HandlerBinding.REFLECTION) {
+                return reflective(method, isStatic ? null : target, toArray(binders), arguments);
+            }
+
+            MethodHandle handle;
+            try {
+                handle = lookup.unreflect(method);
+            } catch (IllegalAccessException ex) {
+                throw new IllegalArgumentException("No access to " + method, ex);
+            }
+            if (!isStatic) {
+                binders.add(0, (ctx, args) -> target);
+            }
+            if (binding == HandlerBinding.LAMBDA && binders.size() <= Invokers.MAX_ARITY) {
+                try {
+                    return Invokers.bind(lookup, handle, toArray(binders), arguments);
+                } catch (IllegalStateException ex) {
+                    // The lookup lacks full privilege access when the handler's class is loaded by another plugin.
+                }
+            }
+            return spread(handle, toArray(binders), arguments);
+        }
+
+        private ParameterBinder<BukkitCommandContext<CommandSender>> binder(Binding parameter) {
+            String name = parameter.name;
+            Class<?> type = parameter.type;
+            return switch (parameter.kind) {
+                case CONTEXT -> (ctx, args) -> ctx;
+                case FLAG -> (ctx, args) -> ctx.hasFlag(name);
+                case OPTION -> (ctx, args) -> ctx.flag(name, type).orElse(null);
+                case ARGUMENT -> {
+                    ArgumentParser<?> parser = getParsers().require(type);
+                    int index = parameter.index;
+                    yield (ctx, args) -> parser.parse(args[index]);
+                }
+            };
+        }
+
+    }
+
+    private static <C> Consumer<C> reflective(Method method, Object target, ParameterBinder<C>[] binders, Function<C, String[]> arguments) {
+        method.setAccessible(true);
+        return ctx -> {
+            String[] args = arguments.apply(ctx);
+            Object[] values = new Object[binders.length];
+            for (int i = 0; i < binders.length; i++) {
+                values[i] = binders[i].bind(ctx, args);
+            }
+            try {
+                method.invoke(target, values);
+            } catch (InvocationTargetException ex) {
+                throw rethrow(ex.getCause());
+            } catch (IllegalAccessException ex) {
+                throw new IllegalStateException(ex);
+            }
+        };
+    }
+
+    private static <C> Consumer<C> spread(MethodHandle handle, ParameterBinder<C>[] binders, Function<C, String[]> arguments) {
+        MethodHandle spread = handle.asSpreader(Object[].class, binders.length)
+                .asType(MethodType.methodType(void.class, Object[].class));
+        return ctx -> {
+            String[] args = arguments.apply(ctx);
+            Object[] values = new Object[binders.length];
+            for (int i = 0; i < binders.length; i++) {
+                values[i] = binders[i].bind(ctx, args);
+            }
+            try {
+                spread.invokeExact(values);
+            } catch (Throwable ex) {
+                throw rethrow(ex);
+            }
+        };
+    }
+
+    private static RuntimeException rethrow(Throwable ex) {
+        if (ex instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        if (ex instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(ex);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <C> ParameterBinder<C>[] toArray(List<ParameterBinder<C>> binders) {
+        return binders.toArray(new ParameterBinder[0]);
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * A node of the scanned tree, a literal when {@code type} is {@code null}.
+     */
+    private static final class Node {
+
+        private final String name;
+        private final Class<?> type;
+        private final Map<String, Node> children = new LinkedHashMap<>();
+        private String[] aliases = new String[0];
+        private String description;
+        private String permission;
+        private Handler handler;
+
+        private Node(String name, Class<?> type) {
+            this.name = name;
+            this.type = type;
+        }
+
+        private Node child(String key, String name, Class<?> type) {
+            return children.computeIfAbsent(key, k -> new Node(name, type));
+        }
+
+    }
+
+    private record Handler(Method method, List<Binding> bindings) {}
+
+    /**
+     * Where a handler parameter takes its value from.
+     */
+    private record Binding(Kind kind, String name, Class<?> type, int index) {}
+
+    private enum Kind {
+        CONTEXT,
+        ARGUMENT,
+        FLAG,
+        OPTION
+    }
+
+}
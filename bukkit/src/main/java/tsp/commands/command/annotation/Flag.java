@@ -0,0 +1,32 @@
+package tsp.commands.command.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Binds a {@link Subcommand} parameter to a flag.
+ * A {@code boolean} parameter is a boolean flag, any other type is an option whose value is parsed,
+ * or {@code null} when absent, so it must not be primitive.
+ *
+ * @see tsp.commands.command.flag.FlagSpec
+ * @author TheSilentPro (Silent)
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.PARAMETER)
+public @interface Flag {
+
+    /**
+     * @return The long name of the flag.
+     */
+    String value();
+
+    /**
+     * @return The short name of the flag, {@code '\0'} for none.
+     */
+    char shortName() default '\0';
+
+}
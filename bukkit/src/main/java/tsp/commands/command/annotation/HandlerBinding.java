@@ -0,0 +1,26 @@
+package tsp.commands.command.annotation;
+
+/**
+ * How {@link CommandScanner} invokes handler methods.
+ *
+ * @author TheSilentPro (Silent)
+ */
+public enum HandlerBinding {
+
+    /**
+     * {@link java.lang.reflect.Method#invoke(Object, Object...)}, boxing every argument into an array.
+     */
+    REFLECTION,
+    /**
+     * A spread {@link java.lang.invoke.MethodHandle} held in a field, which the JIT cannot treat as a constant.
+     */
+    METHOD_HANDLE,
+    /**
+     * A functional interface implemented through {@link java.lang.invoke.LambdaMetafactory}, invoked like a hand-written call.
+     * Handlers with more than {@link Invokers#MAX_ARITY} arguments, including the receiver, fall back to {@link #METHOD_HANDLE},
+     * as do handlers whose class is loaded by another class loader, e.g. of a plugin depending on this library as a separate plugin,
+     * which does not grant the full privilege access the lambda needs.
+     */
+    LAMBDA
+
+}
@@ -0,0 +1,162 @@
+package tsp.commands.command.annotation;
+
+import javax.annotation.Nonnull;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Fixed arity functional interfaces implemented through {@link LambdaMetafactory} by {@link CommandScanner},
+ * so a bound handler is invoked like a hand-written call, without an argument array or reflective dispatch.
+ * <p>
+ * The interfaces are public only because the generated lambdas live in the handler's class loader and must be able to implement them.
+ *
+ * @author TheSilentPro (Silent)
+ */
+public final class Invokers {
+
+    /**
+     * The largest number of invocation arguments, including the receiver, that can be bound through a lambda.
+     */
+    static final int MAX_ARITY = 8;
+
+    private Invokers() {}
+
+    @FunctionalInterface
+    public interface Invoker1 {
+        void invoke(Object a1);
+    }
+
+    @FunctionalInterface
+    public interface Invoker2 {
+        void invoke(Object a1, Object a2);
+    }
+
+    @FunctionalInterface
+    public interface Invoker3 {
+        void invoke(Object a1, Object a2, Object a3);
+    }
+
+    @FunctionalInterface
+    public interface Invoker4 {
+        void invoke(Object a1, Object a2, Object a3, Object a4);
+    }
+
+    @FunctionalInterface
+    public interface Invoker5 {
+        void invoke(Object a1, Object a2, Object a3, Object a4, Object a5);
+    }
+
+    @FunctionalInterface
+    public interface Invoker6 {
+        void invoke(Object a1, Object a2, Object a3, Object a4, Object a5, Object a6);
+    }
+
+    @FunctionalInterface
+    public interface Invoker7 {
+        void invoke(Object a1, Object a2, Object a3, Object a4, Object a5, Object a6, Object a7);
+    }
+
+    @FunctionalInterface
+    public interface Invoker8 {
+        void invoke(Object a1, Object a2, Object a3, Object a4, Object a5, Object a6, Object a7, Object a8);
+    }
+
+    /**
+     * Bind a handler through a generated lambda of matching arity.
+     *
+     * @param lookup A lookup with access to the handler method.
+     * @param handle The direct handle of the handler method, the receiver bound through the first parameter if it is virtual.
+     * @param parameters The binder of every invocation argument, including the receiver.
+     * @param arguments Extracts the positional arguments from a context.
+     * @return The executor.
+     * @throws IllegalArgumentException If there are more than {@link #MAX_ARITY} parameters.
+     * @throws IllegalStateException If the lambda can not be generated, e.g. the lookup lacks full privilege access.
+     */
+    @Nonnull
+    static <C> Consumer<C> bind(@Nonnull MethodHandles.Lookup lookup, @Nonnull MethodHandle handle,
+                                @Nonnull ParameterBinder<C>[] parameters, @Nonnull Function<C, String[]> arguments) {
+        ParameterBinder<C>[] p = parameters;
+        return switch (p.length) {
+            case 1 -> {
+                Invoker1 invoker = (Invoker1) create(lookup, handle, Invoker1.class, 1);
+                yield ctx -> {
+                    String[] args = arguments.apply(ctx);
+                    invoker.invoke(p[0].bind(ctx, args));
+                };
+            }
+            case 2 -> {
+                Invoker2 invoker = (Invoker2) create(lookup, handle, Invoker2.class, 2);
+                yield ctx -> {
+                    String[] args = arguments.apply(ctx);
+                    invoker.invoke(p[0].bind(ctx, args), p[1].bind(ctx, args));
+                };
+            }
+            case 3 -> {
+                Invoker3 invoker = (Invoker3) create(lookup, handle, Invoker3.class, 3);
+                yield ctx -> {
+                    String[] args = arguments.apply(ctx);
+                    invoker.invoke(p[0].bind(ctx, args), p[1].bind(ctx, args), p[2].bind(ctx, args));
+                };
+            }
+            case 4 -> {
+                Invoker4 invoker = (Invoker4) create(lookup, handle, Invoker4.class, 4);
+                yield ctx -> {
+                    String[] args = arguments.apply(ctx);
+                    invoker.invoke(p[0].bind(ctx, args), p[1].bind(ctx, args), p[2].bind(ctx, args), p[3].bind(ctx, args));
+                };
+            }
+            case 5 -> {
+                Invoker5 invoker = (Invoker5) create(lookup, handle, Invoker5.class, 5);
+                yield ctx -> {
+                    String[] args = arguments.apply(ctx);
+                    invoker.invoke(p[0].bind(ctx, args), p[1].bind(ctx, args), p[2].bind(ctx, args), p[3].bind(ctx, args), p[4].bind(ctx, args));
+                };
+            }
+            case 6 -> {
+                Invoker6 invoker = (Invoker6) create(lookup, handle, Invoker6.class, 6);
+                yield ctx -> {
+                    String[] args = arguments.apply(ctx);
+                    invoker.invoke(p[0].bind(ctx, args), p[1].bind(ctx, args), p[2].bind(ctx, args), p[3].bind(ctx, args), p[4].bind(ctx, args), p[5].bind(ctx, args));
+                };
+            }
+            case 7 -> {
+                Invoker7 invoker = (Invoker7) create(lookup, handle, Invoker7.class, 7);
+                yield ctx -> {
+                    String[] args = arguments.apply(ctx);
+                    invoker.invoke(p[0].bind(ctx, args), p[1].bind(ctx, args), p[2].bind(ctx, args), p[3].bind(ctx, args), p[4].bind(ctx, args), p[5].bind(ctx, args), p[6].bind(ctx, args));
+                };
+            }
+            case 8 -> {
+                Invoker8 invoker = (Invoker8) create(lookup, handle, Invoker8.class, 8);
+                yield ctx -> {
+                    String[] args = arguments.apply(ctx);
+                    invoker.invoke(p[0].bind(ctx, args), p[1].bind(ctx, args), p[2].bind(ctx, args), p[3].bind(ctx, args), p[4].bind(ctx, args), p[5].bind(ctx, args), p[6].bind(ctx, args), p[7].bind(ctx, args));
+                };
+            }
+            default -> throw new IllegalArgumentException("Handlers bound through a lambda take at most " + MAX_ARITY + " arguments, including the receiver");
+        };
+    }
+
+    private static Object create(MethodHandles.Lookup lookup, MethodHandle handle, Class<?> type, int arity) {
+        MethodType erased = MethodType.genericMethodType(arity).changeReturnType(void.class);
+        try {
+            CallSite site = LambdaMetafactory.metafactory(
+                    lookup,
+                    "invoke",
+                    MethodType.methodType(type),
+                    erased,
+                    handle,
+                    handle.type().wrap().changeReturnType(void.class)
+            );
+            return site.getTarget().invoke();
+        } catch (Throwable ex) {
+            throw new IllegalStateException("Failed to bind " + handle + " through a lambda", ex);
+        }
+    }
+
+}
@@ -0,0 +1,19 @@
+package tsp.commands.command.annotation;
+
+/**
+ * Computes one invocation argument of a handler bound by {@link CommandScanner}.
+ *
+ * @param <C> Type of context.
+ * @author TheSilentPro (Silent)
+ */
+@FunctionalInterface
+interface ParameterBinder<C> {
+
+    /**
+     * @param ctx The context.
+     * @param args The positional arguments of the context.
+     * @return The argument, boxed if the parameter is primitive.
+     */
+    Object bind(C ctx, String[] args);
+
+}
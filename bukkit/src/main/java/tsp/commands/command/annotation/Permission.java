@@ -0,0 +1,22 @@
+package tsp.commands.command.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Requires a permission. On a {@link Command} class it is the command's permission,
+ * on a {@link Subcommand} method it is required in addition.
+ *
+ * @author TheSilentPro (Silent)
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface Permission {
+
+    String value();
+
+}
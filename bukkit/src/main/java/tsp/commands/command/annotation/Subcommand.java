@@ -0,0 +1,31 @@
+package tsp.commands.command.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a handler method of a {@link Command}.
+ * <p>
+ * The first parameter receives the context and must accept a {@link tsp.commands.command.bukkit.BukkitCommandContext},
+ * the remaining parameters are bound from {@link Arg arguments} following the path, in order, and {@link Flag flags}.
+ *
+ * @author TheSilentPro (Silent)
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Subcommand {
+
+    /**
+     * @return The literal path, e.g. {@code "price set"}, empty for the command itself.
+     */
+    String value() default "";
+
+    String[] aliases() default {};
+
+    String description() default "";
+
+}
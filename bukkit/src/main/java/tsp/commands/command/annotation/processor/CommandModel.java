@@ -0,0 +1,301 @@
+package tsp.commands.command.annotation.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A validated {@link tsp.commands.command.annotation.Command} and the source generated for it.
+ *
+ * @author TheSilentPro (Silent)
+ */
+final class CommandModel {
+
+    static final String CONTEXT = "tsp.commands.command.bukkit.BukkitCommandContext<org.bukkit.command.CommandSender>";
+
+    final String packageName;
+    final String className;
+    final String handlerType;
+    final boolean instantiable;
+    final String name;
+    final String[] aliases;
+    final String description;
+    final String permission;
+    final String permissionMessage;
+    final Node root = new Node(null, null);
+    final Map<String, Boolean> flags = new LinkedHashMap<>();
+    final Map<String, Character> shortNames = new LinkedHashMap<>();
+    final Map<String, String> parsers = new LinkedHashMap<>();
+    final List<String> usage = new ArrayList<>();
+
+    CommandModel(String packageName, String className, String handlerType, boolean instantiable,
+                 String name, String[] aliases, String description, String permission, String permissionMessage) {
+        this.packageName = packageName;
+        this.className = className;
+        this.handlerType = handlerType;
+        this.instantiable = instantiable;
+        this.name = name;
+        this.aliases = aliases;
+        this.description = description;
+        this.permission = permission;
+        this.permissionMessage = permissionMessage;
+    }
+
+    /**
+     * The variable holding the parser of a type in the generated tree, declared once per type.
+     */
+    String parser(String type) {
+        return parsers.computeIfAbsent(type, t -> "parser" + parsers.size());
+    }
+
+    void write(Writer out) throws IOException {
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n * Generated from {@link ").append(handlerType).append("}, do not edit.\n */\n");
+        source.append("@javax.annotation.processing.Generated(\"").append(CommandProcessor.class.getName()).append("\")\n");
+        source.append("public final class ").append(className).append(" extends tsp.commands.command.bukkit.AbstractBukkitCommand {\n\n");
+
+        if (!flags.isEmpty()) {
+            source.append("    private static final tsp.commands.command.flag.FlagSpec FLAGS = tsp.commands.command.flag.FlagSpec.builder()");
+            for (Map.Entry<String, Boolean> flag : flags.entrySet()) {
+                Character shortName = shortNames.get(flag.getKey());
+                source.append("\n            .").append(flag.getValue() ? "option" : "flag").append('(').append(quote(flag.getKey()));
+                if (shortName != null) {
+                    source.append(", '").append(shortName == '\'' || shortName == '\\' ? "\\" + shortName : String.valueOf(shortName)).append('\'');
+                }
+                source.append(')');
+            }
+            source.append("\n            .build();\n");
+        }
+        source.append("    private static final String[] USAGE = {");
+        for (int i = 0; i < usage.size(); i++) {
+            source.append(i == 0 ? "" : ", ").append(quote(usage.get(i)));
+        }
+        source.append("};\n");
+        source.append("    private static final java.util.Optional<String> DESCRIPTION = java.util.Optional.ofNullable(")
+                .append(description == null ? "null" : quote(description)).append(");\n\n");
+
+        source.append("    private final ").append(handlerType).append(" handler;\n\n");
+        source.append("    public ").append(className).append('(').append(handlerType).append(" handler) {\n");
+        source.append("        super(").append(quote(permission)).append(", ").append(quote(permissionMessage)).append(", ")
+                .append(quote(name)).append(", new String[]{");
+        for (int i = 0; i < aliases.length; i++) {
+            source.append(i == 0 ? "" : ", ").append(quote(aliases[i]));
+        }
+        source.append("});\n");
+        source.append("        this.handler = java.util.Objects.requireNonNull(handler, \"handler\");\n");
+        source.append("    }\n\n");
+        if (instantiable) {
+            source.append("    public ").append(className).append("() {\n");
+            source.append("        this(new ").append(handlerType).append("());\n");
+            source.append("    }\n\n");
+        }
+
+        source.append("    @Override\n");
+        source.append("    public java.util.Optional<String> getDescription() {\n");
+        source.append("        return DESCRIPTION;\n");
+        source.append("    }\n\n");
+        if (!flags.isEmpty()) {
+            source.append("    @Override\n");
+            source.append("    public tsp.commands.command.flag.FlagSpec getFlagSpec() {\n");
+            source.append("        return FLAGS;\n");
+            source.append("    }\n\n");
+        }
+
+        source.append("    @Override\n");
+        source.append("    public void handle(").append(CONTEXT).append(" ctx) {\n");
+        if (root.handler != null) {
+            source.append("        ").append(root.handler.call(this)).append(";\n");
+        } else {
+            source.append("        didYouMean(ctx).ifPresent(ctx::reply);\n");
+            source.append("        ctx.reply(USAGE);\n");
+        }
+        source.append("    }\n\n");
+
+        StringBuilder tree = new StringBuilder();
+        int[] counter = {0};
+        for (Node child : root.children.values()) {
+            child.write(this, tree, "root", 2, counter);
+        }
+        source.append("    @Override\n");
+        source.append("    public void tree(tsp.commands.command.tree.CommandNodeBuilder<").append(CONTEXT).append("> root) {\n");
+        for (Map.Entry<String, String> parser : parsers.entrySet()) {
+            source.append("        tsp.commands.command.parser.ArgumentParser<").append(boxed(parser.getKey())).append("> ")
+                    .append(parser.getValue()).append(" = getParsers().require(").append(parser.getKey()).append(".class);\n");
+        }
+        source.append(tree);
+        source.append("    }\n\n");
+        source.append("}\n");
+        out.write(source.toString());
+    }
+
+    /**
+     * The positional arguments of a context, leaving out flags when the command declares any.
+     */
+    String arguments() {
+        return flags.isEmpty() ? "ctx.rawArgs()" : "ctx.flags().positional()";
+    }
+
+    static String quote(String value) {
+        if (value == null) {
+            return "null";
+        }
+
+        StringBuilder builder = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                case '\t' -> builder.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        builder.append(String.format("\\%03o", (int) c));
+                    } else {
+                        builder.append(c);
+                    }
+                }
+            }
+        }
+        return builder.append('"').toString();
+    }
+
+    private static String boxed(String type) {
+        return switch (type) {
+            case "int" -> "Integer";
+            case "long" -> "Long";
+            case "double" -> "Double";
+            case "float" -> "Float";
+            case "boolean" -> "Boolean";
+            case "short" -> "Short";
+            case "byte" -> "Byte";
+            case "char" -> "Character";
+            default -> type;
+        };
+    }
+
+    /**
+     * A node of the generated dispatch tree, a literal when {@code type} is {@code null}.
+     */
+    static final class Node {
+
+        final String name;
+        final String type;
+        final Map<String, Node> children = new LinkedHashMap<>();
+        String[] aliases = new String[0];
+        String description;
+        String permission;
+        Handler handler;
+
+        Node(String name, String type) {
+            this.name = name;
+            this.type = type;
+        }
+
+        Node literal(String name) {
+            return children.computeIfAbsent("literal " + name.toLowerCase(Locale.ROOT), key -> new Node(name, null));
+        }
+
+        Node argument(String name, String type) {
+            return children.computeIfAbsent("argument " + name + " " + type, key -> new Node(name, type));
+        }
+
+        void write(CommandModel model, StringBuilder out, String parent, int depth, int[] counter) {
+            String indent = "    ".repeat(depth);
+            String var = "node" + counter[0]++;
+            out.append(indent).append(parent).append('.');
+            if (type == null) {
+                out.append("literal(").append(quote(name));
+            } else {
+                out.append("argument(").append(quote(name)).append(", ").append(type).append(".class");
+            }
+            out.append(", ").append(var).append(" -> {\n");
+
+            String inner = indent + "    ";
+            if (aliases.length > 0) {
+                out.append(inner).append(var).append(".aliases(");
+                for (int i = 0; i < aliases.length; i++) {
+                    out.append(i == 0 ? "" : ", ").append(quote(aliases[i]));
+                }
+                out.append(");\n");
+            }
+            if (description != null) {
+                out.append(inner).append(var).append(".description(").append(quote(description)).append(");\n");
+            }
+            if (permission != null) {
+                out.append(inner).append(var).append(".permission(").append(quote(permission)).append(");\n");
+            }
+            if (handler != null) {
+                out.append(inner).append(var).append(".executes(ctx -> ");
+                if (handler.usesArguments()) {
+                    out.append("{\n");
+                    out.append(inner).append("    String[] args = ").append(model.arguments()).append(";\n");
+                    out.append(inner).append("    ").append(handler.call(model)).append(";\n");
+                    out.append(inner).append("});\n");
+                } else {
+                    out.append(handler.call(model)).append(");\n");
+                }
+            }
+            for (Node child : children.values()) {
+                child.write(model, out, var, depth + 1, counter);
+            }
+            out.append(indent).append("});\n");
+        }
+
+    }
+
+    /**
+     * A handler method and the expression bound to each of its parameters.
+     */
+    static final class Handler {
+
+        final String method;
+        final boolean isStatic;
+        final List<String> parameters = new ArrayList<>();
+        boolean arguments;
+
+        Handler(String method, boolean isStatic) {
+            this.method = method;
+            this.isStatic = isStatic;
+        }
+
+        Handler context() {
+            parameters.add("ctx");
+            return this;
+        }
+
+        Handler argument(String parser, int index) {
+            parameters.add(parser + ".parse(args[" + index + "])");
+            arguments = true;
+            return this;
+        }
+
+        Handler flag(String name) {
+            parameters.add("ctx.hasFlag(" + quote(name) + ")");
+            return this;
+        }
+
+        Handler option(String name, String type) {
+            parameters.add("ctx.flag(" + quote(name) + ", " + type + ".class).orElse(null)");
+            return this;
+        }
+
+        boolean usesArguments() {
+            return arguments;
+        }
+
+        String call(CommandModel model) {
+            return (isStatic ? model.handlerType : "handler") + "." + method + "(" + String.join(", ", parameters) + ")";
+        }
+
+    }
+
+}
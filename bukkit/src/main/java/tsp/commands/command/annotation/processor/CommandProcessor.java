@@ -0,0 +1,293 @@
+package tsp.commands.command.annotation.processor;
+
+import tsp.commands.command.annotation.Arg;
+import tsp.commands.command.annotation.Command;
+import tsp.commands.command.annotation.Flag;
+import tsp.commands.command.annotation.Permission;
+import tsp.commands.command.annotation.Subcommand;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Generates a {@link tsp.commands.command.bukkit.AbstractBukkitCommand} for every {@link Command} class.
+ * <p>
+ * The dispatch tree, flag spec and argument binding are emitted as plain source, each handler is invoked directly
+ * and each argument parser is resolved once when the tree is compiled, so registering and running the command
+ * involves no reflection or classpath scanning.
+ *
+ * @author TheSilentPro (Silent)
+ */
+@SupportedAnnotationTypes({
+        "tsp.commands.command.annotation.Command",
+        "tsp.commands.command.annotation.Subcommand",
+        "tsp.commands.command.annotation.Arg",
+        "tsp.commands.command.annotation.Flag",
+        "tsp.commands.command.annotation.Permission"
+})
+public class CommandProcessor extends AbstractProcessor {
+
+    private static final String CONTEXT_TYPE = "tsp.commands.command.bukkit.BukkitCommandContext";
+    private static final String SENDER_TYPE = "org.bukkit.command.CommandSender";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        for (Element element : round.getElementsAnnotatedWith(Command.class)) {
+            if (!(element instanceof TypeElement type) || element.getKind() != ElementKind.CLASS) {
+                error(element, "@Command is only supported on classes");
+                continue;
+            }
+
+            CommandModel model = read(type);
+            if (model == null) {
+                continue;
+            }
+
+            String qualifiedName = model.packageName.isEmpty() ? model.className : model.packageName + "." + model.className;
+            try {
+                JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, type);
+                try (Writer writer = file.openWriter()) {
+                    model.write(writer);
+                }
+            } catch (IOException ex) {
+                error(type, "Failed to write " + qualifiedName + ": " + ex.getMessage());
+            }
+        }
+
+        for (Element element : round.getElementsAnnotatedWith(Subcommand.class)) {
+            if (element.getEnclosingElement().getAnnotation(Command.class) == null) {
+                error(element, "@Subcommand methods must be declared in a @Command class");
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Validate a command class and build its model.
+     *
+     * @param type The class.
+     * @return The model, or {@code null} if the class is invalid, the errors having been reported.
+     */
+    private CommandModel read(TypeElement type) {
+        if (type.getModifiers().contains(Modifier.PRIVATE)
+                || (type.getNestingKind() == NestingKind.MEMBER && !type.getModifiers().contains(Modifier.STATIC))
+                || (type.getNestingKind() != NestingKind.TOP_LEVEL && type.getNestingKind() != NestingKind.MEMBER)) {
+            error(type, "@Command classes must be top level or static nested, and not private");
+            return null;
+        }
+
+        Command command = type.getAnnotation(Command.class);
+        Permission permission = type.getAnnotation(Permission.class);
+        PackageElement pkg = processingEnv.getElementUtils().getPackageOf(type);
+        CommandModel model = new CommandModel(
+                pkg.getQualifiedName().toString(),
+                generatedName(type),
+                type.getQualifiedName().toString(),
+                isInstantiable(type),
+                command.value(),
+                command.aliases(),
+                emptyToNull(command.description()),
+                permission != null ? permission.value() : null,
+                emptyToNull(command.permissionMessage())
+        );
+
+        boolean valid = true;
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            Subcommand subcommand = method.getAnnotation(Subcommand.class);
+            if (subcommand != null) {
+                valid &= readHandler(model, method, subcommand);
+            }
+        }
+        if (valid && model.usage.isEmpty()) {
+            error(type, "@Command classes must declare at least one @Subcommand method");
+            return null;
+        }
+        return valid ? model : null;
+    }
+
+    private boolean readHandler(CommandModel model, ExecutableElement method, Subcommand subcommand) {
+        if (method.getModifiers().contains(Modifier.PRIVATE)) {
+            error(method, "@Subcommand methods must not be private");
+            return false;
+        }
+
+        List<? extends VariableElement> parameters = method.getParameters();
+        if (parameters.isEmpty() || !acceptsContext(parameters.get(0).asType())) {
+            error(method, "The first parameter of a @Subcommand method must accept a BukkitCommandContext<CommandSender>");
+            return false;
+        }
+
+        CommandModel.Node node = model.root;
+        StringBuilder usage = new StringBuilder("/").append(model.name);
+        int index = 0;
+        String path = subcommand.value().trim();
+        if (!path.isEmpty()) {
+            for (String literal : path.split("\\s+")) {
+                node = node.literal(literal);
+                usage.append(' ').append(literal);
+                index++;
+            }
+            if (subcommand.aliases().length > 0) {
+                node.aliases = subcommand.aliases();
+            }
+        }
+
+        CommandModel.Handler handler = new CommandModel.Handler(method.getSimpleName().toString(), method.getModifiers().contains(Modifier.STATIC)).context();
+        for (VariableElement parameter : parameters.subList(1, parameters.size())) {
+            TypeMirror type = parameter.asType();
+            Flag flag = parameter.getAnnotation(Flag.class);
+            if (flag != null) {
+                if (!readFlag(model, handler, parameter, flag)) {
+                    return false;
+                }
+                continue;
+            }
+
+            String typeName = typeName(parameter, type);
+            if (typeName == null) {
+                return false;
+            }
+            Arg arg = parameter.getAnnotation(Arg.class);
+            String name = arg != null ? arg.value() : parameter.getSimpleName().toString();
+            node = node.argument(name, typeName);
+            handler.argument(model.parser(typeName), index++);
+            usage.append(" <").append(name).append('>');
+        }
+
+        if (node.handler != null) {
+            error(method, "Another @Subcommand method already handles " + usage);
+            return false;
+        }
+        node.handler = handler;
+        node.description = emptyToNull(subcommand.description());
+        Permission permission = method.getAnnotation(Permission.class);
+        if (permission != null) {
+            if (node == model.root) {
+                error(method, "Use @Permission on the class to require a permission for the command itself");
+                return false;
+            }
+            node.permission = permission.value();
+        }
+        model.usage.add(usage.toString());
+        return true;
+    }
+
+    private boolean readFlag(CommandModel model, CommandModel.Handler handler, VariableElement parameter, Flag flag) {
+        TypeMirror type = parameter.asType();
+        boolean takesValue = type.getKind() != TypeKind.BOOLEAN;
+        if (takesValue && type.getKind().isPrimitive()) {
+            error(parameter, "Flags taking a value are null when absent, use the boxed type");
+            return false;
+        }
+
+        Boolean declared = model.flags.putIfAbsent(flag.value(), takesValue);
+        if (declared != null && declared != takesValue) {
+            error(parameter, "Flag --" + flag.value() + " is declared both with and without a value");
+            return false;
+        }
+        if (flag.shortName() != '\0') {
+            for (var entry : model.shortNames.entrySet()) {
+                if (entry.getValue() == flag.shortName() && !entry.getKey().equals(flag.value())) {
+                    error(parameter, "Short name -" + flag.shortName() + " is already used by --" + entry.getKey());
+                    return false;
+                }
+            }
+            model.shortNames.put(flag.value(), flag.shortName());
+        }
+
+        if (takesValue) {
+            String typeName = typeName(parameter, type);
+            if (typeName == null) {
+                return false;
+            }
+            handler.option(flag.value(), typeName);
+        } else {
+            handler.flag(flag.value());
+        }
+        return true;
+    }
+
+    /**
+     * The source name of a bindable parameter type, a primitive or a non-generic class.
+     */
+    private String typeName(VariableElement parameter, TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return type.toString();
+        }
+        if (type instanceof DeclaredType declared && declared.getTypeArguments().isEmpty()) {
+            return ((TypeElement) declared.asElement()).getQualifiedName().toString();
+        }
+        error(parameter, "Arguments must be a primitive or a non-generic class, found " + type);
+        return null;
+    }
+
+    private boolean acceptsContext(TypeMirror parameter) {
+        TypeElement context = processingEnv.getElementUtils().getTypeElement(CONTEXT_TYPE);
+        TypeElement sender = processingEnv.getElementUtils().getTypeElement(SENDER_TYPE);
+        if (context == null || sender == null) {
+            return false;
+        }
+        DeclaredType type = processingEnv.getTypeUtils().getDeclaredType(context, sender.asType());
+        return processingEnv.getTypeUtils().isAssignable(type, parameter);
+    }
+
+    private boolean isInstantiable(TypeElement type) {
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+            return false;
+        }
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty() && !constructor.getModifiers().contains(Modifier.PRIVATE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@code Outer.Inner} generates {@code Outer_Inner_Command}.
+     */
+    private static String generatedName(TypeElement type) {
+        List<String> names = new ArrayList<>();
+        Element element = type;
+        while (element instanceof TypeElement) {
+            names.add(0, element.getSimpleName().toString());
+            element = element.getEnclosingElement();
+        }
+        return String.join("_", names) + "_Command";
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+}
@@ -0,0 +1,105 @@
+package tsp.commands.command.bukkit;
+
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandSender;
+import org.bukkit.command.PluginCommand;
+import org.bukkit.plugin.java.JavaPlugin;
+import tsp.commands.command.AbstractCommand;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * @author TheSilentPro (Silent)
+ */
+public abstract class AbstractBukkitCommand
+        extends AbstractCommand<CommandSender, JavaPlugin, BukkitCommandContext<CommandSender>>
+        implements BukkitCommand
+{
+
+    private JavaPlugin plugin;
+
+    public AbstractBukkitCommand(String permission, String permissionMessage, String name, String... aliases) {
+        super(permission, permissionMessage, name, aliases);
+    }
+
+    public AbstractBukkitCommand(String permission, String name, String... aliases) {
+        super(permission, name, aliases);
+    }
+
+    public AbstractBukkitCommand(String name, String... aliases) {
+        super(name, aliases);
+    }
+
+    public AbstractBukkitCommand(String name, String alias) {
+        super(name, alias);
+    }
+
+    @Override
+    public boolean onCommand(@Nonnull CommandSender commandSender, @Nonnull Command command, @Nonnull String s, @Nonnull String[] strings) {
+        BukkitCommandContext<CommandSender> ctx = new BukkitCommandContext<>(commandSender, strings, this, plugin);
+        if (!tryAcquire(ctx)) {
+            return true;
+        }
+
+        if (isAsync() && plugin != null) {
+            BukkitAsyncDispatcher dispatcher = BukkitAsyncDispatcher.shared(plugin);
+            if (dispatcher.submit(this, ctx.senderId(), () -> dispatch(ctx)) == null) {
+                commandSender.sendMessage(dispatcher.getBusyMessage());
+            }
+        } else {
+            dispatch(ctx);
+        }
+        return true;
+    }
+
+    @Override
+    public List<String> onTabComplete(@Nonnull CommandSender commandSender, @Nonnull Command command, @Nonnull String s, @Nonnull String[] strings) {
+        // Never return null, bukkit would fall back to scanning every online player's name.
+        List<String> completions = complete(new BukkitCommandContext<>(commandSender, strings, this, plugin));
+        return completions != null ? completions : Collections.emptyList();
+    }
+
+    @Override
+    public void register(JavaPlugin plugin) {
+        BukkitCommandRegistry.register(plugin, this);
+    }
+
+    /**
+     * Bind this command to its plugin command, applying the executor, tab completer, aliases, description and permission.
+     *
+     * @param plugin The plugin.
+     * @param pluginCommand The plugin command.
+     */
+    void configure(JavaPlugin plugin, PluginCommand pluginCommand) {
+        bind(plugin);
+        pluginCommand.setExecutor(this);
+        pluginCommand.setTabCompleter(this);
+        getAliases().ifPresent(aliases -> pluginCommand.setAliases(Arrays.asList(aliases)));
+        getDescription().ifPresent(pluginCommand::setDescription);
+        getPermission().ifPresent(pluginCommand::setPermission);
+        getPermissionMessage().ifPresent(pluginCommand::setPermissionMessage);
+    }
+
+    /**
+     * Bind this command to the plugin and compile its dispatch tree.
+     *
+     * @param plugin The plugin.
+     */
+    void bind(JavaPlugin plugin) {
+        this.plugin = plugin;
+        BukkitParsers.install(getParsers());
+        BukkitNameIndex.shared().start(plugin);
+        PermissionCache.shared().start(plugin, 600L);
+        if (isAsync()) {
+            BukkitAsyncDispatcher.shared(plugin);
+        }
+        if (isAsyncCompletion()) {
+            AsyncTabCompleteListener.register(plugin, this);
+        }
+        compileTree();
+    }
+
+}
\ No newline at end of file
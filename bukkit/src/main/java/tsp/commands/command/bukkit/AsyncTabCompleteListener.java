@@ -0,0 +1,141 @@
+package tsp.commands.command.bukkit;
+
+import org.bukkit.command.CommandSender;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventException;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.EventExecutor;
+import org.bukkit.plugin.Plugin;
+
+import javax.annotation.Nonnull;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Computes completions for {@link tsp.commands.command.Cmd#isAsyncCompletion() asynchronous completion} commands
+ * off the main thread through Paper's {@code AsyncTabCompleteEvent}.
+ * The event is bound reflectively, so this is a no-op on servers without it.
+ *
+ * @author TheSilentPro (Silent)
+ */
+public final class AsyncTabCompleteListener implements Listener, EventExecutor {
+
+    private static final String EVENT = "com.destroystokyo.paper.event.server.AsyncTabCompleteEvent";
+    private static AsyncTabCompleteListener shared;
+
+    private final Plugin plugin;
+    private final Map<String, AbstractBukkitCommand> commands = new ConcurrentHashMap<>();
+    private final MethodHandle getBuffer;
+    private final MethodHandle getSender;
+    private final MethodHandle isCommand;
+    private final MethodHandle isHandled;
+    private final MethodHandle setHandled;
+    private final MethodHandle setCompletions;
+
+    private AsyncTabCompleteListener(Plugin plugin, Class<? extends Event> event) throws ReflectiveOperationException {
+        this.plugin = plugin;
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        this.getBuffer = handle(lookup, event, "getBuffer", MethodType.methodType(String.class));
+        this.getSender = handle(lookup, event, "getSender", MethodType.methodType(CommandSender.class));
+        this.isCommand = handle(lookup, event, "isCommand", MethodType.methodType(boolean.class));
+        this.isHandled = handle(lookup, event, "isHandled", MethodType.methodType(boolean.class));
+        this.setHandled = handle(lookup, event, "setHandled", MethodType.methodType(void.class, boolean.class));
+        this.setCompletions = handle(lookup, event, "setCompletions", MethodType.methodType(void.class, List.class));
+    }
+
+    /**
+     * Complete a command asynchronously, registering the listener on first use.
+     * The command is completed under its name and aliases, bare or prefixed with the namespace of its plugin.
+     *
+     * @param plugin The plugin.
+     * @param command The command.
+     * @return Whether asynchronous completion is supported by the server.
+     */
+    public static synchronized boolean register(@Nonnull Plugin plugin, @Nonnull AbstractBukkitCommand command) {
+        if (shared == null) {
+            Class<? extends Event> event;
+            try {
+                event = Class.forName(EVENT).asSubclass(Event.class);
+                shared = new AsyncTabCompleteListener(plugin, event);
+            } catch (ReflectiveOperationException | ClassCastException ex) {
+                return false;
+            }
+            plugin.getServer().getPluginManager().registerEvent(event, shared, EventPriority.NORMAL, shared, plugin, true);
+        }
+
+        String namespace = plugin.getName().toLowerCase(Locale.ROOT) + ":";
+        shared.put(namespace, command.getName(), command);
+        command.getAliases().ifPresent(aliases -> {
+            for (String alias : aliases) {
+                shared.put(namespace, alias, command);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Stop completing a command asynchronously.
+     *
+     * @param command The command.
+     */
+    public static synchronized void unregister(@Nonnull AbstractBukkitCommand command) {
+        if (shared != null) {
+            shared.commands.values().removeIf(registered -> registered == command);
+        }
+    }
+
+    @Override
+    public void execute(@Nonnull Listener listener, @Nonnull Event event) throws EventException {
+        try {
+            if ((boolean) isHandled.invokeExact(event) || !(boolean) isCommand.invokeExact(event)) {
+                return;
+            }
+
+            String buffer = (String) getBuffer.invokeExact(event);
+            int start = buffer.startsWith("/") ? 1 : 0;
+            int space = buffer.indexOf(' ', start);
+            if (space < 0) {
+                // Still completing the label itself
+                return;
+            }
+
+            // Namespaced labels are only registered for the owning plugin, another plugin's namespace is left alone.
+            AbstractBukkitCommand command = commands.get(buffer.substring(start, space).toLowerCase(Locale.ROOT));
+            if (command == null) {
+                return;
+            }
+
+            CommandSender sender = (CommandSender) getSender.invokeExact(event);
+            String permission = command.getPermission().orElse(null);
+            if (permission != null && !PermissionCache.shared().hasPermission(sender, permission)) {
+                return;
+            }
+
+            String[] args = buffer.substring(space + 1).split(" ", -1);
+            List<String> completions = command.complete(new BukkitCommandContext<>(sender, args, command, plugin));
+            if (completions != null) {
+                setCompletions.invokeExact(event, completions);
+                setHandled.invokeExact(event, true);
+            }
+        } catch (Throwable t) {
+            throw new EventException(t);
+        }
+    }
+
+    private void put(String namespace, String label, AbstractBukkitCommand command) {
+        String lower = label.toLowerCase(Locale.ROOT);
+        commands.put(lower, command);
+        commands.put(namespace + lower, command);
+    }
+
+    private static MethodHandle handle(MethodHandles.Lookup lookup, Class<?> event, String name, MethodType type) throws ReflectiveOperationException {
+        return lookup.findVirtual(event, name, type).asType(type.insertParameterTypes(0, Event.class));
+    }
+
+}
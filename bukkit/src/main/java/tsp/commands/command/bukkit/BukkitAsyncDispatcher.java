@@ -0,0 +1,62 @@
+package tsp.commands.command.bukkit;
+
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.Plugin;
+import tsp.commands.command.execution.AsyncDispatcher;
+
+import javax.annotation.Nonnull;
+import java.util.logging.Level;
+
+/**
+ * {@link AsyncDispatcher} for bukkit, cancelling a player's running executions when they disconnect.
+ *
+ * @author TheSilentPro (Silent)
+ */
+public class BukkitAsyncDispatcher extends AsyncDispatcher implements Listener {
+
+    private static BukkitAsyncDispatcher shared;
+
+    private String busyMessage = "This command is busy, please try again shortly.";
+
+    public BukkitAsyncDispatcher(@Nonnull Plugin plugin) {
+        super(ex -> plugin.getLogger().log(Level.SEVERE, "Unhandled exception in asynchronous command", ex));
+        plugin.getServer().getPluginManager().registerEvents(this, plugin);
+    }
+
+    /**
+     * Retrieve the dispatcher shared by all commands, creating it for the plugin on first use.
+     *
+     * @param plugin The plugin.
+     * @return Shared dispatcher
+     */
+    @Nonnull
+    public static synchronized BukkitAsyncDispatcher shared(@Nonnull Plugin plugin) {
+        if (shared == null) {
+            shared = new BukkitAsyncDispatcher(plugin);
+        }
+        return shared;
+    }
+
+    @Nonnull
+    public String getBusyMessage() {
+        return busyMessage;
+    }
+
+    /**
+     * Set the message sent when a command's concurrency limit is reached.
+     *
+     * @param busyMessage The message.
+     */
+    public void setBusyMessage(@Nonnull String busyMessage) {
+        this.busyMessage = busyMessage;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        cancel(event.getPlayer().getUniqueId());
+    }
+
+}
@@ -0,0 +1,305 @@
+package tsp.commands.command.bukkit;
+
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.suggestion.SuggestionProvider;
+import com.mojang.brigadier.tree.CommandNode;
+import com.mojang.brigadier.tree.LiteralCommandNode;
+import com.mojang.brigadier.tree.RootCommandNode;
+import org.bukkit.Bukkit;
+import org.bukkit.Server;
+import org.bukkit.command.CommandSender;
+import org.bukkit.plugin.java.JavaPlugin;
+import tsp.commands.command.brigadier.BrigadierExporter;
+import tsp.commands.command.permission.PermissionIndex;
+import tsp.commands.command.tree.CommandTree;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Exports the trees of {@link AbstractBukkitCommand commands} into the server's Brigadier dispatcher, so 1.13+ clients
+ * parse, validate and suggest subcommands locally and only ask the server for dynamic argument suggestions.
+ * <p>
+ * Execution is handed back to the command map, the exported nodes only describe the structure.
+ * Visibility is decided by the {@link tsp.commands.command.permission.FilteredTree filtered tree} of the player's
+ * {@link PermissionCache#fingerprint(CommandSender) fingerprint}, so players with the same rank share one permission
+ * walk of each command and a login wave costs one filtering per distinct rank.
+ * <p>
+ * The server rebuilds the dispatcher sent to players from the command map whenever it syncs commands, wrapping each
+ * command in a node accepting any input, and sends it right away. Rather than syncing, the
+ * {@link BukkitCommandRegistry#syncCommands(Server) registry} therefore {@link #apply(Server) applies} the exported nodes
+ * to that live dispatcher in place, replacing the wrappers under the same labels and removing the nodes of unregistered
+ * commands, and then sends the tree once. They are never added to the dispatcher the server keeps for vanilla commands,
+ * which it wraps into {@code minecraft:} commands at startup. A sync run by the server or another plugin, e.g. reloading
+ * data packs, drops the exported nodes until the registry syncs again, in the meantime clients fall back to the
+ * wrappers and commands keep working unchanged.
+ * <p>
+ * The dispatcher is not exposed by the api, so it is looked up reflectively. If the lookup fails the export is
+ * disabled once with a warning and commands keep working through the command map alone.
+ * Only touched by the {@link BukkitCommandRegistry registry} once it found Brigadier, which is missing on older servers.
+ *
+ * @author TheSilentPro (Silent)
+ */
+final class BukkitBrigadier {
+
+    private static final Map<AbstractBukkitCommand, List<LiteralCommandNode<Object>>> EXPORTED = new ConcurrentHashMap<>();
+    /**
+     * Nodes of unregistered or re-exported commands, removed from the dispatcher on the next {@link #apply(Server) sync}.
+     */
+    private static final Queue<LiteralCommandNode<Object>> REMOVED = new ConcurrentLinkedQueue<>();
+    private static final ClassValue<Method> GET_BUKKIT_SENDER = new ClassValue<>() {
+        @Override
+        protected Method computeValue(Class<?> type) {
+            try {
+                return type.getMethod("getBukkitSender");
+            } catch (NoSuchMethodException ex) {
+                return null;
+            }
+        }
+    };
+
+    private static volatile boolean disabled;
+    private static Method getServer;
+    private static Field vanillaCommands;
+    private static Method getCommands;
+    private static Method getDispatcher;
+    private static Field[] childMaps;
+
+    private BukkitBrigadier() {}
+
+    /**
+     * Export a command under its name, its aliases and their namespaced forms, replacing a previous export of the command.
+     * The nodes are added to the dispatcher on the next {@link #apply(Server) sync}.
+     *
+     * @param plugin The plugin owning the command.
+     * @param command The command.
+     */
+    static void register(@Nonnull JavaPlugin plugin, @Nonnull AbstractBukkitCommand command) {
+        if (disabled) {
+            return;
+        }
+
+        try {
+            CommandTree<?> tree = command.getTree();
+            String permission = command.getPermission().orElse(null);
+            PermissionIndex.shared().register(tree, permission);
+
+            BrigadierExporter<Object> exporter = new BrigadierExporter<>((source, node) -> canUse(source, tree, permission, node), BukkitBrigadier::execute, suggestions(plugin, command));
+            List<LiteralCommandNode<Object>> nodes = new ArrayList<>();
+            for (String label : labels(plugin, command)) {
+                nodes.add(exporter.export(tree, label));
+            }
+            List<LiteralCommandNode<Object>> previous = EXPORTED.put(command, nodes);
+            if (previous != null) {
+                REMOVED.addAll(previous);
+            }
+        } catch (RuntimeException ex) {
+            disable(plugin.getLogger(), ex);
+        }
+    }
+
+    /**
+     * Stop exporting a command. Its nodes are left out of the dispatcher from the next sync on.
+     * Commands that were not exported are ignored.
+     *
+     * @param command The command.
+     */
+    static void unregister(@Nonnull AbstractBukkitCommand command) {
+        List<LiteralCommandNode<Object>> nodes = EXPORTED.remove(command);
+        if (nodes != null) {
+            REMOVED.addAll(nodes);
+        }
+    }
+
+    /**
+     * Bring the live dispatcher up to date in place: remove the nodes of unregistered commands and add the exported nodes,
+     * replacing the wrappers of the command map. Nothing is sent to players.
+     * Must be called on the main thread.
+     *
+     * @param server The server.
+     * @return Whether the dispatcher was updated, otherwise it must be rebuilt by the server.
+     */
+    static boolean apply(@Nonnull Server server) {
+        if (disabled || (EXPORTED.isEmpty() && REMOVED.isEmpty())) {
+            return false;
+        }
+
+        try {
+            RootCommandNode<Object> root = root(server);
+            LiteralCommandNode<Object> removed;
+            while ((removed = REMOVED.poll()) != null) {
+                // Only our own node, the label may have been taken over since.
+                if (root.getChild(removed.getName()) == removed) {
+                    removeChild(root, removed.getName());
+                }
+            }
+            for (List<LiteralCommandNode<Object>> nodes : EXPORTED.values()) {
+                for (LiteralCommandNode<Object> node : nodes) {
+                    // Brigadier merges nodes sharing a name, remove the wrapper so it is replaced instead.
+                    removeChild(root, node.getName());
+                    root.addChild(node);
+                }
+            }
+            return true;
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+            disable(server.getLogger(), ex);
+            return false;
+        }
+    }
+
+    private static List<String> labels(JavaPlugin plugin, AbstractBukkitCommand command) {
+        String namespace = plugin.getName().toLowerCase(Locale.ROOT) + ":";
+        List<String> labels = new ArrayList<>();
+        labels.add(command.getName().toLowerCase(Locale.ROOT));
+        command.getAliases().ifPresent(aliases -> {
+            for (String alias : aliases) {
+                labels.add(alias.toLowerCase(Locale.ROOT));
+            }
+        });
+        for (int i = 0, size = labels.size(); i < size; i++) {
+            labels.add(namespace + labels.get(i));
+        }
+        return labels;
+    }
+
+    private static boolean canUse(Object source, CommandTree<?> tree, @Nullable String permission, tsp.commands.command.tree.CommandNode<?> node) {
+        CommandSender sender = sender(source);
+        // Sources without a bukkit sender are left to the command map, which checks again on execution.
+        return sender == null || PermissionCache.shared().fingerprint(sender).filter(tree, permission).isVisible(node);
+    }
+
+    private static int execute(com.mojang.brigadier.context.CommandContext<Object> context) {
+        CommandSender sender = sender(context.getSource());
+        if (sender == null) {
+            return 0;
+        }
+
+        String input = context.getInput();
+        return Bukkit.dispatchCommand(sender, input.startsWith("/") ? input.substring(1) : input) ? 1 : 0;
+    }
+
+    private static SuggestionProvider<Object> suggestions(JavaPlugin plugin, AbstractBukkitCommand command) {
+        return (context, builder) -> {
+            CommandSender sender = sender(context.getSource());
+            if (sender == null) {
+                return builder.buildFuture();
+            }
+
+            String remaining = builder.getRemaining();
+            String typed = builder.getInput().substring(0, builder.getStart()) + remaining;
+            if (typed.startsWith("/")) {
+                typed = typed.substring(1);
+            }
+            int space = typed.indexOf(' ');
+            if (space < 0) {
+                return builder.buildFuture();
+            }
+
+            String[] args = typed.substring(space + 1).split(" ", -1);
+            List<String> completions = command.complete(new BukkitCommandContext<>(sender, args, command, plugin));
+            if (completions != null) {
+                for (String completion : completions) {
+                    if (completion.regionMatches(true, 0, remaining, 0, remaining.length())) {
+                        builder.suggest(completion);
+                    }
+                }
+            }
+            return builder.buildFuture();
+        };
+    }
+
+    @Nullable
+    private static CommandSender sender(Object source) {
+        Method method = GET_BUKKIT_SENDER.get(source.getClass());
+        if (method == null) {
+            return null;
+        }
+
+        try {
+            return (CommandSender) method.invoke(source);
+        } catch (ReflectiveOperationException | ClassCastException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * The root of the live Brigadier dispatcher, replaced by the server on every sync.
+     * The server does not name its accessor the same across versions, it is found by its return type,
+     * that of the field holding the dispatcher for vanilla commands.
+     */
+    @SuppressWarnings("unchecked")
+    private static synchronized RootCommandNode<Object> root(Server server) throws ReflectiveOperationException {
+        if (getServer == null) {
+            Method getServer = server.getClass().getMethod("getServer");
+            Class<?> minecraftServerType = getServer.getReturnType();
+            vanillaCommands = field(minecraftServerType, "vanillaCommandDispatcher");
+            getCommands = method(minecraftServerType, vanillaCommands.getType());
+            getDispatcher = method(vanillaCommands.getType(), CommandDispatcher.class);
+            childMaps = new Field[] {field(CommandNode.class, "children"), field(CommandNode.class, "literals"), field(CommandNode.class, "arguments")};
+            BukkitBrigadier.getServer = getServer;
+        }
+
+        Object minecraftServer = getServer.invoke(server);
+        Object commands = getCommands.invoke(minecraftServer);
+        if (commands == vanillaCommands.get(minecraftServer)) {
+            throw new NoSuchMethodException("Found the vanilla dispatcher instead of the live one on " + minecraftServer.getClass().getName());
+        }
+        return ((CommandDispatcher<Object>) getDispatcher.invoke(commands)).getRoot();
+    }
+
+    private static Method method(Class<?> type, Class<?> returnType) throws NoSuchMethodException {
+        for (Method method : type.getMethods()) {
+            if (method.getParameterCount() == 0 && returnType.isAssignableFrom(method.getReturnType())) {
+                return method;
+            }
+        }
+        throw new NoSuchMethodException("No method returning " + returnType.getName() + " on " + type.getName());
+    }
+
+    /**
+     * Brigadier can not remove children, so the node maps, looked up by {@link #root(Server)}, are edited reflectively.
+     */
+    private static void removeChild(CommandNode<Object> node, String name) throws ReflectiveOperationException {
+        if (node.getChild(name) == null) {
+            return;
+        }
+
+        for (Field childMap : childMaps) {
+            ((Map<?, ?>) childMap.get(node)).remove(name);
+        }
+    }
+
+    private static Field field(Class<?> type, String name) throws NoSuchFieldException {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            try {
+                Field field = current.getDeclaredField(name);
+                field.setAccessible(true);
+                return field;
+            } catch (NoSuchFieldException ignored) {
+                // Declared further up
+            }
+        }
+        throw new NoSuchFieldException(name + " in " + type.getName());
+    }
+
+    private static void disable(Logger logger, Exception ex) {
+        EXPORTED.clear();
+        REMOVED.clear();
+        if (!disabled) {
+            disabled = true;
+            logger.log(Level.WARNING, "Could not export commands to Brigadier, clients will not parse them locally.", ex);
+        }
+    }
+
+}
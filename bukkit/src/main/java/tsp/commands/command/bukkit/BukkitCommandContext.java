@@ -0,0 +1,507 @@
+package tsp.commands.command.bukkit;
+
+import net.md_5.bungee.api.chat.BaseComponent;
+import net.md_5.bungee.api.chat.TextComponent;
+import org.bukkit.Bukkit;
+import org.bukkit.command.CommandSender;
+import org.bukkit.command.ConsoleCommandSender;
+import org.bukkit.command.RemoteConsoleCommandSender;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import tsp.commands.command.Cmd;
+import tsp.commands.command.context.Argument;
+import tsp.commands.command.context.AssertionFailure;
+import tsp.commands.command.context.CommandContext;
+import tsp.commands.command.context.CommandLine;
+import tsp.commands.command.context.ReplyBuffer;
+import tsp.commands.command.context.SimpleArgument;
+import tsp.commands.command.flag.Flags;
+import tsp.commands.command.util.BiOptional;
+import tsp.commands.command.util.BiOptionalDouble;
+import tsp.commands.command.util.BiOptionalInt;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * @author TheSilentPro (Silent)
+ */
+public class BukkitCommandContext<T extends CommandSender> implements MinecraftCommandContext<T> {
+
+    @Nonnull
+    private final T sender;
+    @Nonnull
+    private final String[] arguments;
+    @Nonnull
+    private final Cmd<T, ?, ?> command;
+    @Nullable
+    private final Plugin plugin;
+    private Argument[] args;
+    private Flags flags;
+    private CommandLine line;
+    private AssertionFailure failure;
+    private BiOptional<?, CommandContext<T>> empty;
+    private BiOptionalInt<CommandContext<T>> emptyInt;
+    private BiOptionalDouble<CommandContext<T>> emptyDouble;
+    private volatile ReplyBuffer<BaseComponent[]> buffer;
+
+    /**
+     * Create a context.
+     *
+     * @param sender The sender.
+     * @param arguments The arguments.
+     * @param command The command.
+     * @param plugin The plugin used to hand work back to the main thread, or {@code null} to always run it on the calling thread.
+     */
+    public BukkitCommandContext(@Nonnull T sender, @Nonnull String[] arguments, @Nonnull Cmd<T, ?, ?> command, @Nullable Plugin plugin) {
+        this.sender = sender;
+        this.arguments = arguments;
+        this.command = command;
+        this.plugin = plugin;
+    }
+
+    public BukkitCommandContext(@Nonnull T sender, @Nonnull String[] arguments, @Nonnull Cmd<T, ?, ?> command) {
+        this(sender, arguments, command, null);
+    }
+
+    @Nonnull
+    @Override
+    public T sender() {
+        return sender;
+    }
+
+    @Nonnull
+    @Override
+    public String[] rawArgs() {
+        return arguments;
+    }
+
+    /**
+     * Created on first use and reused for every failed lookup on this context.
+     *
+     * @return Cached empty optional
+     */
+    @SuppressWarnings("unchecked")
+    @Nonnull
+    @Override
+    public <V> BiOptional<V, CommandContext<T>> emptyOptional() {
+        BiOptional<?, CommandContext<T>> empty = this.empty;
+        if (empty == null) {
+            empty = this.empty = BiOptional.empty(this);
+        }
+        return (BiOptional<V, CommandContext<T>>) empty;
+    }
+
+    /**
+     * Created on first use and reused for every missing or invalid {@link #intArg(int, String) int argument} on this context.
+     *
+     * @return Cached empty optional
+     */
+    @Nonnull
+    @Override
+    public BiOptionalInt<CommandContext<T>> emptyInt() {
+        BiOptionalInt<CommandContext<T>> emptyInt = this.emptyInt;
+        if (emptyInt == null) {
+            emptyInt = this.emptyInt = BiOptionalInt.empty(this);
+        }
+        return emptyInt;
+    }
+
+    /**
+     * Created on first use and reused for every missing or invalid {@link #doubleArg(int, String) double argument} on this context.
+     *
+     * @return Cached empty optional
+     */
+    @Nonnull
+    @Override
+    public BiOptionalDouble<CommandContext<T>> emptyDouble() {
+        BiOptionalDouble<CommandContext<T>> emptyDouble = this.emptyDouble;
+        if (emptyDouble == null) {
+            emptyDouble = this.emptyDouble = BiOptionalDouble.empty(this);
+        }
+        return emptyDouble;
+    }
+
+    /**
+     * Lazily computes the {@link Argument arguments} once per context, so repeated {@link #arg(int)} calls do not allocate them again.
+     *
+     * @return Cached arguments
+     */
+    @Nonnull
+    @Override
+    public Argument[] args() {
+        Argument[] args = this.args;
+        if (args == null) {
+            args = new Argument[arguments.length];
+            for (int i = 0; i < arguments.length; i++) {
+                args[i] = new SimpleArgument(i, arguments[i]);
+            }
+            this.args = args;
+        }
+        return args;
+    }
+
+    /**
+     * Tokenizes the arguments on first use and caches the result for this context.
+     *
+     * @return Cached flags
+     */
+    @Nonnull
+    @Override
+    public Flags flags() {
+        Flags flags = this.flags;
+        if (flags == null) {
+            flags = this.flags = Flags.parse(arguments, command.getFlagSpec());
+        }
+        return flags;
+    }
+
+    /**
+     * Tokenizes the arguments on first use and caches the result for this context.
+     *
+     * @return Cached command line
+     */
+    @Nonnull
+    @Override
+    public CommandLine commandLine() {
+        CommandLine line = this.line;
+        if (line == null) {
+            line = this.line = CommandLine.parse(arguments);
+        }
+        return line;
+    }
+
+    @Nonnull
+    @Override
+    public Cmd<T, ?, ?> command() {
+        return command;
+    }
+
+    /**
+     * Check the command's permission through the {@link PermissionCache#shared() shared} permission cache.
+     * While LuckPerms is installed the decision is memoized, and a change that raises no event, e.g. an attachment
+     * added by another plugin, may only apply once the cache is cleared periodically.
+     *
+     * @param permissionMessage The message to send if the permission is missing, or {@code null} for the command's own.
+     * @return Whether the sender has the permission.
+     */
+    @Override
+    public boolean checkPermission(@Nullable String permissionMessage) {
+        String permission = command.getPermission().orElse(null);
+        if (permission == null || hasPermission(permission)) {
+            return true;
+        }
+
+        if (permissionMessage != null) {
+            reply(permissionMessage);
+        } else {
+            command.getPermissionMessage().ifPresent(this::reply);
+        }
+        return false;
+    }
+
+    /**
+     * Check a permission through the {@link PermissionCache#shared() shared} permission cache.
+     *
+     * @param permission The permission.
+     * @return Whether the sender has the permission.
+     */
+    @Override
+    public boolean hasPermission(@Nonnull String permission) {
+        return PermissionCache.shared().hasPermission(sender, permission);
+    }
+
+    public boolean isConsole(@Nullable String message) {
+        if (sender instanceof ConsoleCommandSender || sender instanceof RemoteConsoleCommandSender) {
+            return true;
+        } else {
+            if (message != null) reply(message);
+            return false;
+        }
+    }
+
+    @Override
+    public boolean isPlayer(@Nullable String message) {
+        if (sender instanceof Player) {
+            return true;
+        } else {
+            if (message != null) reply(message);
+            return false;
+        }
+    }
+
+    public boolean isOp(@Nullable String message) {
+        if (sender.isOp()) {
+            return true;
+        } else {
+            if (message != null) reply(message);
+            return false;
+        }
+    }
+
+    /**
+     * Assert that the {@link #sender() sender} is an operator.
+     *
+     * @param message The message to send if they are not.
+     * @return Context
+     */
+    public BukkitCommandContext<T> assertOp(@Nullable String message) {
+        if (isOp(message)) {
+            return this;
+        } else {
+            fail(AssertionFailure.OP);
+            return EmptyBukkitCommandContext.of(AssertionFailure.OP);
+        }
+    }
+
+    public BukkitCommandContext<T> assertOp() {
+        return assertOp(null);
+    }
+
+    /**
+     * Keeps the first failure, later assertions run on the returned empty context and are skipped.
+     *
+     * @param failure The failure.
+     */
+    @Override
+    public void fail(@Nonnull AssertionFailure failure) {
+        if (this.failure == null) {
+            this.failure = failure;
+        }
+    }
+
+    @Nullable
+    @Override
+    public AssertionFailure failure() {
+        return failure;
+    }
+
+    /**
+     * Run an action on the main thread, immediately if already on it.
+     * Used by {@link Cmd#isAsync() asynchronous} handlers to access the world.
+     *
+     * @param action The action.
+     * @return Future completed once the action has run.
+     */
+    public CompletableFuture<Void> sync(@Nonnull Runnable action) {
+        return supplySync(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Compute a value on the main thread, immediately if already on it.
+     * Used by {@link Cmd#isAsync() asynchronous} handlers to access the world.
+     *
+     * @param action The action.
+     * @return Future completed with the value.
+     */
+    public <V> CompletableFuture<V> supplySync(@Nonnull Supplier<V> action) {
+        CompletableFuture<V> future = new CompletableFuture<>();
+        if (plugin == null || Bukkit.isPrimaryThread()) {
+            complete(future, action);
+        } else {
+            Bukkit.getScheduler().runTask(plugin, () -> complete(future, action));
+        }
+        return future;
+    }
+
+    /**
+     * Players are identified by their {@link Player#getUniqueId() unique id}, other senders are not limited per sender.
+     *
+     * @return Sender id
+     */
+    @Nullable
+    @Override
+    public Object senderId() {
+        return sender instanceof Player player ? player.getUniqueId() : null;
+    }
+
+    /**
+     * Whether this execution has been interrupted or the player sending it has disconnected.
+     *
+     * @return Whether cancelled
+     */
+    @Override
+    public boolean isCancelled() {
+        return Thread.currentThread().isInterrupted() || (sender instanceof Player player && !player.isOnline());
+    }
+
+    /**
+     * Reply to the sender. Off the main thread the message is handed to the main thread, preserving order.
+     *
+     * @param message The message to send.
+     * @return Context
+     */
+    @Override
+    public BukkitCommandContext<T> reply(String message) {
+        ReplyBuffer<BaseComponent[]> buffer = this.buffer;
+        if (buffer == null || !buffer.add(TextComponent.fromLegacyText(message))) {
+            if (plugin == null || Bukkit.isPrimaryThread()) {
+                sender.sendMessage(message);
+            } else {
+                Bukkit.getScheduler().runTask(plugin, () -> sender.sendMessage(message));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Reply to the sender with multiple lines. While {@link #buffer() buffering} they join the single buffered chat message,
+     * otherwise they are sent through {@link CommandSender#sendMessage(String...)}.
+     * Off the main thread the message is handed to the main thread, preserving order.
+     *
+     * @param message The lines to send.
+     * @return Context
+     */
+    @Override
+    public BukkitCommandContext<T> reply(String... message) {
+        if (message.length == 0) {
+            return this;
+        } else if (message.length == 1) {
+            return reply(message[0]);
+        }
+
+        ReplyBuffer<BaseComponent[]> buffer = this.buffer;
+        if (buffer != null) {
+            List<BaseComponent[]> lines = new ArrayList<>(message.length);
+            for (String line : message) {
+                lines.add(TextComponent.fromLegacyText(line));
+            }
+            if (buffer.add(join(lines))) {
+                return this;
+            }
+        }
+
+        if (plugin == null || Bukkit.isPrimaryThread()) {
+            sender.sendMessage(message);
+        } else {
+            Bukkit.getScheduler().runTask(plugin, () -> sender.sendMessage(message));
+        }
+        return this;
+    }
+
+    /**
+     * Reply to the sender with chat components.
+     * Off the main thread the message is handed to the main thread, preserving order.
+     *
+     * @param components The components to send.
+     * @return Context
+     */
+    public BukkitCommandContext<T> reply(@Nonnull BaseComponent... components) {
+        ReplyBuffer<BaseComponent[]> buffer = this.buffer;
+        if (buffer == null || !buffer.add(components)) {
+            send(components);
+        }
+        return this;
+    }
+
+    @Override
+    public boolean isBuffering() {
+        return buffer != null;
+    }
+
+    @Override
+    public BukkitCommandContext<T> buffer() {
+        if (buffer == null) {
+            synchronized (this) {
+                if (buffer == null) {
+                    buffer = new ReplyBuffer<>();
+                }
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Send the buffered replies as a single chat message, the lines separated by line breaks.
+     *
+     * @return Context
+     */
+    @Override
+    public BukkitCommandContext<T> flush() {
+        ReplyBuffer<BaseComponent[]> buffer = this.buffer;
+        if (buffer != null) {
+            List<BaseComponent[]> lines = buffer.drain();
+            if (!lines.isEmpty()) {
+                send(join(lines));
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public BukkitCommandContext<T> unbuffer() {
+        ReplyBuffer<BaseComponent[]> buffer;
+        synchronized (this) {
+            buffer = this.buffer;
+            this.buffer = null;
+        }
+        if (buffer != null) {
+            List<BaseComponent[]> lines = buffer.close();
+            if (!lines.isEmpty()) {
+                send(join(lines));
+            }
+        }
+        return this;
+    }
+
+    private void send(BaseComponent[] components) {
+        if (plugin == null || Bukkit.isPrimaryThread()) {
+            deliver(components);
+        } else {
+            Bukkit.getScheduler().runTask(plugin, () -> deliver(components));
+        }
+    }
+
+    private void deliver(BaseComponent[] components) {
+        try {
+            sender.spigot().sendMessage(components);
+        } catch (UnsupportedOperationException ex) {
+            // Custom and proxied senders often leave CommandSender.Spigot unimplemented, fall back to plain text.
+            sender.sendMessage(TextComponent.toLegacyText(components));
+        }
+    }
+
+    /**
+     * Concatenate lines into one message, separated by line breaks.
+     */
+    private static BaseComponent[] join(List<BaseComponent[]> lines) {
+        if (lines.isEmpty()) {
+            return new BaseComponent[0];
+        } else if (lines.size() == 1) {
+            return lines.get(0);
+        }
+
+        int size = lines.size() - 1;
+        for (BaseComponent[] line : lines) {
+            size += line.length;
+        }
+        BaseComponent[] joined = new BaseComponent[size];
+        int i = 0;
+        for (int index = 0; index < lines.size(); index++) {
+            // Separate by position rather than by i, an empty first line still needs its line break.
+            if (index > 0) {
+                joined[i++] = new TextComponent("\n");
+            }
+            BaseComponent[] line = lines.get(index);
+            System.arraycopy(line, 0, joined, i, line.length);
+            i += line.length;
+        }
+        return joined;
+    }
+
+    private static <V> void complete(CompletableFuture<V> future, Supplier<V> action) {
+        try {
+            future.complete(action.get());
+        } catch (Throwable t) {
+            future.completeExceptionally(t);
+        }
+    }
+
+}
@@ -0,0 +1,236 @@
+package tsp.commands.command.bukkit;
+
+import org.bukkit.Server;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandMap;
+import org.bukkit.command.PluginCommand;
+import org.bukkit.command.SimpleCommandMap;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.java.JavaPlugin;
+import tsp.commands.command.help.CommandHelp;
+
+import javax.annotation.Nonnull;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registers {@link AbstractBukkitCommand commands} with the server, either through the plugin.yml or by
+ * {@link #inject(JavaPlugin, AbstractBukkitCommand...) injecting} them into the command map at runtime.
+ * Registering many commands at once updates the command map in a single call,
+ * and command tree resyncs requested during a tick are coalesced into one on the next tick.
+ * Registered commands are added to the {@link CommandHelp#shared() shared help}.
+ * On 1.13+ servers the command trees are also exported to Brigadier, so clients parse them locally.
+ *
+ * @author TheSilentPro (Silent)
+ */
+public final class BukkitCommandRegistry {
+
+    private static final Map<AbstractBukkitCommand, InjectedCommand> INJECTED = new ConcurrentHashMap<>();
+    private static final boolean BRIGADIER = isBrigadierPresent();
+    private static boolean syncScheduled;
+
+    private BukkitCommandRegistry() {}
+
+    /**
+     * Register commands declared in the plugin.yml, applying their executor, tab completer, aliases, description and permission.
+     *
+     * @param plugin The plugin declaring the commands.
+     * @param commands The commands.
+     * @throws NoSuchElementException If a command is not declared in the plugin.yml.
+     */
+    public static void register(@Nonnull JavaPlugin plugin, @Nonnull AbstractBukkitCommand... commands) {
+        Optional<CommandMap> commandMap = getCommandMap(plugin.getServer());
+        List<Command> aliased = new ArrayList<>();
+        for (AbstractBukkitCommand command : commands) {
+            PluginCommand pluginCommand = plugin.getCommand(command.getName());
+            if (pluginCommand == null) {
+                throw new NoSuchElementException("Command '" + command.getName() + "' is not registered in the plugin.yml!");
+            }
+
+            if (commandMap.isPresent() && command.getAliases().filter(aliases -> aliases.length > 0).isPresent()) {
+                // A registered command keeps registering its plugin.yml aliases, unregister it so the new ones take effect,
+                // and drop its labels so registering them again does not conflict with itself.
+                remove(commandMap.get(), pluginCommand);
+                aliased.add(pluginCommand);
+            }
+            command.configure(plugin, pluginCommand);
+            CommandHelp.shared().register(command);
+            if (BRIGADIER) {
+                BukkitBrigadier.register(plugin, command);
+            }
+        }
+
+        // Other plugin.yml commands are already in the command map, only those with aliases set at runtime need registering again.
+        if (!aliased.isEmpty()) {
+            commandMap.get().registerAll(plugin.getName().toLowerCase(Locale.ROOT), aliased);
+        }
+        if (!aliased.isEmpty() || BRIGADIER) {
+            requestSync(plugin);
+        }
+    }
+
+    /**
+     * Register commands that are not declared in the plugin.yml by injecting them into the command map.
+     *
+     * @param plugin The plugin owning the commands.
+     * @param commands The commands.
+     * @throws IllegalStateException If the command map is not accessible.
+     */
+    public static void inject(@Nonnull JavaPlugin plugin, @Nonnull AbstractBukkitCommand... commands) {
+        CommandMap commandMap = getCommandMap(plugin.getServer()).orElseThrow(() -> new IllegalStateException("Command map is not accessible!"));
+        List<Command> injected = new ArrayList<>(commands.length);
+        for (AbstractBukkitCommand command : commands) {
+            command.bind(plugin);
+            InjectedCommand wrapper = new InjectedCommand(plugin, command);
+            InjectedCommand previous = INJECTED.put(command, wrapper);
+            if (previous != null) {
+                remove(commandMap, previous);
+            }
+            injected.add(wrapper);
+            CommandHelp.shared().register(command);
+            if (BRIGADIER) {
+                BukkitBrigadier.register(plugin, command);
+            }
+        }
+
+        commandMap.registerAll(plugin.getName().toLowerCase(Locale.ROOT), injected);
+        requestSync(plugin);
+    }
+
+    /**
+     * Remove {@link #inject(JavaPlugin, AbstractBukkitCommand...) injected} commands from the command map.
+     * Commands that were not injected are ignored.
+     *
+     * @param plugin The plugin owning the commands.
+     * @param commands The commands.
+     */
+    public static void unregister(@Nonnull JavaPlugin plugin, @Nonnull AbstractBukkitCommand... commands) {
+        Optional<CommandMap> commandMap = getCommandMap(plugin.getServer());
+        boolean removed = false;
+        for (AbstractBukkitCommand command : commands) {
+            InjectedCommand wrapper = INJECTED.remove(command);
+            if (wrapper == null) {
+                continue;
+            }
+
+            AsyncTabCompleteListener.unregister(command);
+            CommandHelp.shared().unregister(command);
+            if (BRIGADIER) {
+                BukkitBrigadier.unregister(command);
+            }
+            commandMap.ifPresent(map -> remove(map, wrapper));
+            removed = true;
+        }
+
+        if (removed) {
+            requestSync(plugin);
+        }
+    }
+
+    /**
+     * Remove every command injected by a plugin, e.g. when it disables.
+     *
+     * @param plugin The plugin.
+     */
+    public static void unregisterAll(@Nonnull JavaPlugin plugin) {
+        unregister(plugin, INJECTED.values().stream()
+                .filter(wrapper -> wrapper.getPlugin() == plugin)
+                .map(InjectedCommand::getCommand)
+                .toArray(AbstractBukkitCommand[]::new));
+    }
+
+    /**
+     * Request the command tree to be resent to online players.
+     * Requests made before the next tick are coalesced, so each player receives a single update.
+     *
+     * @param plugin The plugin scheduling the resync.
+     */
+    public static void requestSync(@Nonnull Plugin plugin) {
+        synchronized (INJECTED) {
+            if (syncScheduled || !plugin.isEnabled()) {
+                return;
+            }
+            syncScheduled = true;
+        }
+
+        plugin.getServer().getScheduler().runTask(plugin, () -> {
+            synchronized (INJECTED) {
+                syncScheduled = false;
+            }
+            syncCommands(plugin.getServer());
+        });
+    }
+
+    /**
+     * Retrieve the server's command map.
+     * Not exposed by the api, so it is looked up reflectively.
+     *
+     * @param server The server.
+     * @return The command map, if accessible.
+     */
+    public static Optional<CommandMap> getCommandMap(@Nonnull Server server) {
+        try {
+            Method method = server.getClass().getMethod("getCommandMap");
+            return Optional.of((CommandMap) method.invoke(server));
+        } catch (ReflectiveOperationException | ClassCastException ex) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Bring the server's command tree up to date and resend it to online players, once each.
+     * Prefer {@link #requestSync(Plugin)}, which coalesces resyncs.
+     * On 1.13+ servers the exported command trees are applied to the live tree in place.
+     * Otherwise the server rebuilds it from the command map, which also sends it. Rebuilding is not exposed by the api,
+     * so it is invoked reflectively, failing that only the players are updated.
+     *
+     * @param server The server.
+     */
+    public static void syncCommands(@Nonnull Server server) {
+        // The server's rebuild sends the tree right away, it must not run before the exported trees are applied.
+        if (BRIGADIER && BukkitBrigadier.apply(server)) {
+            updateCommands(server);
+            return;
+        }
+
+        try {
+            server.getClass().getMethod("syncCommands").invoke(server);
+        } catch (ReflectiveOperationException ex) {
+            updateCommands(server);
+        }
+    }
+
+    private static void updateCommands(Server server) {
+        for (Player player : server.getOnlinePlayers()) {
+            player.updateCommands();
+        }
+    }
+
+    /**
+     * Brigadier ships with 1.13+ servers, looked up without loading {@link BukkitBrigadier} which links against it.
+     */
+    private static boolean isBrigadierPresent() {
+        try {
+            Class.forName("com.mojang.brigadier.CommandDispatcher", false, BukkitCommandRegistry.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException ex) {
+            return false;
+        }
+    }
+
+    private static void remove(CommandMap commandMap, Command removed) {
+        removed.unregister(commandMap);
+        if (commandMap instanceof SimpleCommandMap simpleCommandMap) {
+            // Removes the label, its fallback prefixed form and every alias.
+            simpleCommandMap.getKnownCommands().values().removeIf(command -> command == removed);
+        }
+    }
+
+}
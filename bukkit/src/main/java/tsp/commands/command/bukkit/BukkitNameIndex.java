@@ -0,0 +1,142 @@
+package tsp.commands.command.bukkit;
+
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import tsp.commands.command.util.CharTrie;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Case-insensitive name index of online players and loaded worlds.
+ * Each index is built on first lookup and reused for the rest of the tick,
+ * instead of scanning every player or world per lookup.
+ *
+ * @author TheSilentPro (Silent)
+ */
+public final class BukkitNameIndex {
+
+    private static final BukkitNameIndex SHARED = new BukkitNameIndex();
+
+    private volatile CharTrie<Player> players;
+    private volatile CharTrie<World> worlds;
+    private BukkitTask task;
+
+    /**
+     * The index used by the default {@link BukkitParsers parsers}.
+     *
+     * @return Shared index
+     */
+    @Nonnull
+    public static BukkitNameIndex shared() {
+        return SHARED;
+    }
+
+    /**
+     * Start invalidating the index every tick.
+     * Until started, every lookup rebuilds the index.
+     *
+     * @param plugin The plugin owning the task.
+     */
+    public synchronized void start(@Nonnull Plugin plugin) {
+        if (task == null) {
+            task = Bukkit.getScheduler().runTaskTimer(plugin, this::invalidate, 1L, 1L);
+        }
+    }
+
+    public synchronized void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        invalidate();
+    }
+
+    public void invalidate() {
+        players = null;
+        worlds = null;
+    }
+
+    /**
+     * Look up an online player by exact name, falling back to the closest name starting with the input,
+     * like {@link Bukkit#getPlayer(String)}.
+     *
+     * @param name The name, ignoring case.
+     * @return The player, or {@code null} if none matches.
+     */
+    @Nullable
+    public Player getPlayer(@Nonnull String name) {
+        CharTrie<Player> players = players();
+        Player player = players.get(name);
+        if (player != null) {
+            return player;
+        }
+
+        List<Player> matches = players.collect(name, new ArrayList<>());
+        Player closest = null;
+        for (Player match : matches) {
+            if (closest == null || match.getName().length() < closest.getName().length()) {
+                closest = match;
+            }
+        }
+        return closest;
+    }
+
+    /**
+     * Look up an online player by exact name.
+     *
+     * @param name The name, ignoring case.
+     * @return The player, or {@code null} if none matches.
+     */
+    @Nullable
+    public Player getPlayerExact(@Nonnull String name) {
+        return players().get(name);
+    }
+
+    /**
+     * Look up a loaded world by name.
+     *
+     * @param name The name, ignoring case.
+     * @return The world, or {@code null} if none matches.
+     */
+    @Nullable
+    public World getWorld(@Nonnull String name) {
+        return worlds().get(name);
+    }
+
+    private CharTrie<Player> players() {
+        CharTrie<Player> players = this.players;
+        if (players == null) {
+            CharTrie.Builder<Player> builder = CharTrie.builder();
+            for (Player player : Bukkit.getOnlinePlayers()) {
+                builder.put(player.getName(), player);
+            }
+            players = builder.build();
+            if (task != null) {
+                this.players = players;
+            }
+        }
+        return players;
+    }
+
+    private CharTrie<World> worlds() {
+        CharTrie<World> worlds = this.worlds;
+        if (worlds == null) {
+            CharTrie.Builder<World> builder = CharTrie.builder();
+            for (World world : Bukkit.getWorlds()) {
+                builder.put(world.getName(), world);
+            }
+            worlds = builder.build();
+            if (task != null) {
+                this.worlds = worlds;
+            }
+        }
+        return worlds;
+    }
+
+}
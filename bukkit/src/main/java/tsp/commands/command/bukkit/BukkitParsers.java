@@ -0,0 +1,32 @@
+package tsp.commands.command.bukkit;
+
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import tsp.commands.command.parser.ParserRegistry;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Bukkit specific {@link tsp.commands.command.parser.ArgumentParser parsers}.
+ *
+ * @author TheSilentPro (Silent)
+ */
+public final class BukkitParsers {
+
+    private BukkitParsers() {}
+
+    /**
+     * Register the {@link Player} and {@link World} parsers, backed by the {@link BukkitNameIndex#shared() shared} name index.
+     * Existing parsers for these types are kept.
+     *
+     * @param registry The registry.
+     * @return Registry
+     */
+    public static ParserRegistry install(@Nonnull ParserRegistry registry) {
+        BukkitNameIndex index = BukkitNameIndex.shared();
+        return registry
+                .registerIfAbsent(Player.class, index::getPlayer)
+                .registerIfAbsent(World.class, index::getWorld);
+    }
+
+}
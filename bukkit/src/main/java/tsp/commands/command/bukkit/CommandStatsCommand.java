@@ -0,0 +1,86 @@
+package tsp.commands.command.bukkit;
+
+import org.bukkit.command.CommandSender;
+import tsp.commands.command.metrics.CommandMetrics;
+import tsp.commands.command.metrics.DispatchPhase;
+import tsp.commands.command.metrics.LatencyHistogram;
+import tsp.commands.command.metrics.MetricsRegistry;
+import tsp.commands.command.tree.CommandNodeBuilder;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Built-in {@code /commands stats} view of the {@link MetricsRegistry#global() recorded metrics},
+ * listing the command paths that spent the most time in their handlers.
+ * Creating this command enables metrics recording.
+ * <p>
+ * Not declared in any plugin.yml, register it with {@link BukkitCommandRegistry#inject(org.bukkit.plugin.java.JavaPlugin, AbstractBukkitCommand...)}.
+ *
+ * @author TheSilentPro (Silent)
+ */
+public class CommandStatsCommand extends AbstractBukkitCommand {
+
+    private static final int DEFAULT_LIMIT = 10;
+
+    public CommandStatsCommand(String permission, String name) {
+        super(permission, name, new String[0]);
+        MetricsRegistry.global().setEnabled(true);
+    }
+
+    public CommandStatsCommand() {
+        this("commands.stats", "commands");
+    }
+
+    @Override
+    public void tree(CommandNodeBuilder<BukkitCommandContext<CommandSender>> root) {
+        root.literal("stats", stats -> stats
+                .description("Show the commands with the most handler time.")
+                .executes(ctx -> show(ctx, DEFAULT_LIMIT))
+                .argument("limit", Integer.class, limit -> limit.executes(ctx -> show(ctx, ctx.arg(2, Integer.class).orElse(DEFAULT_LIMIT))))
+                .literal("reset", reset -> reset
+                        .description("Reset all recorded metrics.")
+                        .executes(ctx -> {
+                            MetricsRegistry.global().reset();
+                            ctx.reply("Command metrics reset.");
+                        })));
+    }
+
+    @Override
+    public void handle(BukkitCommandContext<CommandSender> ctx) {
+        ctx.reply("Usage: /" + getName() + " stats [limit|reset]");
+    }
+
+    private void show(BukkitCommandContext<CommandSender> ctx, int limit) {
+        List<CommandMetrics> metrics = new ArrayList<>(MetricsRegistry.global().getAll());
+        metrics.removeIf(command -> command.getInvocations() == 0);
+        if (metrics.isEmpty()) {
+            ctx.reply("No commands recorded yet.");
+            return;
+        }
+
+        metrics.sort(Comparator.comparingLong((CommandMetrics command) -> command.getLatency(DispatchPhase.HANDLER).getTotal()).reversed());
+        int shown = Math.min(Math.max(limit, 1), metrics.size());
+        List<String> lines = new ArrayList<>();
+        lines.add("Command stats (" + shown + "/" + metrics.size() + ", handler p50/p99/max in us):");
+        for (CommandMetrics command : metrics.subList(0, shown)) {
+            LatencyHistogram handler = command.getLatency(DispatchPhase.HANDLER);
+            LatencyHistogram parse = command.getLatency(DispatchPhase.PARSE);
+            lines.add(String.format("/%s x%d failed=%d denied=%d limited=%d asserted=%d handler=%d/%d/%d parse=%d/%d",
+                    command.getPath(),
+                    command.getInvocations(),
+                    command.getFailures(),
+                    command.getDenials(),
+                    command.getRateLimited(),
+                    command.getAssertionFailures(),
+                    handler.getPercentile(50) / 1000,
+                    handler.getPercentile(99) / 1000,
+                    handler.getMax() / 1000,
+                    parse.getPercentile(50) / 1000,
+                    parse.getPercentile(99) / 1000));
+        }
+        ctx.reply(lines.toArray(new String[0]));
+    }
+
+}
@@ -0,0 +1,222 @@
+package tsp.commands.command.bukkit;
+
+import net.md_5.bungee.api.chat.BaseComponent;
+import org.bukkit.command.CommandSender;
+import tsp.commands.command.Cmd;
+import tsp.commands.command.context.Argument;
+import tsp.commands.command.context.AssertionFailure;
+import tsp.commands.command.context.CommandLine;
+import tsp.commands.command.flag.Flags;
+import tsp.commands.command.ratelimit.RateLimiter;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * An *empty* {@link BukkitCommandContext}, use the shared instances from {@link #of(AssertionFailure)}.
+ * It has no sender or command, every check fails and every further assertion and action is skipped.
+ *
+ * @author TheSilentPro (Silent)
+ */
+public class EmptyBukkitCommandContext<T extends CommandSender> extends BukkitCommandContext<T> {
+
+    private static final String[] EMPTY = new String[0];
+    private static final Argument[] EMPTY_ARGS = new Argument[0];
+    private static final EmptyBukkitCommandContext<?>[] SHARED = new EmptyBukkitCommandContext<?>[AssertionFailure.values().length];
+
+    static {
+        for (AssertionFailure failure : AssertionFailure.values()) {
+            SHARED[failure.ordinal()] = new EmptyBukkitCommandContext<>(failure);
+        }
+    }
+
+    private final AssertionFailure failure;
+
+    public EmptyBukkitCommandContext() {
+        this(AssertionFailure.ASSERTION);
+    }
+
+    protected EmptyBukkitCommandContext(@Nonnull AssertionFailure failure) {
+        //noinspection DataFlowIssue
+        super(null, EMPTY, null);
+        this.failure = failure;
+    }
+
+    /**
+     * Retrieve the shared empty context for a failure.
+     *
+     * @param failure The failure.
+     * @return Empty context
+     */
+    @SuppressWarnings("unchecked")
+    @Nonnull
+    public static <T extends CommandSender> EmptyBukkitCommandContext<T> of(@Nonnull AssertionFailure failure) {
+        return (EmptyBukkitCommandContext<T>) SHARED[failure.ordinal()];
+    }
+
+    @Nonnull
+    @Override
+    public Argument[] args() {
+        return EMPTY_ARGS;
+    }
+
+    @Nonnull
+    @Override
+    public Flags flags() {
+        return Flags.empty();
+    }
+
+    @Nonnull
+    @Override
+    public CommandLine commandLine() {
+        return CommandLine.empty();
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    @Override
+    public Cmd<T, ?, ?> command() {
+        return null;
+    }
+
+    @Override
+    public void fail(@Nonnull AssertionFailure failure) {}
+
+    @Nonnull
+    @Override
+    public AssertionFailure failure() {
+        return failure;
+    }
+
+    @Override
+    public MinecraftCommandContext<T> assertion(boolean result, @Nonnull AssertionFailure failure) {
+        return this;
+    }
+
+    @Override
+    public MinecraftCommandContext<T> assertion(boolean result) {
+        return this;
+    }
+
+    @Override
+    public MinecraftCommandContext<T> assertPermission(@Nullable String message) {
+        return this;
+    }
+
+    @Override
+    public MinecraftCommandContext<T> assertConsole(@Nullable String message) {
+        return this;
+    }
+
+    @Override
+    public MinecraftCommandContext<T> assertPlayer(@Nullable String message) {
+        return this;
+    }
+
+    @Override
+    public BukkitCommandContext<T> assertOp(@Nullable String message) {
+        return this;
+    }
+
+    @Override
+    public BukkitCommandContext<T> assertCooldown(@Nonnull RateLimiter limiter, @Nullable String message) {
+        return this;
+    }
+
+    @Override
+    public BukkitCommandContext<T> args(BiConsumer<String[], Argument[]> action) {
+        return this;
+    }
+
+    @Override
+    public BukkitCommandContext<T> args(Consumer<String[]> action) {
+        return this;
+    }
+
+    /**
+     * Skips the action, an assertion before it failed.
+     *
+     * @param action The action.
+     * @return Completed future
+     */
+    @Override
+    public CompletableFuture<Void> sync(@Nonnull Runnable action) {
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Skips the action, an assertion before it failed.
+     *
+     * @param action The action.
+     * @return Future cancelled with the {@link #failure() failure}, so dependent stages are skipped as well.
+     */
+    @Override
+    public <V> CompletableFuture<V> supplySync(@Nonnull Supplier<V> action) {
+        return CompletableFuture.failedFuture(new CancellationException("Assertion failed: " + failure));
+    }
+
+    @Override
+    public boolean checkPermission(@Nullable String message) {
+        return false;
+    }
+
+    @Override
+    public boolean hasPermission(@Nonnull String permission) {
+        return false;
+    }
+
+    @Override
+    public boolean isConsole(@Nullable String message) {
+        return false;
+    }
+
+    @Override
+    public boolean isPlayer(@Nullable String message) {
+        return false;
+    }
+
+    @Override
+    public boolean isOp(@Nullable String message) {
+        return false;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return true;
+    }
+
+    @Override
+    public BukkitCommandContext<T> reply(String message) {
+        return this;
+    }
+
+    @Override
+    public BukkitCommandContext<T> reply(String... message) {
+        return this;
+    }
+
+    @Override
+    public BukkitCommandContext<T> reply(@Nonnull BaseComponent... components) {
+        return this;
+    }
+
+    @Override
+    public BukkitCommandContext<T> buffer() {
+        return this;
+    }
+
+    @Override
+    public BukkitCommandContext<T> flush() {
+        return this;
+    }
+
+    @Override
+    public BukkitCommandContext<T> unbuffer() {
+        return this;
+    }
+
+}
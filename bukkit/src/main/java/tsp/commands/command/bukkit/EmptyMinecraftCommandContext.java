@@ -0,0 +1,84 @@
+package tsp.commands.command.bukkit;
+
+import tsp.commands.command.context.AssertionFailure;
+import tsp.commands.command.context.EmptyCommandContext;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * An *empty* {@link MinecraftCommandContext}, use the shared instances from {@link #of(AssertionFailure)}.
+ *
+ * @author TheSilentPro (Silent)
+ */
+public class EmptyMinecraftCommandContext<T> extends EmptyCommandContext<T> implements MinecraftCommandContext<T> {
+
+    private static final EmptyMinecraftCommandContext<?>[] SHARED = new EmptyMinecraftCommandContext<?>[AssertionFailure.values().length];
+
+    static {
+        for (AssertionFailure failure : AssertionFailure.values()) {
+            SHARED[failure.ordinal()] = new EmptyMinecraftCommandContext<>(failure);
+        }
+    }
+
+    public EmptyMinecraftCommandContext() {
+        this(AssertionFailure.ASSERTION);
+    }
+
+    protected EmptyMinecraftCommandContext(@Nonnull AssertionFailure failure) {
+        super(failure);
+    }
+
+    /**
+     * Retrieve the shared empty context for a failure.
+     *
+     * @param failure The failure.
+     * @return Empty context
+     */
+    @SuppressWarnings("unchecked")
+    @Nonnull
+    public static <T> EmptyMinecraftCommandContext<T> of(@Nonnull AssertionFailure failure) {
+        return (EmptyMinecraftCommandContext<T>) SHARED[failure.ordinal()];
+    }
+
+    @Override
+    public MinecraftCommandContext<T> assertion(boolean result, @Nonnull AssertionFailure failure) {
+        return this;
+    }
+
+    @Override
+    public MinecraftCommandContext<T> assertion(boolean result) {
+        return this;
+    }
+
+    @Override
+    public MinecraftCommandContext<T> assertPermission(@Nullable String message) {
+        return this;
+    }
+
+    @Override
+    public MinecraftCommandContext<T> assertConsole(@Nullable String message) {
+        return this;
+    }
+
+    @Override
+    public MinecraftCommandContext<T> assertPlayer(@Nullable String message) {
+        return this;
+    }
+
+    @Override
+    public boolean checkPermission(@Nullable String message) {
+        return false;
+    }
+
+    @Override
+    public boolean isConsole(@Nullable String message) {
+        return false;
+    }
+
+    @Override
+    public boolean isPlayer(@Nullable String message) {
+        return false;
+    }
+
+}
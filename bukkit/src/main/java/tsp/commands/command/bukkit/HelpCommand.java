@@ -0,0 +1,57 @@
+package tsp.commands.command.bukkit;
+
+import org.bukkit.command.CommandSender;
+import tsp.commands.command.help.CommandHelp;
+import tsp.commands.command.help.HelpPages;
+import tsp.commands.command.tree.CommandNodeBuilder;
+
+import java.util.Optional;
+
+/**
+ * Built-in {@code /help [page]} listing the {@link CommandHelp#shared() registered} commands the sender can use.
+ * Senders with the same permissions share pre-rendered pages, see {@link PermissionCache#fingerprint(CommandSender)}.
+ * <p>
+ * Not declared in any plugin.yml, register it with {@link BukkitCommandRegistry#inject(org.bukkit.plugin.java.JavaPlugin, AbstractBukkitCommand...)}.
+ *
+ * @author TheSilentPro (Silent)
+ */
+public class HelpCommand extends AbstractBukkitCommand {
+
+    private final CommandHelp help;
+
+    public HelpCommand(String permission, String name, CommandHelp help, String... aliases) {
+        super(permission, name, aliases);
+        this.help = help;
+    }
+
+    public HelpCommand(String permission, String name) {
+        this(permission, name, CommandHelp.shared());
+    }
+
+    public HelpCommand() {
+        this(null, "help");
+    }
+
+    @Override
+    public Optional<String> getDescription() {
+        return Optional.of("List the commands you can use.");
+    }
+
+    @Override
+    public void tree(CommandNodeBuilder<BukkitCommandContext<CommandSender>> root) {
+        root.argument("page", Integer.class, page -> page
+                .description("Show a page of the command list.")
+                .executes(ctx -> show(ctx, ctx.arg(1, Integer.class).orElse(1))));
+    }
+
+    @Override
+    public void handle(BukkitCommandContext<CommandSender> ctx) {
+        show(ctx, 1);
+    }
+
+    private void show(BukkitCommandContext<CommandSender> ctx, int page) {
+        HelpPages pages = help.pages(PermissionCache.shared().fingerprint(ctx.sender()));
+        ctx.reply(pages.page(page));
+    }
+
+}
@@ -0,0 +1,61 @@
+package tsp.commands.command.bukkit;
+
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandSender;
+import org.bukkit.command.PluginIdentifiableCommand;
+import org.bukkit.plugin.Plugin;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A {@link Command} injected into the command map at runtime, delegating to an {@link AbstractBukkitCommand}.
+ * Used for commands that are not declared in the plugin.yml.
+ *
+ * @author TheSilentPro (Silent)
+ */
+final class InjectedCommand extends Command implements PluginIdentifiableCommand {
+
+    private final Plugin plugin;
+    private final AbstractBukkitCommand command;
+
+    InjectedCommand(Plugin plugin, AbstractBukkitCommand command) {
+        super(
+                command.getName(),
+                command.getDescription().orElse(""),
+                "/" + command.getName(),
+                command.getAliases().map(aliases -> new ArrayList<>(Arrays.asList(aliases))).orElseGet(ArrayList::new)
+        );
+        this.plugin = plugin;
+        this.command = command;
+        command.getPermission().ifPresent(this::setPermission);
+        command.getPermissionMessage().ifPresent(this::setPermissionMessage);
+    }
+
+    @Override
+    public boolean execute(@Nonnull CommandSender sender, @Nonnull String label, @Nonnull String[] args) {
+        if (!plugin.isEnabled() || !testPermission(sender)) {
+            return true;
+        }
+        return command.onCommand(sender, this, label, args);
+    }
+
+    @Nonnull
+    @Override
+    public List<String> tabComplete(@Nonnull CommandSender sender, @Nonnull String alias, @Nonnull String[] args) {
+        return command.onTabComplete(sender, this, alias, args);
+    }
+
+    @Nonnull
+    @Override
+    public Plugin getPlugin() {
+        return plugin;
+    }
+
+    AbstractBukkitCommand getCommand() {
+        return command;
+    }
+
+}
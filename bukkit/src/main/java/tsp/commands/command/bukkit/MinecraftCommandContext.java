@@ -1,7 +1,9 @@
 package tsp.commands.command.bukkit;
 
+import tsp.commands.command.context.AssertionFailure;
 import tsp.commands.command.context.CommandContext;
 
+import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 /**
@@ -12,27 +14,49 @@ import javax.annotation.Nullable;
 public interface MinecraftCommandContext<T> extends CommandContext<T> {
 
     @Override
-    default MinecraftCommandContext<T> assertion(boolean result) {
+    default MinecraftCommandContext<T> assertion(boolean result, @Nonnull AssertionFailure failure) {
         if (result) {
             return this;
         } else {
-            return new EmptyMinecraftCommandContext<>();
+            fail(failure);
+            return EmptyMinecraftCommandContext.of(failure);
         }
     }
 
-    boolean checkPermission(@Nullable String permission);
+    @Override
+    default MinecraftCommandContext<T> assertion(boolean result) {
+        return assertion(result, AssertionFailure.ASSERTION);
+    }
+
+    /**
+     * Check whether the {@link #sender() sender} has the {@link tsp.commands.command.Cmd#getPermission() command's permission}.
+     *
+     * @param message The message to send if they do not, or {@code null} to send the command's permission message.
+     * @return Whether the sender has the permission.
+     */
+    boolean checkPermission(@Nullable String message);
 
     default boolean checkPermission() {
         return checkPermission(null);
     }
 
     /**
-     * Assert that the {@link #sender() sender} has a permission.
+     * Assert that the {@link #sender() sender} has the command's permission.
+     *
+     * @param message The message to send if they do not, or {@code null} to send the command's permission message.
+     * @return Context
+     */
+    default MinecraftCommandContext<T> assertPermission(@Nullable String message) {
+        return assertion(checkPermission(message), AssertionFailure.PERMISSION);
+    }
+
+    /**
+     * Assert that the {@link #sender() sender} has the command's permission.
      *
      * @return Context
      */
-    default CommandContext<T> assertPermission() {
-        return assertion(checkPermission());
+    default MinecraftCommandContext<T> assertPermission() {
+        return assertPermission(null);
     }
 
     boolean isConsole(@Nullable String message);
@@ -48,7 +72,7 @@ public interface MinecraftCommandContext<T> extends CommandContext<T> {
      * @return Context
      */
     default MinecraftCommandContext<T> assertConsole(@Nullable String message) {
-        return assertion(isConsole(message));
+        return assertion(isConsole(message), AssertionFailure.CONSOLE);
     }
 
     /**
@@ -73,7 +97,7 @@ public interface MinecraftCommandContext<T> extends CommandContext<T> {
      * @return Context
      */
     default MinecraftCommandContext<T> assertPlayer(@Nullable String message) {
-        return assertion(isPlayer(message));
+        return assertion(isPlayer(message), AssertionFailure.PLAYER);
     }
 
     /**
@@ -0,0 +1,223 @@
+package tsp.commands.command.bukkit;
+
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerCommandPreprocessEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.server.RemoteServerCommandEvent;
+import org.bukkit.event.server.ServerCommandEvent;
+import org.bukkit.plugin.Plugin;
+import tsp.commands.command.permission.PermissionFingerprint;
+import tsp.commands.command.permission.PermissionIndex;
+
+import javax.annotation.Nonnull;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Memoizes permission decisions per player, so repeated checks skip the permission plugin's resolver.
+ * The {@link PermissionFingerprint fingerprint} of a player is cached alongside, so players with the same rank
+ * share one filtered command tree.
+ * <p>
+ * Decisions are only memoized while LuckPerms is installed, which reports when a player's permissions change.
+ * Other permission plugins, {@link org.bukkit.permissions.PermissionAttachment attachments} and operator changes
+ * raise no event, so without LuckPerms every check reaches {@link CommandSender#hasPermission(String)} and only
+ * fingerprints are kept, for a single tick, so one command resync does not compute them once per node.
+ * <p>
+ * Memoized decisions of a player are dropped when they quit or change world, when LuckPerms recalculates their data,
+ * or when {@link #invalidate(UUID) invalidated} explicitly. Decisions of every player are dropped after an
+ * {@code /op} or {@code /deop} command and, as a safety net for changes that raise no event
+ * (e.g. {@link Player#setOp(boolean)} called by a plugin), periodically. Until then a decision may be stale.
+ * Until {@link #start(Plugin, long) started}, nothing is cached.
+ *
+ * @author TheSilentPro (Silent)
+ */
+public final class PermissionCache implements Listener {
+
+    private static final PermissionCache SHARED = new PermissionCache();
+    /**
+     * How long a fingerprint is kept when decisions are not memoized, one tick.
+     */
+    private static final long FINGERPRINT_TTL = 50_000_000L;
+
+    private final Map<UUID, Decisions> decisions = new ConcurrentHashMap<>();
+    private volatile boolean started;
+    private volatile boolean memoizing;
+    private Plugin plugin;
+
+    @Nonnull
+    public static PermissionCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Start caching decisions, memoizing them if LuckPerms is installed.
+     *
+     * @param plugin The plugin owning the listeners and task.
+     * @param clearInterval Ticks between clearing the whole cache, or {@code 0} to never clear it.
+     */
+    public synchronized void start(@Nonnull Plugin plugin, long clearInterval) {
+        if (started) {
+            return;
+        }
+
+        plugin.getServer().getPluginManager().registerEvents(this, plugin);
+        if (clearInterval > 0) {
+            plugin.getServer().getScheduler().runTaskTimer(plugin, this::invalidateAll, clearInterval, clearInterval);
+        }
+        this.plugin = plugin;
+        memoizing = subscribeLuckPerms(plugin);
+        started = true;
+    }
+
+    /**
+     * Check whether a sender has a permission, memoizing the decision for players while LuckPerms is installed.
+     *
+     * @param sender The sender.
+     * @param permission The permission node, ideally {@link String#intern() interned}.
+     * @return Whether the sender has the permission.
+     */
+    public boolean hasPermission(@Nonnull CommandSender sender, @Nonnull String permission) {
+        if (!memoizing || !(sender instanceof Player player)) {
+            return sender.hasPermission(permission);
+        }
+
+        // Invalidation drops the whole map, so a decision computed concurrently is never written back into the cache.
+        Map<String, Boolean> playerDecisions = decisions.computeIfAbsent(player.getUniqueId(), id -> new Decisions()).permissions;
+        Boolean decision = playerDecisions.get(permission);
+        if (decision == null) {
+            decision = player.hasPermission(permission);
+            playerDecisions.put(permission, decision);
+        }
+        return decision;
+    }
+
+    /**
+     * The fingerprint of a sender over the {@link PermissionIndex#shared() indexed} permissions, memoized for players
+     * until their decisions are invalidated or a command is registered, or for a single tick without LuckPerms.
+     *
+     * @param sender The sender.
+     * @return The fingerprint.
+     */
+    @Nonnull
+    public PermissionFingerprint fingerprint(@Nonnull CommandSender sender) {
+        PermissionIndex index = PermissionIndex.shared();
+        if (!started || !(sender instanceof Player player)) {
+            return index.fingerprint(sender::hasPermission);
+        }
+
+        Decisions playerDecisions = decisions.computeIfAbsent(player.getUniqueId(), id -> new Decisions());
+        PermissionFingerprint fingerprint = playerDecisions.fingerprint;
+        long now = System.nanoTime();
+        if (fingerprint == null || !index.isCurrent(fingerprint) || (!memoizing && now - playerDecisions.fingerprinted > FINGERPRINT_TTL)) {
+            if (memoizing) {
+                Map<String, Boolean> permissions = playerDecisions.permissions;
+                fingerprint = index.fingerprint(permission -> permissions.computeIfAbsent(permission, player::hasPermission));
+            } else {
+                fingerprint = index.fingerprint(player::hasPermission);
+            }
+            playerDecisions.fingerprint = fingerprint;
+            playerDecisions.fingerprinted = now;
+        }
+        return fingerprint;
+    }
+
+    public void invalidate(@Nonnull UUID player) {
+        decisions.remove(player);
+    }
+
+    public void invalidateAll() {
+        decisions.clear();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        invalidate(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldChange(PlayerChangedWorldEvent event) {
+        invalidate(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerCommand(PlayerCommandPreprocessEvent event) {
+        onCommand(event.getMessage());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onServerCommand(ServerCommandEvent event) {
+        onCommand(event.getCommand());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onRemoteCommand(RemoteServerCommandEvent event) {
+        onCommand(event.getCommand());
+    }
+
+    /**
+     * Operator changes raise no event, so the commands changing them are watched instead.
+     * The command runs after its event, the decisions are dropped on the next tick once it applied.
+     */
+    private void onCommand(String line) {
+        if (isOpCommand(line)) {
+            plugin.getServer().getScheduler().runTask(plugin, this::invalidateAll);
+        }
+    }
+
+    static boolean isOpCommand(String line) {
+        int start = line.startsWith("/") ? 1 : 0;
+        int end = line.indexOf(' ', start);
+        String label = line.substring(start, end < 0 ? line.length() : end);
+        // Namespaced, e.g. minecraft:op
+        label = label.substring(label.lastIndexOf(':') + 1);
+        return label.equalsIgnoreCase("op") || label.equalsIgnoreCase("deop");
+    }
+
+    /**
+     * Invalidate a player's decisions whenever LuckPerms recalculates their data.
+     * Bound reflectively, so this is a no-op without LuckPerms.
+     *
+     * @return Whether LuckPerms was found and subscribed to.
+     */
+    private boolean subscribeLuckPerms(Plugin plugin) {
+        try {
+            Class<?> luckPerms = Class.forName("net.luckperms.api.LuckPerms");
+            Class<?> eventBus = Class.forName("net.luckperms.api.event.EventBus");
+            Class<?> event = Class.forName("net.luckperms.api.event.user.UserDataRecalculateEvent");
+            Method getUser = event.getMethod("getUser");
+            Method getUniqueId = Class.forName("net.luckperms.api.model.user.User").getMethod("getUniqueId");
+
+            Object api = Class.forName("net.luckperms.api.LuckPermsProvider").getMethod("get").invoke(null);
+            Object bus = luckPerms.getMethod("getEventBus").invoke(api);
+            Consumer<Object> handler = recalculation -> {
+                try {
+                    invalidate((UUID) getUniqueId.invoke(getUser.invoke(recalculation)));
+                } catch (ReflectiveOperationException ex) {
+                    invalidateAll();
+                }
+            };
+            eventBus.getMethod("subscribe", Object.class, Class.class, Consumer.class).invoke(bus, plugin, event, handler);
+            return true;
+        } catch (ReflectiveOperationException | LinkageError ignored) {
+            // LuckPerms is not installed
+            return false;
+        }
+    }
+
+    private static final class Decisions {
+
+        private final Map<String, Boolean> permissions = new ConcurrentHashMap<>();
+        private volatile PermissionFingerprint fingerprint;
+        private volatile long fingerprinted;
+
+    }
+
+}
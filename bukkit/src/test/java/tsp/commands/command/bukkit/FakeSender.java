@@ -0,0 +1,72 @@
+package tsp.commands.command.bukkit;
+
+import org.bukkit.command.CommandSender;
+import org.bukkit.permissions.Permission;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A {@link CommandSender} proxy granted a fixed set of permissions and recording the messages it receives.
+ * Like most custom senders it leaves {@link CommandSender.Spigot} unimplemented.
+ *
+ * @author TheSilentPro (Silent)
+ */
+public final class FakeSender implements InvocationHandler {
+
+    private final String name;
+    private final Set<String> permissions;
+    private final List<String> messages = new ArrayList<>();
+    private final CommandSender sender;
+
+    public FakeSender(String name, String... permissions) {
+        this.name = name;
+        this.permissions = Set.of(permissions);
+        this.sender = (CommandSender) Proxy.newProxyInstance(CommandSender.class.getClassLoader(), new Class<?>[]{CommandSender.class}, this);
+    }
+
+    public CommandSender sender() {
+        return sender;
+    }
+
+    public List<String> getMessages() {
+        return messages;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "getName":
+            case "toString":
+                return name;
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "equals":
+                return proxy == args[0];
+            case "hasPermission":
+            case "isPermissionSet":
+                return permissions.contains(args[0] instanceof Permission permission ? permission.getName() : (String) args[0]);
+            case "isOp":
+                return false;
+            case "spigot":
+                return new CommandSender.Spigot();
+            case "sendMessage":
+                // The last parameter holds the message, after the sender's UUID in some overloads.
+                Object message = args[args.length - 1];
+                if (message instanceof String[] lines) {
+                    messages.addAll(Arrays.asList(lines));
+                } else {
+                    messages.add((String) message);
+                }
+                return null;
+            default:
+                throw new UnsupportedOperationException(method.getName());
+        }
+    }
+
+}
@@ -0,0 +1,68 @@
+package tsp.commands.command.bukkit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tsp.commands.command.help.CommandHelp;
+import tsp.commands.command.help.HelpPages;
+import tsp.commands.command.permission.PermissionIndex;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HelpCommandTest {
+
+    private CommandHelp help;
+    private HelpCommand command;
+
+    @BeforeEach
+    void setUp() {
+        // Unstarted, the permission cache fingerprints senders against the shared index.
+        help = new CommandHelp(PermissionIndex.shared(), 1);
+        command = new HelpCommand(null, "help", help);
+        command.compileTree();
+        help.register(command);
+    }
+
+    private List<String> run(FakeSender sender, String... args) {
+        command.dispatch(new BukkitCommandContext<>(sender.sender(), args, command));
+        return sender.getMessages();
+    }
+
+    private HelpPages pages(FakeSender sender) {
+        return help.pages(PermissionIndex.shared().fingerprint(sender.sender()::hasPermission));
+    }
+
+    @Test
+    void showsRequestedPage() {
+        FakeSender sender = new FakeSender("Notch");
+        HelpPages pages = pages(sender);
+
+        List<String> messages = run(sender, "2");
+
+        assertTrue(pages.getPageCount() >= 2);
+        assertEquals(List.of(pages.page(2)), messages);
+        assertEquals(String.format(help.getHeader(), 2, pages.getPageCount()), messages.get(0));
+    }
+
+    @Test
+    void showsFirstPageWithoutArgument() {
+        FakeSender sender = new FakeSender("Notch");
+
+        List<String> messages = run(sender);
+
+        assertEquals(List.of(pages(sender).page(1)), messages);
+    }
+
+    @Test
+    void clampsPageToLastPage() {
+        FakeSender sender = new FakeSender("Notch");
+        HelpPages pages = pages(sender);
+
+        List<String> messages = run(sender, "99");
+
+        assertEquals(List.of(pages.page(pages.getPageCount())), messages);
+    }
+
+}
@@ -0,0 +1,58 @@
+package tsp.commands.command.console;
+
+import tsp.commands.command.AbstractCommand;
+
+import javax.annotation.Nonnull;
+
+/**
+ * @author TheSilentPro (Silent)
+ */
+public abstract class AbstractConsoleCommand
+        extends AbstractCommand<ConsoleSender, ConsoleCommandRegistry, ConsoleCommandContext>
+        implements ConsoleCommand
+{
+
+    public AbstractConsoleCommand(String permission, String permissionMessage, String name, String... aliases) {
+        super(permission, permissionMessage, name, aliases);
+    }
+
+    public AbstractConsoleCommand(String permission, String name, String... aliases) {
+        super(permission, name, aliases);
+    }
+
+    public AbstractConsoleCommand(String name, String... aliases) {
+        super(name, aliases);
+    }
+
+    public AbstractConsoleCommand(String name, String alias) {
+        super(name, alias);
+    }
+
+    /**
+     * Execute this command on the calling thread, enforcing its permission and rate limits.
+     *
+     * @param sender The sender.
+     * @param args The arguments.
+     * @return Whether the command was dispatched, {@code false} if it was denied or rate limited.
+     */
+    public boolean execute(@Nonnull ConsoleSender sender, @Nonnull String[] args) {
+        ConsoleCommandContext ctx = new ConsoleCommandContext(sender, args, this);
+        String permission = getPermission().orElse(null);
+        if (permission != null && !sender.hasPermission(permission)) {
+            getPermissionMessage().ifPresent(ctx::reply);
+            return false;
+        }
+        if (!tryAcquire(ctx)) {
+            return false;
+        }
+
+        dispatch(ctx);
+        return true;
+    }
+
+    @Override
+    public void register(ConsoleCommandRegistry registry) {
+        registry.register(this);
+    }
+
+}
@@ -0,0 +1,176 @@
+package tsp.commands.command.console;
+
+import tsp.commands.command.metrics.LatencyHistogram;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The outcome of a {@link BatchRunner} run: throughput over the whole run and the latency of each command.
+ *
+ * @author TheSilentPro (Silent)
+ */
+public final class BatchReport {
+
+    private final int threads;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final Map<String, LatencyHistogram> latencies = new ConcurrentHashMap<>();
+    private final LongAdder unknown = new LongAdder();
+    private final LongAdder denied = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final AtomicReference<Throwable> firstError = new AtomicReference<>();
+    private long elapsed;
+
+    BatchReport(int threads) {
+        this.threads = threads;
+    }
+
+    void record(String command, long nanos) {
+        latency.record(nanos);
+        latencies.computeIfAbsent(command, c -> new LatencyHistogram()).record(nanos);
+    }
+
+    void recordUnknown(long count) {
+        unknown.add(count);
+    }
+
+    void recordDenied() {
+        denied.increment();
+    }
+
+    void recordError(Throwable error) {
+        errors.increment();
+        firstError.compareAndSet(null, error);
+    }
+
+    void finish(long elapsed) {
+        this.elapsed = elapsed;
+    }
+
+    /**
+     * @return Worker threads running asynchronous commands, {@code 0} if all ran on the calling thread
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * The number of dispatched commands, including denied and failed ones.
+     *
+     * @return Dispatched commands
+     */
+    public long getDispatched() {
+        return latency.getCount();
+    }
+
+    /**
+     * The number of lines naming no registered command, these are skipped.
+     *
+     * @return Unknown commands
+     */
+    public long getUnknown() {
+        return unknown.sum();
+    }
+
+    /**
+     * The number of commands refused for lacking permission or exceeding a rate limit.
+     *
+     * @return Denied commands
+     */
+    public long getDenied() {
+        return denied.sum();
+    }
+
+    /**
+     * The number of commands that threw.
+     *
+     * @return Failed commands
+     */
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    /**
+     * The first exception thrown by a command, to investigate {@link #getErrors() errors}.
+     *
+     * @return First error, or {@code null} if none was thrown.
+     */
+    @Nullable
+    public Throwable getFirstError() {
+        return firstError.get();
+    }
+
+    /**
+     * The wall clock time of the run, excluding warmup.
+     *
+     * @return Elapsed nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsed;
+    }
+
+    /**
+     * @return Dispatched commands per second
+     */
+    public double getThroughput() {
+        return elapsed == 0 ? 0 : getDispatched() * 1_000_000_000D / elapsed;
+    }
+
+    /**
+     * The latency of every dispatched command.
+     *
+     * @return Latency histogram
+     */
+    @Nonnull
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    /**
+     * The latency of each command, by command name.
+     *
+     * @return Latency histograms
+     */
+    @Nonnull
+    public Map<String, LatencyHistogram> getLatencies() {
+        return Collections.unmodifiableMap(latencies);
+    }
+
+    /**
+     * Format this report as a summary line followed by a line per command, latencies in microseconds.
+     *
+     * @return Report
+     */
+    @Nonnull
+    public String format() {
+        StringBuilder builder = new StringBuilder(String.format("%d commands in %.3fs: %.0f commands/s, workers=%d unknown=%d denied=%d errors=%d%n",
+                getDispatched(), elapsed / 1e9, getThroughput(), threads, getUnknown(), getDenied(), getErrors()));
+        builder.append(line("*", latency));
+        for (Map.Entry<String, LatencyHistogram> entry : new TreeMap<>(latencies).entrySet()) {
+            builder.append(line(entry.getKey(), entry.getValue()));
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public String toString() {
+        return format();
+    }
+
+    private static String line(String name, LatencyHistogram histogram) {
+        return String.format("%s: count=%d mean=%.1fus p50=%.1fus p99=%.1fus max=%.1fus%n",
+                name,
+                histogram.getCount(),
+                histogram.getMean() / 1000,
+                histogram.getPercentile(50) / 1000D,
+                histogram.getPercentile(99) / 1000D,
+                histogram.getMax() / 1000D);
+    }
+
+}
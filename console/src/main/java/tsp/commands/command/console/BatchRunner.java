@@ -0,0 +1,219 @@
+package tsp.commands.command.console;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Replays a script of command lines against a {@link ConsoleCommandRegistry}, e.g. a captured log of player commands,
+ * and {@link BatchReport reports} the throughput and the latency of each command.
+ * <p>
+ * Lines are resolved to their command once, so only dispatch is measured. Synchronous commands run in script order
+ * on the calling thread, like on a server's main thread, while {@link tsp.commands.command.Cmd#isAsync() asynchronous}
+ * commands are spread over the worker {@link #threads(int) threads}, if any.
+ *
+ * <pre>{@code
+ * BatchReport report = new BatchRunner(registry, ConsoleSender.discarding("replay"))
+ *         .warmup(3)
+ *         .iterations(10)
+ *         .threads(4)
+ *         .run(Path.of("commands.log"));
+ * System.out.print(report.format());
+ * }</pre>
+ *
+ * @author TheSilentPro (Silent)
+ */
+public final class BatchRunner {
+
+    private final ConsoleCommandRegistry registry;
+    private final ConsoleSender sender;
+    private int warmup;
+    private int iterations = 1;
+    private int threads;
+
+    public BatchRunner(@Nonnull ConsoleCommandRegistry registry, @Nonnull ConsoleSender sender) {
+        this.registry = Objects.requireNonNull(registry, "registry");
+        this.sender = Objects.requireNonNull(sender, "sender");
+    }
+
+    /**
+     * Replay the script this many times before measuring, so the jit has compiled the dispatch path.
+     *
+     * @param warmup Warmup iterations, {@code 0} by default.
+     * @return Runner
+     */
+    public BatchRunner warmup(int warmup) {
+        if (warmup < 0) {
+            throw new IllegalArgumentException("Warmup must not be negative!");
+        }
+        this.warmup = warmup;
+        return this;
+    }
+
+    /**
+     * Replay the script this many times while measuring.
+     *
+     * @param iterations Measured iterations, {@code 1} by default.
+     * @return Runner
+     */
+    public BatchRunner iterations(int iterations) {
+        if (iterations < 1) {
+            throw new IllegalArgumentException("Iterations must be positive!");
+        }
+        this.iterations = iterations;
+        return this;
+    }
+
+    /**
+     * Run asynchronous commands on this many worker threads, concurrently with the calling thread.
+     *
+     * @param threads Worker threads, {@code 0} by default to run every command on the calling thread.
+     * @return Runner
+     */
+    public BatchRunner threads(int threads) {
+        if (threads < 0) {
+            throw new IllegalArgumentException("Threads must not be negative!");
+        }
+        this.threads = threads;
+        return this;
+    }
+
+    /**
+     * Replay a script file, see {@link #load(Path)}.
+     *
+     * @param script The script.
+     * @return Report of the measured iterations
+     * @throws IOException If the script can not be read.
+     * @throws InterruptedException If interrupted while waiting for asynchronous commands.
+     */
+    @Nonnull
+    public BatchReport run(@Nonnull Path script) throws IOException, InterruptedException {
+        return run(load(script));
+    }
+
+    /**
+     * Replay command lines.
+     *
+     * @param lines The command lines.
+     * @return Report of the measured iterations
+     * @throws InterruptedException If interrupted while waiting for asynchronous commands.
+     */
+    @Nonnull
+    public BatchReport run(@Nonnull List<String> lines) throws InterruptedException {
+        List<Entry> entries = new ArrayList<>(lines.size());
+        int unknown = 0;
+        for (String line : lines) {
+            String[] tokens = ConsoleCommandRegistry.split(line);
+            AbstractConsoleCommand command = tokens.length == 0 ? null : registry.getCommand(tokens[0]).orElse(null);
+            if (command == null) {
+                unknown++;
+            } else {
+                entries.add(new Entry(command, Arrays.copyOfRange(tokens, 1, tokens.length)));
+            }
+        }
+        Entry[] script = entries.toArray(new Entry[0]);
+
+        if (warmup > 0) {
+            replay(script, warmup, new BatchReport(threads));
+        }
+
+        BatchReport report = new BatchReport(threads);
+        report.recordUnknown((long) unknown * iterations);
+        long start = System.nanoTime();
+        replay(script, iterations, report);
+        report.finish(System.nanoTime() - start);
+        return report;
+    }
+
+    /**
+     * Read a script, one command line per line.
+     * Blank lines and lines starting with {@code #} are skipped.
+     *
+     * @param script The script.
+     * @return The command lines
+     * @throws IOException If the script can not be read.
+     */
+    @Nonnull
+    public static List<String> load(@Nonnull Path script) throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (String line : Files.readAllLines(script, StandardCharsets.UTF_8)) {
+            if (!ConsoleCommandRegistry.isComment(line)) {
+                lines.add(line);
+            }
+        }
+        return lines;
+    }
+
+    private void replay(Entry[] script, int iterations, BatchReport report) throws InterruptedException {
+        ExecutorService workers = threads > 0 ? Executors.newFixedThreadPool(threads, new WorkerFactory()) : null;
+        try {
+            for (int i = 0; i < iterations; i++) {
+                for (Entry entry : script) {
+                    if (workers != null && entry.command.isAsync()) {
+                        workers.execute(() -> execute(entry, report));
+                    } else {
+                        execute(entry, report);
+                    }
+                }
+            }
+        } finally {
+            if (workers != null) {
+                workers.shutdown();
+                workers.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private void execute(Entry entry, BatchReport report) {
+        long start = System.nanoTime();
+        try {
+            if (!entry.command.execute(sender, entry.args)) {
+                report.recordDenied();
+            }
+        } catch (RuntimeException ex) {
+            report.recordError(ex);
+        } finally {
+            report.record(entry.name, System.nanoTime() - start);
+        }
+    }
+
+    private static final class Entry {
+
+        private final AbstractConsoleCommand command;
+        private final String name;
+        private final String[] args;
+
+        private Entry(AbstractConsoleCommand command, String[] args) {
+            this.command = command;
+            this.name = command.getName().toLowerCase(Locale.ROOT);
+            this.args = args;
+        }
+
+    }
+
+    private static final class WorkerFactory implements ThreadFactory {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(@Nonnull Runnable task) {
+            Thread thread = new Thread(task, "commands-batch-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+
+    }
+
+}
@@ -0,0 +1,8 @@
+package tsp.commands.command.console;
+
+import tsp.commands.command.Cmd;
+
+/**
+ * @author TheSilentPro (Silent)
+ */
+public interface ConsoleCommand extends Cmd<ConsoleSender, ConsoleCommandRegistry, ConsoleCommandContext> {}
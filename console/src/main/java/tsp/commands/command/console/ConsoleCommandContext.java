@@ -0,0 +1,262 @@
+package tsp.commands.command.console;
+
+import tsp.commands.command.Cmd;
+import tsp.commands.command.context.Argument;
+import tsp.commands.command.context.AssertionFailure;
+import tsp.commands.command.context.CommandContext;
+import tsp.commands.command.context.CommandLine;
+import tsp.commands.command.context.ReplyBuffer;
+import tsp.commands.command.context.SimpleArgument;
+import tsp.commands.command.flag.Flags;
+import tsp.commands.command.util.BiOptional;
+import tsp.commands.command.util.BiOptionalDouble;
+import tsp.commands.command.util.BiOptionalInt;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.List;
+
+/**
+ * @author TheSilentPro (Silent)
+ */
+public class ConsoleCommandContext implements CommandContext<ConsoleSender> {
+
+    @Nonnull
+    private final ConsoleSender sender;
+    @Nonnull
+    private final String[] arguments;
+    @Nonnull
+    private final Cmd<ConsoleSender, ?, ?> command;
+    private Argument[] args;
+    private Flags flags;
+    private CommandLine line;
+    private AssertionFailure failure;
+    private BiOptional<?, CommandContext<ConsoleSender>> empty;
+    private BiOptionalInt<CommandContext<ConsoleSender>> emptyInt;
+    private BiOptionalDouble<CommandContext<ConsoleSender>> emptyDouble;
+    private volatile ReplyBuffer<String> buffer;
+
+    public ConsoleCommandContext(@Nonnull ConsoleSender sender, @Nonnull String[] arguments, @Nonnull Cmd<ConsoleSender, ?, ?> command) {
+        this.sender = sender;
+        this.arguments = arguments;
+        this.command = command;
+    }
+
+    @Nonnull
+    @Override
+    public ConsoleSender sender() {
+        return sender;
+    }
+
+    @Nonnull
+    @Override
+    public String[] rawArgs() {
+        return arguments;
+    }
+
+    @Nonnull
+    @Override
+    public Cmd<ConsoleSender, ?, ?> command() {
+        return command;
+    }
+
+    /**
+     * Created on first use and reused for every failed lookup on this context.
+     *
+     * @return Cached empty optional
+     */
+    @SuppressWarnings("unchecked")
+    @Nonnull
+    @Override
+    public <V> BiOptional<V, CommandContext<ConsoleSender>> emptyOptional() {
+        BiOptional<?, CommandContext<ConsoleSender>> empty = this.empty;
+        if (empty == null) {
+            empty = this.empty = BiOptional.empty(this);
+        }
+        return (BiOptional<V, CommandContext<ConsoleSender>>) empty;
+    }
+
+    /**
+     * Created on first use and reused for every missing or invalid {@link #intArg(int, String) int argument} on this context.
+     *
+     * @return Cached empty optional
+     */
+    @Nonnull
+    @Override
+    public BiOptionalInt<CommandContext<ConsoleSender>> emptyInt() {
+        BiOptionalInt<CommandContext<ConsoleSender>> emptyInt = this.emptyInt;
+        if (emptyInt == null) {
+            emptyInt = this.emptyInt = BiOptionalInt.empty(this);
+        }
+        return emptyInt;
+    }
+
+    /**
+     * Created on first use and reused for every missing or invalid {@link #doubleArg(int, String) double argument} on this context.
+     *
+     * @return Cached empty optional
+     */
+    @Nonnull
+    @Override
+    public BiOptionalDouble<CommandContext<ConsoleSender>> emptyDouble() {
+        BiOptionalDouble<CommandContext<ConsoleSender>> emptyDouble = this.emptyDouble;
+        if (emptyDouble == null) {
+            emptyDouble = this.emptyDouble = BiOptionalDouble.empty(this);
+        }
+        return emptyDouble;
+    }
+
+    /**
+     * Lazily computes the {@link Argument arguments} once per context.
+     *
+     * @return Cached arguments
+     */
+    @Nonnull
+    @Override
+    public Argument[] args() {
+        Argument[] args = this.args;
+        if (args == null) {
+            args = new Argument[arguments.length];
+            for (int i = 0; i < arguments.length; i++) {
+                args[i] = new SimpleArgument(i, arguments[i]);
+            }
+            this.args = args;
+        }
+        return args;
+    }
+
+    /**
+     * Tokenizes the arguments on first use and caches the result for this context.
+     *
+     * @return Cached flags
+     */
+    @Nonnull
+    @Override
+    public Flags flags() {
+        Flags flags = this.flags;
+        if (flags == null) {
+            flags = this.flags = Flags.parse(arguments, command.getFlagSpec());
+        }
+        return flags;
+    }
+
+    /**
+     * Tokenizes the arguments on first use and caches the result for this context.
+     *
+     * @return Cached command line
+     */
+    @Nonnull
+    @Override
+    public CommandLine commandLine() {
+        CommandLine line = this.line;
+        if (line == null) {
+            line = this.line = CommandLine.parse(arguments);
+        }
+        return line;
+    }
+
+    @Override
+    public boolean hasPermission(@Nonnull String permission) {
+        return sender.hasPermission(permission);
+    }
+
+    /**
+     * Keeps the first failure, later assertions run on the returned empty context and are skipped.
+     *
+     * @param failure The failure.
+     */
+    @Override
+    public void fail(@Nonnull AssertionFailure failure) {
+        if (this.failure == null) {
+            this.failure = failure;
+        }
+    }
+
+    @Nullable
+    @Override
+    public AssertionFailure failure() {
+        return failure;
+    }
+
+    /**
+     * Senders are identified by their {@link ConsoleSender#getName() name}.
+     *
+     * @return Sender id
+     */
+    @Nonnull
+    @Override
+    public Object senderId() {
+        return sender.getName();
+    }
+
+    @Override
+    public ConsoleCommandContext reply(String message) {
+        ReplyBuffer<String> buffer = this.buffer;
+        if (buffer == null || !buffer.add(message)) {
+            sender.sendMessage(message);
+        }
+        return this;
+    }
+
+    /**
+     * Reply to the sender with multiple lines, sent as a single message.
+     *
+     * @param message The lines to send.
+     * @return Context
+     */
+    @Override
+    public ConsoleCommandContext reply(String... message) {
+        return reply(String.join("\n", message));
+    }
+
+    @Override
+    public boolean isBuffering() {
+        return buffer != null;
+    }
+
+    @Override
+    public ConsoleCommandContext buffer() {
+        if (buffer == null) {
+            synchronized (this) {
+                if (buffer == null) {
+                    buffer = new ReplyBuffer<>();
+                }
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Send the buffered replies as a single message, one line each.
+     *
+     * @return Context
+     */
+    @Override
+    public ConsoleCommandContext flush() {
+        ReplyBuffer<String> buffer = this.buffer;
+        if (buffer != null) {
+            send(buffer.drain());
+        }
+        return this;
+    }
+
+    @Override
+    public ConsoleCommandContext unbuffer() {
+        ReplyBuffer<String> buffer;
+        synchronized (this) {
+            buffer = this.buffer;
+            this.buffer = null;
+        }
+        if (buffer != null) {
+            send(buffer.close());
+        }
+        return this;
+    }
+
+    private void send(List<String> lines) {
+        if (!lines.isEmpty()) {
+            sender.sendMessage(String.join("\n", lines));
+        }
+    }
+
+}
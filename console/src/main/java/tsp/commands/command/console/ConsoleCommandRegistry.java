@@ -0,0 +1,215 @@
+package tsp.commands.command.console;
+
+import tsp.commands.command.execution.AsyncDispatcher;
+import tsp.commands.command.util.CharTrie;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves command lines to {@link AbstractConsoleCommand console commands} by name and alias, case insensitively.
+ * Unknown labels are answered with the closest labels, found through a trie rebuilt whenever commands are (un)registered.
+ *
+ * @author TheSilentPro (Silent)
+ */
+public class ConsoleCommandRegistry {
+
+    private final Map<String, AbstractConsoleCommand> labels = new ConcurrentHashMap<>();
+    private final Set<AbstractConsoleCommand> commands = ConcurrentHashMap.newKeySet();
+    private volatile CharTrie<AbstractConsoleCommand> similar = CharTrie.empty();
+    @Nullable
+    private final AsyncDispatcher dispatcher;
+    private String unknownMessage = "Unknown command.";
+    private String busyMessage = "This command is busy, please try again shortly.";
+
+    /**
+     * Create a registry.
+     *
+     * @param dispatcher Runs {@link tsp.commands.command.Cmd#isAsync() asynchronous} commands,
+     *                   or {@code null} to run every command on the dispatching thread.
+     */
+    public ConsoleCommandRegistry(@Nullable AsyncDispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+    }
+
+    public ConsoleCommandRegistry() {
+        this(null);
+    }
+
+    /**
+     * Register commands, compiling their dispatch trees.
+     * A label already taken by another command is reassigned to the last registered one.
+     *
+     * @param commands The commands.
+     */
+    public synchronized void register(@Nonnull AbstractConsoleCommand... commands) {
+        for (AbstractConsoleCommand command : commands) {
+            command.compileTree();
+            this.commands.add(command);
+            labels.put(command.getName().toLowerCase(Locale.ROOT), command);
+            for (String alias : command.getAliases().orElse(new String[0])) {
+                labels.put(alias.toLowerCase(Locale.ROOT), command);
+            }
+        }
+        index();
+    }
+
+    /**
+     * Remove commands, commands that are not registered are ignored.
+     *
+     * @param commands The commands.
+     */
+    public synchronized void unregister(@Nonnull AbstractConsoleCommand... commands) {
+        List<AbstractConsoleCommand> removed = Arrays.asList(commands);
+        this.commands.removeAll(removed);
+        labels.values().removeIf(removed::contains);
+        index();
+    }
+
+    @Nonnull
+    public Optional<AbstractConsoleCommand> getCommand(@Nonnull String label) {
+        return Optional.ofNullable(labels.get(label.toLowerCase(Locale.ROOT)));
+    }
+
+    @Nonnull
+    public Collection<AbstractConsoleCommand> getCommands() {
+        return Collections.unmodifiableSet(commands);
+    }
+
+    /**
+     * The names of the commands whose name or an alias is closest to an unknown label.
+     *
+     * @param label The label.
+     * @return Command names, nearest first.
+     */
+    @Nonnull
+    public List<String> suggest(@Nonnull String label) {
+        List<AbstractConsoleCommand> matches = similar.search(label, label.length() <= 5 ? 1 : 2, new ArrayList<>());
+        List<String> names = new ArrayList<>(matches.size());
+        for (AbstractConsoleCommand match : matches) {
+            if (!names.contains(match.getName())) {
+                names.add(match.getName());
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Dispatch a command line, e.g. {@code "/shop give diamond 64"}, the leading slash being optional.
+     *
+     * @param sender The sender.
+     * @param line The command line.
+     * @return Whether the line named a registered command, otherwise the {@link #getUnknownMessage() unknown message}
+     *         is sent along with the {@link #suggest(String) closest} commands.
+     */
+    public boolean dispatch(@Nonnull ConsoleSender sender, @Nonnull String line) {
+        String[] tokens = split(line);
+        AbstractConsoleCommand command = tokens.length == 0 ? null : labels.get(tokens[0].toLowerCase(Locale.ROOT));
+        if (command == null) {
+            List<String> suggestions = tokens.length == 0 ? Collections.emptyList() : suggest(tokens[0]);
+            sender.sendMessage(suggestions.isEmpty()
+                    ? unknownMessage
+                    : unknownMessage + "\nDid you mean: " + String.join(", ", suggestions.subList(0, Math.min(3, suggestions.size()))) + "?");
+            return false;
+        }
+
+        String[] args = Arrays.copyOfRange(tokens, 1, tokens.length);
+        if (command.isAsync() && dispatcher != null) {
+            if (dispatcher.submit(command, sender.getName(), () -> command.execute(sender, args)) == null) {
+                sender.sendMessage(busyMessage);
+            }
+        } else {
+            command.execute(sender, args);
+        }
+        return true;
+    }
+
+    /**
+     * Dispatch every line of a reader until it is exhausted, e.g. {@link System#in}.
+     * Blank lines and lines starting with {@code #} are skipped.
+     *
+     * @param sender The sender.
+     * @param reader The reader.
+     * @throws IOException If reading fails.
+     */
+    public void listen(@Nonnull ConsoleSender sender, @Nonnull BufferedReader reader) throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (!isComment(line)) {
+                dispatch(sender, line);
+            }
+        }
+    }
+
+    public String getUnknownMessage() {
+        return unknownMessage;
+    }
+
+    public void setUnknownMessage(@Nonnull String unknownMessage) {
+        this.unknownMessage = unknownMessage;
+    }
+
+    public String getBusyMessage() {
+        return busyMessage;
+    }
+
+    public void setBusyMessage(@Nonnull String busyMessage) {
+        this.busyMessage = busyMessage;
+    }
+
+    private void index() {
+        CharTrie.Builder<AbstractConsoleCommand> builder = CharTrie.builder();
+        labels.forEach(builder::put);
+        similar = builder.build();
+    }
+
+    /**
+     * Split a command line into its label and arguments on runs of whitespace, dropping a leading slash.
+     *
+     * @param line The command line.
+     * @return The label followed by the arguments, empty for a blank line.
+     */
+    static String[] split(String line) {
+        List<String> tokens = new ArrayList<>();
+        int length = line.length();
+        int i = 0;
+        while (i < length && Character.isWhitespace(line.charAt(i))) {
+            i++;
+        }
+        if (i < length && line.charAt(i) == '/') {
+            i++;
+        }
+
+        while (i < length) {
+            while (i < length && Character.isWhitespace(line.charAt(i))) {
+                i++;
+            }
+            int start = i;
+            while (i < length && !Character.isWhitespace(line.charAt(i))) {
+                i++;
+            }
+            if (i > start) {
+                tokens.add(line.substring(start, i));
+            }
+        }
+        return tokens.toArray(new String[0]);
+    }
+
+    static boolean isComment(String line) {
+        String stripped = line.strip();
+        return stripped.isEmpty() || stripped.charAt(0) == '#';
+    }
+
+}
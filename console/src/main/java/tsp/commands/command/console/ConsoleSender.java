@@ -0,0 +1,82 @@
+package tsp.commands.command.console;
+
+import javax.annotation.Nonnull;
+import java.io.PrintStream;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * The sender of {@link ConsoleCommand console commands}, e.g. a terminal or a replayed script.
+ * Messages go to an output which must be safe to call from every thread commands are dispatched on.
+ *
+ * @author TheSilentPro (Silent)
+ */
+public final class ConsoleSender {
+
+    private final String name;
+    private final Consumer<String> output;
+    private final Predicate<String> permissions;
+
+    /**
+     * Create a sender.
+     *
+     * @param name The name, also used to identify the sender for rate limits.
+     * @param output Receives every message sent to the sender.
+     * @param permissions Tests the permissions of the sender.
+     */
+    public ConsoleSender(@Nonnull String name, @Nonnull Consumer<String> output, @Nonnull Predicate<String> permissions) {
+        this.name = Objects.requireNonNull(name, "name");
+        this.output = Objects.requireNonNull(output, "output");
+        this.permissions = Objects.requireNonNull(permissions, "permissions");
+    }
+
+    /**
+     * A sender printing to a stream with every permission.
+     *
+     * @param name The name.
+     * @param out The stream.
+     * @return Sender
+     */
+    public static ConsoleSender of(@Nonnull String name, @Nonnull PrintStream out) {
+        return new ConsoleSender(name, out::println, permission -> true);
+    }
+
+    /**
+     * A sender printing to {@link System#out} with every permission.
+     *
+     * @return Sender
+     */
+    public static ConsoleSender stdout() {
+        return of("CONSOLE", System.out);
+    }
+
+    /**
+     * A sender discarding its messages with every permission, so replies do not skew measurements.
+     *
+     * @param name The name.
+     * @return Sender
+     */
+    public static ConsoleSender discarding(@Nonnull String name) {
+        return new ConsoleSender(name, message -> {}, permission -> true);
+    }
+
+    @Nonnull
+    public String getName() {
+        return name;
+    }
+
+    public void sendMessage(String message) {
+        output.accept(message);
+    }
+
+    public boolean hasPermission(@Nonnull String permission) {
+        return permissions.test(permission);
+    }
+
+    @Override
+    public String toString() {
+        return "ConsoleSender{" + name + "}";
+    }
+
+}
@@ -0,0 +1,174 @@
+package tsp.commands.command;
+
+import tsp.commands.command.context.CommandContext;
+import tsp.commands.command.metrics.DispatchPhase;
+import tsp.commands.command.metrics.MetricsRegistry;
+import tsp.commands.command.ratelimit.RateLimit;
+import tsp.commands.command.ratelimit.RateLimiter;
+import tsp.commands.command.tree.CommandTree;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * @author TheSilentPro (Silent)
+ */
+public abstract class AbstractCommand<T, H, C extends CommandContext<T>> implements Cmd<T, H, C> {
+
+    private final String name;
+    private final String[] aliases;
+    private final String permission;
+    private final String permissionMessage;
+    private volatile CommandTree<C> tree;
+    private volatile Optional<RateLimiter> rateLimiter;
+
+    public AbstractCommand(String permission, String permissionMessage, String name, String... aliases) {
+        this.name = name;
+        this.aliases = aliases;
+        // Interned so per-sender permission caches hash and compare a single shared instance.
+        this.permission = permission != null ? permission.intern() : null;
+        this.permissionMessage = permissionMessage;
+    }
+
+    public AbstractCommand(String permission, String name, String... aliases) {
+        this(permission, null, name, aliases);
+    }
+
+    public AbstractCommand(String name, String... aliases) {
+        this(null, null, name, aliases);
+    }
+
+    public AbstractCommand(String name, String alias) {
+        this(null, null, name, new String[]{alias});
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Optional<String[]> getAliases() {
+        return Optional.ofNullable(aliases);
+    }
+
+    @Override
+    public Optional<String> getPermission() {
+        return Optional.ofNullable(permission);
+    }
+
+    @Override
+    public Optional<String> getPermissionMessage() {
+        return Optional.ofNullable(permissionMessage);
+    }
+
+    /**
+     * Retrieve the compiled dispatch tree, compiling it if {@link #register(Object) registration} has not yet done so.
+     *
+     * @return Compiled tree
+     */
+    public CommandTree<C> getTree() {
+        CommandTree<C> tree = this.tree;
+        if (tree == null) {
+            tree = compileTree();
+        }
+        return tree;
+    }
+
+    /**
+     * (Re)compile the dispatch tree from {@link #tree(tsp.commands.command.tree.CommandNodeBuilder)}.
+     *
+     * @return Compiled tree
+     */
+    public CommandTree<C> compileTree() {
+        return this.tree = CommandTree.compile(this);
+    }
+
+    /**
+     * Retrieve the rate limiter enforcing {@link #getRateLimit()} and {@link #getGlobalRateLimit()}, created on first use.
+     *
+     * @return Rate limiter, empty if this command is not limited.
+     */
+    public Optional<RateLimiter> getRateLimiter() {
+        Optional<RateLimiter> rateLimiter = this.rateLimiter;
+        if (rateLimiter == null) {
+            synchronized (this) {
+                rateLimiter = this.rateLimiter;
+                if (rateLimiter == null) {
+                    RateLimit limit = getRateLimit().orElse(null);
+                    RateLimit globalLimit = getGlobalRateLimit().orElse(null);
+                    rateLimiter = limit == null && globalLimit == null ? Optional.empty() : Optional.of(new RateLimiter(limit, globalLimit));
+                    this.rateLimiter = rateLimiter;
+                }
+            }
+        }
+        return rateLimiter;
+    }
+
+    /**
+     * Acquire a {@link #getRateLimiter() rate limit} permit for the sender of a context,
+     * sending the limit's message if it is exceeded.
+     *
+     * @param ctx The context.
+     * @return Whether the command may be executed.
+     */
+    public boolean tryAcquire(C ctx) {
+        Optional<RateLimiter> rateLimiter = getRateLimiter();
+        if (rateLimiter.isEmpty() || rateLimiter.get().tryAcquire(ctx.senderId())) {
+            return true;
+        }
+
+        if (MetricsRegistry.global().isEnabled()) {
+            getTree().getRoot().getMetrics().recordRateLimited();
+        }
+        rateLimiter.get().getMessage().ifPresent(ctx::reply);
+        return false;
+    }
+
+    /**
+     * Compute completions for the context, falling back to the literals of the dispatch tree
+     * when {@link #onTab(CommandContext)} provides none.
+     *
+     * @param ctx The context.
+     * @return Completions, or {@code null} if there are none.
+     */
+    public List<String> complete(C ctx) {
+        if (!MetricsRegistry.global().isEnabled()) {
+            List<String> completions = onTab(ctx);
+            return completions != null ? completions : getTree().complete(ctx);
+        }
+
+        long start = System.nanoTime();
+        try {
+            List<String> completions = onTab(ctx);
+            return completions != null ? completions : getTree().complete(ctx);
+        } finally {
+            getTree().getRoot().getMetrics().record(DispatchPhase.COMPLETION, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * A hint naming the subcommands closest to a mistyped one, to send alongside the usage.
+     *
+     * @param ctx The context.
+     * @return The hint, e.g. {@code Did you mean: give, gift?}, if any subcommand is similar.
+     * @see CommandTree#suggest(CommandContext)
+     */
+    public Optional<String> didYouMean(C ctx) {
+        List<String> suggestions = getTree().suggest(ctx);
+        if (suggestions.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of("Did you mean: " + String.join(", ", suggestions.subList(0, Math.min(3, suggestions.size()))) + "?");
+    }
+
+    /**
+     * Route the context through the dispatch tree to the matching handler.
+     *
+     * @param ctx The context.
+     */
+    public void dispatch(C ctx) {
+        getTree().dispatch(ctx);
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,128 @@
+package tsp.commands.command;
+
+import tsp.commands.command.context.CommandContext;
+import tsp.commands.command.flag.FlagSpec;
+import tsp.commands.command.parser.ParserRegistry;
+import tsp.commands.command.ratelimit.RateLimit;
+import tsp.commands.command.tree.CommandNodeBuilder;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * @author TheSilentPro (Silent)
+ */
+public interface Cmd<T, H, C extends CommandContext<T>> {
+
+    String getName();
+
+    default Optional<String> getDescription() {
+        return Optional.empty();
+    }
+
+    default Optional<String[]> getAliases() {
+        return Optional.empty();
+    }
+
+    default Optional<String> getPermission() {
+        return Optional.empty();
+    }
+
+    default Optional<String> getPermissionMessage() {
+        return Optional.empty();
+    }
+
+    /**
+     * The registry used to resolve {@link tsp.commands.command.parser.ArgumentParser parsers} for this command's arguments.
+     *
+     * @return Parser registry
+     */
+    default ParserRegistry getParsers() {
+        return ParserRegistry.global();
+    }
+
+    /**
+     * The flags accepted by this command, used to tell flags taking a value from boolean ones.
+     *
+     * @return Flag spec
+     * @see CommandContext#flags()
+     */
+    default FlagSpec getFlagSpec() {
+        return FlagSpec.none();
+    }
+
+    /**
+     * The rate limit applied to each sender of this command, enforced before any argument is parsed.
+     *
+     * @return Rate limit per sender
+     */
+    default Optional<RateLimit> getRateLimit() {
+        return Optional.empty();
+    }
+
+    /**
+     * The rate limit shared by all senders of this command, enforced before any argument is parsed.
+     *
+     * @return Global rate limit
+     */
+    default Optional<RateLimit> getGlobalRateLimit() {
+        return Optional.empty();
+    }
+
+    /**
+     * Whether this command is handled off the calling thread.
+     * Asynchronous handlers must not touch thread-confined platform state directly.
+     *
+     * @return Whether this command is asynchronous
+     */
+    default boolean isAsync() {
+        return false;
+    }
+
+    /**
+     * The maximum number of concurrent {@link #isAsync() asynchronous} executions of this command,
+     * or {@code 0} for no limit.
+     *
+     * @return Concurrency limit
+     */
+    default int getConcurrencyLimit() {
+        return 0;
+    }
+
+    /**
+     * Whether {@link #onTab(CommandContext)} is safe to call off the main thread,
+     * allowing completions to be computed asynchronously where the platform supports it.
+     *
+     * @return Whether completion is asynchronous
+     */
+    default boolean isAsyncCompletion() {
+        return false;
+    }
+
+    /**
+     * Whether replies of this command are {@link CommandContext#buffer() buffered} and delivered together
+     * once the handler completes, e.g. for commands listing many lines.
+     *
+     * @return Whether replies are buffered
+     */
+    default boolean isReplyBuffered() {
+        return false;
+    }
+
+    void handle(C ctx);
+
+    /**
+     * Define the subcommand tree of this command.
+     * Commands that do not override this are dispatched as a single root node to {@link #handle(CommandContext)}.
+     *
+     * @param root The root node, representing this command.
+     */
+    default void tree(CommandNodeBuilder<C> root) {}
+
+    default List<String> onTab(C ctx) {
+        return null;
+    }
+
+    void register(H commandHandler);
+
+}
\ No newline at end of file
@@ -0,0 +1,78 @@
+package tsp.commands.command.completion;
+
+import javax.annotation.Nonnull;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Caches {@link Suggestions} built from expensive sources (warps, item ids, offline player names, ...).
+ * Entries expire after a fixed time and the least recently used entry is evicted once the cache is full.
+ * Safe for concurrent use, sources are loaded outside the lock.
+ *
+ * @author TheSilentPro (Silent)
+ */
+public class SuggestionCache {
+
+    private final long ttlNanos;
+    private final Map<String, Entry> entries;
+
+    /**
+     * Create a cache.
+     *
+     * @param ttl How long an entry stays valid.
+     * @param unit The unit of the ttl.
+     * @param maxSize The maximum number of entries.
+     */
+    public SuggestionCache(long ttl, @Nonnull TimeUnit unit, int maxSize) {
+        this.ttlNanos = unit.toNanos(ttl);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Retrieve the suggestions for a key, loading them from the source if absent or expired.
+     *
+     * @param key The key identifying the source.
+     * @param source The source of the entries.
+     * @return Suggestions
+     */
+    @Nonnull
+    public Suggestions get(@Nonnull String key, @Nonnull Supplier<? extends Collection<String>> source) {
+        long now = System.nanoTime();
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+        if (entry != null && now - entry.loaded < ttlNanos) {
+            return entry.suggestions;
+        }
+
+        Suggestions suggestions = Suggestions.of(source.get());
+        synchronized (entries) {
+            entries.put(key, new Entry(suggestions, now));
+        }
+        return suggestions;
+    }
+
+    public void invalidate(@Nonnull String key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    private record Entry(Suggestions suggestions, long loaded) {}
+
+}
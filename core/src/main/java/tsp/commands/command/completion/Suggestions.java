@@ -0,0 +1,93 @@
+package tsp.commands.command.completion;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An immutable, case-insensitively sorted index of suggestions.
+ * Filtering by prefix binary searches to the first match and stops at the last,
+ * instead of testing {@link String#startsWith(String)} against every entry.
+ *
+ * @author TheSilentPro (Silent)
+ */
+public final class Suggestions {
+
+    private static final Suggestions EMPTY = new Suggestions(new String[0]);
+
+    private final String[] entries;
+
+    private Suggestions(String[] entries) {
+        this.entries = entries;
+    }
+
+    @Nonnull
+    public static Suggestions empty() {
+        return EMPTY;
+    }
+
+    @Nonnull
+    public static Suggestions of(@Nonnull Collection<String> entries) {
+        if (entries.isEmpty()) {
+            return EMPTY;
+        }
+        String[] sorted = entries.toArray(new String[0]);
+        Arrays.sort(sorted, String.CASE_INSENSITIVE_ORDER);
+        return new Suggestions(sorted);
+    }
+
+    @Nonnull
+    public static Suggestions of(@Nonnull String... entries) {
+        return of(Arrays.asList(entries));
+    }
+
+    /**
+     * Retrieve every entry starting with the prefix, ignoring case.
+     *
+     * @param prefix The prefix.
+     * @return Matching entries, in order.
+     */
+    @Nonnull
+    public List<String> startingWith(@Nonnull String prefix) {
+        return startingWith(prefix, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Retrieve the first entries starting with the prefix, ignoring case.
+     *
+     * @param prefix The prefix.
+     * @param limit The maximum number of entries.
+     * @return Matching entries, in order.
+     */
+    @Nonnull
+    public List<String> startingWith(@Nonnull String prefix, int limit) {
+        int from = lowerBound(prefix);
+        int to = from;
+        while (to < entries.length && to - from < limit && entries[to].regionMatches(true, 0, prefix, 0, prefix.length())) {
+            to++;
+        }
+        return from == to ? Collections.emptyList() : new ArrayList<>(Arrays.asList(entries).subList(from, to));
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    private int lowerBound(String prefix) {
+        int low = 0;
+        int high = entries.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (String.CASE_INSENSITIVE_ORDER.compare(entries[mid], prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+}
@@ -0,0 +1,40 @@
+package tsp.commands.command.context;
+
+/**
+ * The assertion that stopped a {@link CommandContext} chain.
+ *
+ * @see CommandContext#failure()
+ * @author TheSilentPro (Silent)
+ */
+public enum AssertionFailure {
+
+    /**
+     * A plain {@link CommandContext#assertion(boolean) assertion}.
+     */
+    ASSERTION,
+    /**
+     * Too few arguments, see {@link CommandContext#assertLength(int)}.
+     */
+    LENGTH,
+    /**
+     * A rate limit was exceeded, see {@link CommandContext#assertCooldown(tsp.commands.command.ratelimit.RateLimiter)}.
+     */
+    COOLDOWN,
+    /**
+     * The sender lacks a permission.
+     */
+    PERMISSION,
+    /**
+     * The sender is not the console.
+     */
+    CONSOLE,
+    /**
+     * The sender is not a player.
+     */
+    PLAYER,
+    /**
+     * The sender is not an operator.
+     */
+    OP
+
+}
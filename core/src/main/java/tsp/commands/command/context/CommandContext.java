@@ -0,0 +1,520 @@
+package tsp.commands.command.context;
+
+import tsp.commands.command.Cmd;
+import tsp.commands.command.flag.FlagSpec;
+import tsp.commands.command.flag.Flags;
+import tsp.commands.command.parser.ArgumentParser;
+import tsp.commands.command.parser.NumberParsers;
+import tsp.commands.command.parser.ParserRegistry;
+import tsp.commands.command.ratelimit.RateLimiter;
+import tsp.commands.command.util.BiOptional;
+import tsp.commands.command.util.BiOptionalDouble;
+import tsp.commands.command.util.BiOptionalInt;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * @author TheSilentPro (Silent)
+ */
+public interface CommandContext<T> {
+
+    T sender();
+
+    @Nonnull
+    String[] rawArgs();
+
+    Cmd<T, ?, ?> command();
+
+    /**
+     * An empty {@link BiOptional} bound to this context.
+     * Implementations may return the same instance on every call, so failed lookups do not allocate.
+     *
+     * @return Empty optional
+     */
+    @Nonnull
+    default <V> BiOptional<V, CommandContext<T>> emptyOptional() {
+        return BiOptional.empty(this);
+    }
+
+    /**
+     * An empty {@link BiOptionalInt} bound to this context, returned by {@link #intArg(int, String)} for missing or invalid arguments.
+     * Implementations may return the same instance on every call, like {@link #emptyOptional()}.
+     *
+     * @return Empty optional
+     */
+    @Nonnull
+    default BiOptionalInt<CommandContext<T>> emptyInt() {
+        return BiOptionalInt.empty(this);
+    }
+
+    /**
+     * An empty {@link BiOptionalDouble} bound to this context, returned by {@link #doubleArg(int, String)} for missing or invalid arguments.
+     * Implementations may return the same instance on every call, like {@link #emptyOptional()}.
+     *
+     * @return Empty optional
+     */
+    @Nonnull
+    default BiOptionalDouble<CommandContext<T>> emptyDouble() {
+        return BiOptionalDouble.empty(this);
+    }
+
+    /**
+     * Wrap a possibly {@code null} value in a {@link BiOptional} bound to this context.
+     *
+     * @param value The value.
+     * @return Optional, the {@link #emptyOptional() empty optional} if the value is {@code null}.
+     */
+    @Nonnull
+    default <V> BiOptional<V, CommandContext<T>> optional(@Nullable V value) {
+        return value == null ? emptyOptional() : BiOptional.of(value, this);
+    }
+
+    @Nonnull
+    default String optionPrefix() {
+        return "-";
+    }
+
+    @Nonnull
+    default BiOptional<Set<String>, CommandContext<T>> options(int start) {
+        Set<String> options = new HashSet<>();
+        for (int i = start; i < rawArgs().length; i++) {
+            if (rawArgs()[i].startsWith(optionPrefix())) {
+                options.add(rawArgs()[i]);
+            }
+        }
+        return optional(options.isEmpty() ? null : options);
+    }
+
+    @Nonnull
+    default BiOptional<Set<String>, CommandContext<T>> options() {
+        return options(0);
+    }
+
+    /**
+     * Tokenize the {@link #rawArgs() arguments} into flags and positional arguments,
+     * according to the command's {@link Cmd#getFlagSpec() flag spec}.
+     * Implementations may tokenize once and cache the result.
+     *
+     * @return Flags
+     */
+    @Nonnull
+    default Flags flags() {
+        Cmd<T, ?, ?> command = command();
+        return Flags.parse(rawArgs(), command != null ? command.getFlagSpec() : FlagSpec.none());
+    }
+
+    /**
+     * Retrieve the value of a flag.
+     *
+     * @param name The long name of the flag.
+     * @return The value, {@code "true"} for boolean flags, empty if the flag is absent.
+     */
+    @Nonnull
+    default BiOptional<String, CommandContext<T>> flag(@Nonnull String name) {
+        return optional(flags().get(name));
+    }
+
+    /**
+     * Parse the value of a flag using the {@link Cmd#getParsers() parser} registered for its type.
+     *
+     * @param name The long name of the flag.
+     * @param type The type of the value.
+     * @return The parsed value, empty if the flag is absent or invalid.
+     * @throws IllegalArgumentException If no parser is registered for the type.
+     */
+    @Nonnull
+    default <V> BiOptional<V, CommandContext<T>> flag(@Nonnull String name, @Nonnull Class<V> type) {
+        String value = flags().get(name);
+        if (value == null) {
+            return emptyOptional();
+        }
+
+        Cmd<T, ?, ?> command = command();
+        ParserRegistry parsers = command != null ? command.getParsers() : ParserRegistry.global();
+        return optional(parsers.require(type).parse(value));
+    }
+
+    default boolean hasFlag(@Nonnull String name) {
+        return flags().has(name);
+    }
+
+    @Nonnull
+    default BiOptional<String, CommandContext<T>> rawArg(int index, @Nullable String message) {
+        if (rawArgs().length >= index) {
+            return optional(rawArgs()[index - 1]);
+        } else {
+            if (message != null) reply(message);
+            return emptyOptional();
+        }
+    }
+
+    @Nonnull
+    default BiOptional<String, CommandContext<T>> rawArg(int index) {
+        return rawArg(index, null);
+    }
+
+    /**
+     * Tokenize the {@link #rawArgs() arguments} as a command line, honouring quotes and escapes.
+     * Implementations may cache the result.
+     *
+     * @return Command line
+     */
+    @Nonnull
+    default CommandLine commandLine() {
+        return CommandLine.parse(rawArgs());
+    }
+
+    /**
+     * Retrieve a token of the {@link #commandLine() command line},
+     * where a quoted string counts as a single argument.
+     *
+     * @param index The index of the token, starting at 1.
+     * @param message The message to reply with if there is no such token.
+     * @return The unquoted, unescaped token.
+     */
+    @Nonnull
+    default BiOptional<String, CommandContext<T>> quotedArg(int index, @Nullable String message) {
+        CommandLine line = commandLine();
+        if (index >= 1 && line.size() >= index) {
+            return BiOptional.of(line.token(index - 1), this);
+        } else {
+            if (message != null) reply(message);
+            return emptyOptional();
+        }
+    }
+
+    @Nonnull
+    default BiOptional<String, CommandContext<T>> quotedArg(int index) {
+        return quotedArg(index, null);
+    }
+
+    /**
+     * Retrieve the rest of the {@link #commandLine() command line} starting at a token, as typed.
+     *
+     * @param index The index of the first token, starting at 1.
+     * @param message The message to reply with if there is no such token.
+     * @return The greedy tail.
+     */
+    @Nonnull
+    default BiOptional<String, CommandContext<T>> greedyArg(int index, @Nullable String message) {
+        CommandLine line = commandLine();
+        if (index >= 1 && line.size() >= index) {
+            return BiOptional.of(line.tail(index - 1), this);
+        } else {
+            if (message != null) reply(message);
+            return emptyOptional();
+        }
+    }
+
+    @Nonnull
+    default BiOptional<String, CommandContext<T>> greedyArg(int index) {
+        return greedyArg(index, null);
+    }
+
+    /**
+     * Retrieve the {@link #rawArgs() arguments} as {@link Argument arguments}.
+     * Implementations may return the same cached array on every call, so it must not be modified.
+     *
+     * @return Arguments
+     */
+    @Nonnull
+    default Argument[] args() {
+        String[] rawArgs = rawArgs();
+        Argument[] args = new Argument[rawArgs.length];
+        for (int i = 0; i < rawArgs.length; i++) {
+            args[i] = new SimpleArgument(i, rawArgs[i]);
+        }
+        return args;
+    }
+
+    @Nonnull
+    default BiOptional<Argument, CommandContext<T>> arg(int index) {
+        Argument[] args = args();
+        return args.length >= index ? optional(args[index - 1]) : emptyOptional();
+    }
+
+    /**
+     * Parse an argument using the {@link Cmd#getParsers() parser} registered for its type.
+     *
+     * @param index The index of the argument, starting at 1.
+     * @param type The type of the argument.
+     * @param message The message to send if the argument is missing or invalid.
+     * @return The parsed argument, empty if it is missing or invalid.
+     * @throws IllegalArgumentException If no parser is registered for the type.
+     */
+    @Nonnull
+    default <V> BiOptional<V, CommandContext<T>> arg(int index, @Nonnull Class<V> type, @Nullable String message) {
+        String[] rawArgs = rawArgs();
+        V value = null;
+        if (rawArgs.length >= index) {
+            Cmd<T, ?, ?> command = command();
+            ParserRegistry parsers = command != null ? command.getParsers() : ParserRegistry.global();
+            ArgumentParser<V> parser = parsers.require(type);
+            value = parser.parse(rawArgs[index - 1]);
+        }
+
+        if (value == null && message != null) {
+            reply(message);
+        }
+        return optional(value);
+    }
+
+    @Nonnull
+    default <V> BiOptional<V, CommandContext<T>> arg(int index, @Nonnull Class<V> type) {
+        return arg(index, type, null);
+    }
+
+    /**
+     * Parse an {@code int} argument without boxing.
+     * Unlike {@link #arg(int, Class, String)}, this always uses the built-in parser and ignores any registered for {@link Integer}.
+     *
+     * @param index The index of the argument, starting at 1.
+     * @param message The message to send if the argument is missing or invalid.
+     * @return The parsed argument, empty if it is missing or invalid.
+     */
+    @Nonnull
+    default BiOptionalInt<CommandContext<T>> intArg(int index, @Nullable String message) {
+        String[] rawArgs = rawArgs();
+        long value = rawArgs.length >= index ? NumberParsers.parseIntUnboxed(rawArgs[index - 1]) : NumberParsers.INVALID_INT;
+        if (value != NumberParsers.INVALID_INT) {
+            return BiOptionalInt.of((int) value, this);
+        }
+
+        if (message != null) reply(message);
+        return emptyInt();
+    }
+
+    @Nonnull
+    default BiOptionalInt<CommandContext<T>> intArg(int index) {
+        return intArg(index, null);
+    }
+
+    /**
+     * Parse a {@code double} argument without boxing.
+     * Unlike {@link #arg(int, Class, String)}, this always uses the built-in parser and ignores any registered for {@link Double}.
+     *
+     * @param index The index of the argument, starting at 1.
+     * @param message The message to send if the argument is missing or invalid.
+     * @return The parsed argument, empty if it is missing or invalid.
+     */
+    @Nonnull
+    default BiOptionalDouble<CommandContext<T>> doubleArg(int index, @Nullable String message) {
+        String[] rawArgs = rawArgs();
+        double value = rawArgs.length >= index ? NumberParsers.parseDoubleUnboxed(rawArgs[index - 1]) : Double.NaN;
+        if (!Double.isNaN(value)) {
+            return BiOptionalDouble.of(value, this);
+        }
+
+        if (message != null) reply(message);
+        return emptyDouble();
+    }
+
+    @Nonnull
+    default BiOptionalDouble<CommandContext<T>> doubleArg(int index) {
+        return doubleArg(index, null);
+    }
+
+    default CommandContext<T> args(BiConsumer<String[], Argument[]> action) {
+        action.accept(rawArgs(), args());
+        return this;
+    }
+
+    default CommandContext<T> args(Consumer<String[]> action) {
+        action.accept(rawArgs());
+        return this;
+    }
+
+    /**
+     * Continue the chain if the result is {@code true}, otherwise stop it.
+     * A failed assertion is {@link #fail(AssertionFailure) recorded} and returns a shared {@link EmptyCommandContext empty} context,
+     * on which every further assertion and action is skipped.
+     *
+     * @param result The result.
+     * @param failure The reason to record if the result is {@code false}.
+     * @return Context
+     */
+    default CommandContext<T> assertion(boolean result, @Nonnull AssertionFailure failure) {
+        if (result) {
+            return this;
+        } else {
+            fail(failure);
+            return EmptyCommandContext.of(failure);
+        }
+    }
+
+    default CommandContext<T> assertion(boolean result) {
+        return assertion(result, AssertionFailure.ASSERTION);
+    }
+
+    /**
+     * Record that an assertion on this context failed. Implementations keep the first failure for {@link #failure()}.
+     *
+     * @param failure The failure.
+     */
+    default void fail(@Nonnull AssertionFailure failure) {}
+
+    /**
+     * The first assertion that failed on this context, used for metrics and messages.
+     *
+     * @return The failure, or {@code null} if no assertion failed.
+     */
+    @Nullable
+    default AssertionFailure failure() {
+        return null;
+    }
+
+    /**
+     * Run an action if an assertion failed, e.g. to explain to the sender why.
+     *
+     * @param action The action, given the {@link #failure() failure}.
+     * @return Context
+     */
+    default CommandContext<T> ifFailed(@Nonnull Consumer<AssertionFailure> action) {
+        AssertionFailure failure = failure();
+        if (failure != null) {
+            action.accept(failure);
+        }
+        return this;
+    }
+
+    /**
+     * An identifier of the {@link #sender() sender} that is stable across executions,
+     * used to key rate limits and cooldowns.
+     *
+     * @return The identifier, or {@code null} if the sender is not subject to per sender limits.
+     */
+    @Nullable
+    default Object senderId() {
+        return null;
+    }
+
+    /**
+     * Assert that the {@link #sender() sender} is within a rate limit, consuming a permit if so.
+     *
+     * @param limiter The rate limiter.
+     * @param message The message to send if the limit is exceeded, or {@code null} to send the limiter's message.
+     * @return Context
+     */
+    default CommandContext<T> assertCooldown(@Nonnull RateLimiter limiter, @Nullable String message) {
+        if (limiter.tryAcquire(senderId())) {
+            return this;
+        }
+
+        if (message != null) {
+            reply(message);
+        } else {
+            limiter.getMessage().ifPresent(this::reply);
+        }
+        return assertion(false, AssertionFailure.COOLDOWN);
+    }
+
+    /**
+     * Assert that the {@link #sender() sender} is within a rate limit, consuming a permit if so.
+     *
+     * @param limiter The rate limiter.
+     * @return Context
+     */
+    default CommandContext<T> assertCooldown(@Nonnull RateLimiter limiter) {
+        return assertCooldown(limiter, null);
+    }
+
+    /**
+     * Assert the minimum {@link #args() arguments} length.
+     * @param minLength The minimum length.
+     * @return Context
+     */
+    default CommandContext<T> assertLength(int minLength) {
+        return assertion(rawArgs().length >= minLength, AssertionFailure.LENGTH);
+    }
+
+    /**
+     * Check whether the {@link #sender() sender} has a permission.
+     * Used to enforce the permissions of subcommands in the dispatch tree.
+     *
+     * @param permission The permission.
+     * @return Whether the sender has the permission, {@code true} if the platform has no permissions.
+     */
+    default boolean hasPermission(@Nonnull String permission) {
+        return true;
+    }
+
+    /**
+     * Whether this execution has been cancelled, e.g. because the sender disconnected.
+     * Long-running {@link Cmd#isAsync() asynchronous} handlers should check this periodically.
+     *
+     * @return Whether cancelled
+     */
+    default boolean isCancelled() {
+        return Thread.currentThread().isInterrupted();
+    }
+
+    /**
+     * Reply to the sender.
+     *
+     * @param message The message to send.
+     * @return Context
+     */
+    CommandContext<T> reply(String message);
+
+    /**
+     * Reply to the sender with multiple messages.
+     * Implementations should deliver them in a single send where the platform allows it.
+     *
+     * @param message The messages to send.
+     * @return Context
+     */
+    default CommandContext<T> reply(String... message) {
+        for (String msg : message) {
+            reply(msg);
+        }
+        return this;
+    }
+
+    /**
+     * Whether {@link #reply(String) replies} are currently held back until the next {@link #flush()}.
+     *
+     * @return Whether buffering
+     * @see #buffer()
+     */
+    default boolean isBuffering() {
+        return false;
+    }
+
+    /**
+     * Hold back replies and deliver them together, in a single send where the platform allows it,
+     * on {@link #flush()} or when the handler completes.
+     * Commands that are {@link Cmd#isReplyBuffered() reply buffered} start every execution buffering.
+     * Contexts that can not buffer keep sending every reply immediately.
+     *
+     * @return Context
+     */
+    default CommandContext<T> buffer() {
+        return this;
+    }
+
+    /**
+     * Deliver the buffered replies now, buffering continues.
+     * Off the platform's main thread the delivery is handed to the main thread like any other reply.
+     *
+     * @return Context
+     */
+    default CommandContext<T> flush() {
+        return this;
+    }
+
+    /**
+     * {@link #flush() Flush} and stop buffering, later replies are sent immediately.
+     * Called by the dispatch tree once the handler completes.
+     *
+     * @return Context
+     */
+    default CommandContext<T> unbuffer() {
+        return this;
+    }
+
+}
\ No newline at end of file
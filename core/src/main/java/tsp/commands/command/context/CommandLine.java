@@ -0,0 +1,212 @@
+package tsp.commands.command.context;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A command line tokenized into offsets, supporting quoted strings, escapes and greedy tails.
+ * <p>
+ * Tokens are separated by spaces. A token may be quoted with {@code "} or {@code '} to contain spaces,
+ * and {@code \} escapes the next character. An unterminated quote extends to the end of the line.
+ * Tokenizing only records offsets, a token's string is copied out on first access and cached.
+ *
+ * @author TheSilentPro (Silent)
+ */
+public final class CommandLine {
+
+    private static final int[] NO_OFFSETS = new int[0];
+    private static final CommandLine EMPTY = new CommandLine("", 0, NO_OFFSETS, NO_OFFSETS, NO_OFFSETS, new boolean[0]);
+
+    private final String line;
+    private final int count;
+    /**
+     * Offset of the first character of each token, including any opening quote.
+     */
+    private final int[] rawStarts;
+    /**
+     * Offset of the content of each token, after any opening quote.
+     */
+    private final int[] starts;
+    /**
+     * Offset after the content of each token, before any closing quote.
+     */
+    private final int[] ends;
+    private final boolean[] escaped;
+    private final String[] tokens;
+
+    private CommandLine(String line, int count, int[] rawStarts, int[] starts, int[] ends, boolean[] escaped) {
+        this.line = line;
+        this.count = count;
+        this.rawStarts = rawStarts;
+        this.starts = starts;
+        this.ends = ends;
+        this.escaped = escaped;
+        this.tokens = new String[count];
+    }
+
+    /**
+     * Tokenize a command line.
+     *
+     * @param line The command line, without the label.
+     * @return Command line
+     */
+    @Nonnull
+    public static CommandLine parse(@Nonnull String line) {
+        int length = line.length();
+        int capacity = 4;
+        int[] rawStarts = new int[capacity];
+        int[] starts = new int[capacity];
+        int[] ends = new int[capacity];
+        boolean[] escaped = new boolean[capacity];
+        int count = 0;
+
+        int i = 0;
+        while (true) {
+            while (i < length && line.charAt(i) == ' ') {
+                i++;
+            }
+            if (i >= length) {
+                break;
+            }
+
+            if (count == capacity) {
+                capacity *= 2;
+                rawStarts = Arrays.copyOf(rawStarts, capacity);
+                starts = Arrays.copyOf(starts, capacity);
+                ends = Arrays.copyOf(ends, capacity);
+                escaped = Arrays.copyOf(escaped, capacity);
+            }
+
+            rawStarts[count] = i;
+            char quote = line.charAt(i);
+            boolean quoted = quote == '"' || quote == '\'';
+            if (quoted) {
+                i++;
+            }
+            starts[count] = i;
+
+            while (i < length) {
+                char c = line.charAt(i);
+                if (c == '\\' && i + 1 < length) {
+                    escaped[count] = true;
+                    i += 2;
+                } else if (quoted ? c == quote : c == ' ') {
+                    break;
+                } else {
+                    i++;
+                }
+            }
+            ends[count] = Math.min(i, length);
+            if (quoted && i < length) {
+                // Skip the closing quote
+                i++;
+            }
+            count++;
+        }
+
+        return count == 0 && line.isEmpty() ? EMPTY : new CommandLine(line, count, rawStarts, starts, ends, escaped);
+    }
+
+    @Nonnull
+    public static CommandLine empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Tokenize arguments that were split on spaces, e.g. by the server.
+     *
+     * @param args The arguments.
+     * @return Command line
+     */
+    @Nonnull
+    public static CommandLine parse(@Nonnull String[] args) {
+        return parse(String.join(" ", args));
+    }
+
+    @Nonnull
+    public String getLine() {
+        return line;
+    }
+
+    /**
+     * @return The number of tokens.
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Retrieve a token, unquoted and unescaped.
+     *
+     * @param index The index of the token, starting at 0.
+     * @return Token
+     * @throws IndexOutOfBoundsException If there is no such token.
+     */
+    @Nonnull
+    public String token(int index) {
+        String token = tokens[index];
+        if (token == null) {
+            token = tokens[index] = escaped[index] ? unescape(starts[index], ends[index]) : line.substring(starts[index], ends[index]);
+        }
+        return token;
+    }
+
+    /**
+     * Retrieve the rest of the line from a token onwards, as typed.
+     *
+     * @param index The index of the first token, starting at 0.
+     * @return Greedy tail
+     * @throws IndexOutOfBoundsException If there is no such token.
+     */
+    @Nonnull
+    public String tail(int index) {
+        return line.substring(rawStarts[Objects.checkIndex(index, count)]);
+    }
+
+    /**
+     * Compare a token to a string without copying the token.
+     *
+     * @param index The index of the token, starting at 0.
+     * @param value The string.
+     * @param ignoreCase Whether to ignore case.
+     * @return Whether the token equals the string.
+     */
+    public boolean matches(int index, @Nonnull String value, boolean ignoreCase) {
+        Objects.checkIndex(index, count);
+        if (escaped[index]) {
+            return ignoreCase ? token(index).equalsIgnoreCase(value) : token(index).equals(value);
+        }
+        int length = ends[index] - starts[index];
+        return length == value.length() && line.regionMatches(ignoreCase, starts[index], value, 0, length);
+    }
+
+    public int start(int index) {
+        return starts[Objects.checkIndex(index, count)];
+    }
+
+    public int end(int index) {
+        return ends[Objects.checkIndex(index, count)];
+    }
+
+    private String unescape(int start, int end) {
+        StringBuilder builder = new StringBuilder(end - start);
+        for (int i = start; i < end; i++) {
+            char c = line.charAt(i);
+            if (c == '\\' && i + 1 < end) {
+                c = line.charAt(++i);
+            }
+            builder.append(c);
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public String toString() {
+        return "CommandLine{" +
+                "line='" + line + '\'' +
+                ", size=" + count +
+                '}';
+    }
+
+}
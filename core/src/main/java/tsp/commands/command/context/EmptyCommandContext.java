@@ -0,0 +1,159 @@
+package tsp.commands.command.context;
+
+import tsp.commands.command.Cmd;
+import tsp.commands.command.flag.Flags;
+import tsp.commands.command.ratelimit.RateLimiter;
+import tsp.commands.command.util.BiOptional;
+import tsp.commands.command.util.BiOptionalDouble;
+import tsp.commands.command.util.BiOptionalInt;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * An *empty* {@link CommandContext<T>}.
+ * Used as a way to stop a chain process.
+ * Every further assertion and action on it is skipped, and it reports the {@link #failure() failure} that produced it.
+ * Use the shared instances from {@link #of(AssertionFailure)} instead of allocating new ones.
+ *
+ * @param <T> Type.
+ * @see tsp.commands.command.context.CommandContext#assertion(boolean)
+ *
+ * @author TheSilentPro (Silent)
+ */
+public class EmptyCommandContext<T> implements CommandContext<T> {
+
+    private static final String[] EMPTY = new String[0];
+    private static final Argument[] EMPTY_ARGS = new Argument[0];
+    private static final EmptyCommandContext<?>[] SHARED = new EmptyCommandContext<?>[AssertionFailure.values().length];
+
+    static {
+        for (AssertionFailure failure : AssertionFailure.values()) {
+            SHARED[failure.ordinal()] = new EmptyCommandContext<>(failure);
+        }
+    }
+
+    private final AssertionFailure failure;
+    private final BiOptional<?, CommandContext<T>> empty = BiOptional.empty(this);
+    private final BiOptionalInt<CommandContext<T>> emptyInt = BiOptionalInt.empty(this);
+    private final BiOptionalDouble<CommandContext<T>> emptyDouble = BiOptionalDouble.empty(this);
+
+    public EmptyCommandContext() {
+        this(AssertionFailure.ASSERTION);
+    }
+
+    protected EmptyCommandContext(@Nonnull AssertionFailure failure) {
+        this.failure = failure;
+    }
+
+    /**
+     * Retrieve the shared empty context for a failure. It holds no sender, so it is safe to share across types.
+     *
+     * @param failure The failure.
+     * @return Empty context
+     */
+    @SuppressWarnings("unchecked")
+    @Nonnull
+    public static <T> EmptyCommandContext<T> of(@Nonnull AssertionFailure failure) {
+        return (EmptyCommandContext<T>) SHARED[failure.ordinal()];
+    }
+
+    @Nullable
+    @Override
+    public T sender() {
+        return null;
+    }
+
+    @Nonnull
+    @Override
+    public String[] rawArgs() {
+        return EMPTY;
+    }
+
+    @Nonnull
+    @Override
+    public Argument[] args() {
+        return EMPTY_ARGS;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Nonnull
+    @Override
+    public <V> BiOptional<V, CommandContext<T>> emptyOptional() {
+        return (BiOptional<V, CommandContext<T>>) empty;
+    }
+
+    @Nonnull
+    @Override
+    public BiOptionalInt<CommandContext<T>> emptyInt() {
+        return emptyInt;
+    }
+
+    @Nonnull
+    @Override
+    public BiOptionalDouble<CommandContext<T>> emptyDouble() {
+        return emptyDouble;
+    }
+
+    @Nonnull
+    @Override
+    public Flags flags() {
+        return Flags.empty();
+    }
+
+    @Nonnull
+    @Override
+    public CommandLine commandLine() {
+        return CommandLine.empty();
+    }
+
+    @Nullable
+    @Override
+    public Cmd<T, ?, ?> command() {
+        return null;
+    }
+
+    @Nonnull
+    @Override
+    public AssertionFailure failure() {
+        return failure;
+    }
+
+    @Override
+    public CommandContext<T> assertion(boolean result, @Nonnull AssertionFailure failure) {
+        return this;
+    }
+
+    @Override
+    public CommandContext<T> assertion(boolean result) {
+        return this;
+    }
+
+    @Override
+    public CommandContext<T> assertCooldown(@Nonnull RateLimiter limiter, @Nullable String message) {
+        return this;
+    }
+
+    @Override
+    public CommandContext<T> args(BiConsumer<String[], Argument[]> action) {
+        return this;
+    }
+
+    @Override
+    public CommandContext<T> args(Consumer<String[]> action) {
+        return this;
+    }
+
+    @Override
+    public CommandContext<T> reply(String message) {
+        return this;
+    }
+
+    @Override
+    public CommandContext<T> reply(String... message) {
+        return this;
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,64 @@
+package tsp.commands.command.context;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Collects the replies of a {@link CommandContext#buffer() buffering} context so they can be delivered in a single send.
+ * Safe to fill from several threads, e.g. an asynchronous handler and the callbacks it schedules.
+ *
+ * @param <M> The message type of the platform.
+ * @author TheSilentPro (Silent)
+ */
+public final class ReplyBuffer<M> {
+
+    private List<M> messages;
+    private boolean closed;
+
+    /**
+     * Buffer a message.
+     *
+     * @param message The message.
+     * @return Whether the message was buffered, {@code false} once {@link #close() closed} so it must be sent directly.
+     */
+    public synchronized boolean add(@Nonnull M message) {
+        if (closed) {
+            return false;
+        }
+        if (messages == null) {
+            messages = new ArrayList<>();
+        }
+        messages.add(message);
+        return true;
+    }
+
+    public synchronized boolean isEmpty() {
+        return messages == null || messages.isEmpty();
+    }
+
+    /**
+     * Take every buffered message, leaving the buffer empty.
+     *
+     * @return The messages in the order they were added, empty if there are none.
+     */
+    @Nonnull
+    public synchronized List<M> drain() {
+        List<M> messages = this.messages;
+        this.messages = null;
+        return messages != null ? messages : Collections.emptyList();
+    }
+
+    /**
+     * {@link #drain() Drain} the buffer and refuse further messages.
+     *
+     * @return The remaining messages in the order they were added, empty if there are none.
+     */
+    @Nonnull
+    public synchronized List<M> close() {
+        closed = true;
+        return drain();
+    }
+
+}
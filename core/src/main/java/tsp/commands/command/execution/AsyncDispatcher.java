@@ -0,0 +1,139 @@
+package tsp.commands.command.execution;
+
+import tsp.commands.command.Cmd;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Runs {@link Cmd#isAsync() asynchronous} commands off the calling thread,
+ * enforcing each command's {@link Cmd#getConcurrencyLimit() concurrency limit}
+ * and tracking running executions per owner so they can be {@link #cancel(Object) cancelled}.
+ *
+ * @author TheSilentPro (Silent)
+ */
+public class AsyncDispatcher {
+
+    private final ExecutorService executor;
+    private final Consumer<Throwable> exceptionHandler;
+    private final Map<Cmd<?, ?, ?>, Semaphore> permits = new ConcurrentHashMap<>();
+    private final Map<Object, Set<Future<?>>> running = new ConcurrentHashMap<>();
+
+    public AsyncDispatcher(@Nonnull ExecutorService executor, @Nonnull Consumer<Throwable> exceptionHandler) {
+        this.executor = Objects.requireNonNull(executor, "executor");
+        this.exceptionHandler = Objects.requireNonNull(exceptionHandler, "exceptionHandler");
+    }
+
+    public AsyncDispatcher(@Nonnull Consumer<Throwable> exceptionHandler) {
+        this(CommandExecutors.newVirtualThreadExecutor("commands-async"), exceptionHandler);
+    }
+
+    /**
+     * Submit a command execution.
+     *
+     * @param command The command being executed.
+     * @param owner The owner of the execution, e.g. the sender's id, or {@code null} if it can not be cancelled by owner.
+     * @param task The execution.
+     * @return The running execution, or {@code null} if the command's concurrency limit is reached or the executor rejected it, e.g. after {@link #shutdown(long, TimeUnit) shutdown}.
+     */
+    @Nullable
+    public Future<?> submit(@Nonnull Cmd<?, ?, ?> command, @Nullable Object owner, @Nonnull Runnable task) {
+        int limit = command.getConcurrencyLimit();
+        Semaphore semaphore = limit > 0 ? permits.computeIfAbsent(command, c -> new Semaphore(limit)) : null;
+        if (semaphore != null && !semaphore.tryAcquire()) {
+            return null;
+        }
+
+        Execution execution = new Execution(task, semaphore, owner);
+        if (owner != null) {
+            // Added while the entry is locked, a concurrent done() or cancel(owner) could otherwise remove the set first.
+            running.compute(owner, (o, executions) -> {
+                if (executions == null) {
+                    executions = ConcurrentHashMap.newKeySet();
+                }
+                executions.add(execution);
+                return executions;
+            });
+        }
+
+        try {
+            executor.execute(execution);
+        } catch (RejectedExecutionException ex) {
+            // Completes the execution without running it, done() releases the permit and removes it from its owner.
+            execution.cancel(false);
+            return null;
+        }
+        return execution;
+    }
+
+    /**
+     * Cancel, interrupting if running, every execution of an owner.
+     *
+     * @param owner The owner.
+     */
+    public void cancel(@Nonnull Object owner) {
+        Set<Future<?>> executions = running.remove(owner);
+        if (executions != null) {
+            for (Future<?> execution : executions) {
+                execution.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Stop accepting executions and wait for running ones to finish.
+     *
+     * @param timeout The maximum time to wait.
+     * @param unit The unit of the timeout.
+     * @return Whether all executions finished in time.
+     * @throws InterruptedException If interrupted while waiting.
+     */
+    public boolean shutdown(long timeout, TimeUnit unit) throws InterruptedException {
+        executor.shutdown();
+        return executor.awaitTermination(timeout, unit);
+    }
+
+    private final class Execution extends FutureTask<Void> {
+
+        private final Semaphore semaphore;
+        private final Object owner;
+
+        private Execution(Runnable task, Semaphore semaphore, Object owner) {
+            super(task, null);
+            this.semaphore = semaphore;
+            this.owner = owner;
+        }
+
+        @Override
+        protected void setException(Throwable t) {
+            super.setException(t);
+            exceptionHandler.accept(t);
+        }
+
+        @Override
+        protected void done() {
+            if (semaphore != null) {
+                semaphore.release();
+            }
+            if (owner != null) {
+                running.computeIfPresent(owner, (o, executions) -> {
+                    executions.remove(this);
+                    return executions.isEmpty() ? null : executions;
+                });
+            }
+        }
+
+    }
+
+}
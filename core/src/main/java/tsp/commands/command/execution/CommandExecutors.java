@@ -0,0 +1,66 @@
+package tsp.commands.command.execution;
+
+import javax.annotation.Nonnull;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Factory for the executors running asynchronous commands.
+ *
+ * @author TheSilentPro (Silent)
+ */
+public final class CommandExecutors {
+
+    private static final MethodHandle VIRTUAL_EXECUTOR = virtualExecutor();
+
+    private CommandExecutors() {}
+
+    /**
+     * Create an executor running each task on its own virtual thread when the runtime supports them (Java 21+),
+     * otherwise on a cached pool of daemon platform threads.
+     *
+     * @param name The prefix of the thread names, used by the platform thread fallback.
+     * @return Executor
+     */
+    @Nonnull
+    public static ExecutorService newVirtualThreadExecutor(@Nonnull String name) {
+        if (VIRTUAL_EXECUTOR != null) {
+            try {
+                return (ExecutorService) VIRTUAL_EXECUTOR.invokeExact();
+            } catch (Throwable ignored) {
+                // Fall back to platform threads below
+            }
+        }
+
+        AtomicInteger count = new AtomicInteger();
+        ThreadFactory factory = runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return Executors.newCachedThreadPool(factory);
+    }
+
+    /**
+     * Whether {@link #newVirtualThreadExecutor(String)} creates virtual threads on this runtime.
+     *
+     * @return Whether virtual threads are supported
+     */
+    public static boolean isVirtualThreadSupported() {
+        return VIRTUAL_EXECUTOR != null;
+    }
+
+    private static MethodHandle virtualExecutor() {
+        try {
+            return MethodHandles.publicLookup().findStatic(Executors.class, "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class));
+        } catch (ReflectiveOperationException ex) {
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,140 @@
+package tsp.commands.command.flag;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Declares the flags of a command: which take a value and their single character short names.
+ * Undeclared flags are still parsed, as boolean flags.
+ *
+ * @author TheSilentPro (Silent)
+ */
+public final class FlagSpec {
+
+    private static final FlagSpec NONE = new FlagSpec(Map.of(), Map.of());
+
+    private final Map<String, Boolean> names;
+    private final Map<Character, String> shortNames;
+
+    private FlagSpec(Map<String, Boolean> names, Map<Character, String> shortNames) {
+        this.names = names;
+        this.shortNames = shortNames;
+    }
+
+    /**
+     * A spec declaring no flags.
+     *
+     * @return Empty spec
+     */
+    @Nonnull
+    public static FlagSpec none() {
+        return NONE;
+    }
+
+    @Nonnull
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Whether no flags are declared, in which case the arguments need not be tokenized for flags.
+     *
+     * @return Whether empty
+     */
+    public boolean isEmpty() {
+        return names.isEmpty();
+    }
+
+    /**
+     * Whether a flag is declared to take a value.
+     *
+     * @param name The long name of the flag.
+     * @return Whether it takes a value
+     */
+    public boolean takesValue(@Nonnull String name) {
+        return names.getOrDefault(name, false);
+    }
+
+    /**
+     * Whether a long name is declared.
+     *
+     * @param name The name.
+     * @return Whether it is declared
+     */
+    public boolean isDeclared(@Nonnull String name) {
+        return names.containsKey(name);
+    }
+
+    /**
+     * Resolve a short name to its long name.
+     *
+     * @param shortName The short name.
+     * @return The long name, or {@code null} if the short name is not declared.
+     */
+    @Nullable
+    public String longName(char shortName) {
+        return shortNames.get(shortName);
+    }
+
+    public static final class Builder {
+
+        private final Map<String, Boolean> names = new HashMap<>();
+        private final Map<Character, String> shortNames = new HashMap<>();
+
+        private Builder() {}
+
+        /**
+         * Declare a boolean flag.
+         *
+         * @param name The long name, e.g. {@code silent} for {@code --silent}.
+         * @param shortName The short name, e.g. {@code s} for {@code -s}.
+         * @return Builder
+         */
+        public Builder flag(@Nonnull String name, char shortName) {
+            shortNames.put(shortName, name);
+            return flag(name);
+        }
+
+        /**
+         * Declare a boolean flag without a short name.
+         *
+         * @param name The long name.
+         * @return Builder
+         */
+        public Builder flag(@Nonnull String name) {
+            names.put(name, false);
+            return this;
+        }
+
+        /**
+         * Declare a flag taking a value, given as {@code --name value}, {@code --name=value}, {@code -n value} or {@code -nvalue}.
+         *
+         * @param name The long name.
+         * @param shortName The short name.
+         * @return Builder
+         */
+        public Builder option(@Nonnull String name, char shortName) {
+            shortNames.put(shortName, name);
+            return option(name);
+        }
+
+        /**
+         * Declare a flag taking a value, without a short name.
+         *
+         * @param name The long name.
+         * @return Builder
+         */
+        public Builder option(@Nonnull String name) {
+            names.put(name, true);
+            return this;
+        }
+
+        public FlagSpec build() {
+            return new FlagSpec(Map.copyOf(names), Map.copyOf(shortNames));
+        }
+
+    }
+
+}
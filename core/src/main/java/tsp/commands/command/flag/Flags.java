@@ -0,0 +1,191 @@
+package tsp.commands.command.flag;
+
+import tsp.commands.command.parser.NumberParsers;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The flags and positional arguments of a command line, tokenized in a single pass.
+ * <p>
+ * Supports GNU style {@code --name}, {@code --name=value} and {@code --name value},
+ * POSIX style {@code -n}, bundled {@code -abc} and {@code -nvalue}, and single dash long names ({@code -radius 50}).
+ * A single dash token is bundled only when all its characters are declared short names.
+ * {@code --} ends the flags, and negative numbers are positional.
+ * Boolean flags have the value {@code "true"}.
+ *
+ * @author TheSilentPro (Silent)
+ */
+public final class Flags {
+
+    private static final String[] NO_ARGS = new String[0];
+    private static final Flags EMPTY = new Flags(NO_ARGS, Map.of());
+
+    private final String[] positional;
+    private final Map<String, String> values;
+
+    private Flags(String[] positional, Map<String, String> values) {
+        this.positional = positional;
+        this.values = values;
+    }
+
+    @Nonnull
+    public static Flags empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Tokenize arguments.
+     *
+     * @param args The raw arguments.
+     * @param spec The declared flags.
+     * @return Flags
+     */
+    @Nonnull
+    public static Flags parse(@Nonnull String[] args, @Nonnull FlagSpec spec) {
+        if (args.length == 0) {
+            return EMPTY;
+        }
+
+        List<String> positional = new ArrayList<>(args.length);
+        Map<String, String> values = null;
+        boolean flagsEnded = false;
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (flagsEnded || arg.length() < 2 || arg.charAt(0) != '-' || NumberParsers.parseDouble(arg) != null) {
+                positional.add(arg);
+                continue;
+            }
+            if (arg.equals("--")) {
+                flagsEnded = true;
+                continue;
+            }
+            if (values == null) {
+                values = new HashMap<>();
+            }
+
+            if (arg.charAt(1) == '-') {
+                i = parseLong(args, i, 2, spec, values);
+            } else if (isBundle(arg, spec)) {
+                i = parseBundle(args, i, spec, values);
+            } else {
+                i = parseLong(args, i, 1, spec, values);
+            }
+        }
+
+        return new Flags(positional.isEmpty() ? NO_ARGS : positional.toArray(NO_ARGS), values == null ? Map.of() : values);
+    }
+
+    /**
+     * The arguments that are neither flags nor flag values, in order.
+     * The returned array must not be modified.
+     *
+     * @return Positional arguments
+     */
+    @Nonnull
+    public String[] positional() {
+        return positional;
+    }
+
+    /**
+     * Whether a flag was given.
+     *
+     * @param name The long name of the flag.
+     * @return Whether present
+     */
+    public boolean has(@Nonnull String name) {
+        return values.containsKey(name);
+    }
+
+    /**
+     * Retrieve the value of a flag.
+     *
+     * @param name The long name of the flag.
+     * @return The value, {@code "true"} for boolean flags, or {@code null} if absent.
+     */
+    @Nullable
+    public String get(@Nonnull String name) {
+        return values.get(name);
+    }
+
+    @Nonnull
+    public Set<String> names() {
+        return Collections.unmodifiableSet(values.keySet());
+    }
+
+    public boolean isEmpty() {
+        return values.isEmpty();
+    }
+
+    private static int parseLong(String[] args, int i, int offset, FlagSpec spec, Map<String, String> values) {
+        String arg = args[i];
+        int separator = arg.indexOf('=', offset);
+        String name = separator >= 0 ? arg.substring(offset, separator) : arg.substring(offset);
+        if (offset == 1 && name.length() == 1 && spec.longName(name.charAt(0)) != null) {
+            name = spec.longName(name.charAt(0));
+        }
+
+        if (separator >= 0) {
+            values.put(name, arg.substring(separator + 1));
+        } else if (!spec.takesValue(name)) {
+            values.put(name, "true");
+        } else if (i + 1 < args.length) {
+            values.put(name, args[++i]);
+        }
+        return i;
+    }
+
+    private static int parseBundle(String[] args, int i, FlagSpec spec, Map<String, String> values) {
+        String arg = args[i];
+        for (int c = 1; c < arg.length(); c++) {
+            String name = spec.longName(arg.charAt(c));
+            if (!spec.takesValue(name)) {
+                values.put(name, "true");
+                continue;
+            }
+
+            if (c + 1 < arg.length()) {
+                values.put(name, arg.substring(c + 1));
+            } else if (i + 1 < args.length) {
+                values.put(name, args[++i]);
+            }
+            break;
+        }
+        return i;
+    }
+
+    /**
+     * A single dash token is a bundle of short flags if it is not a declared long name
+     * and every character up to the first one taking a value is a declared short name.
+     */
+    private static boolean isBundle(String arg, FlagSpec spec) {
+        if (arg.indexOf('=') >= 0 || spec.isDeclared(arg.substring(1))) {
+            return false;
+        }
+        for (int c = 1; c < arg.length(); c++) {
+            String name = spec.longName(arg.charAt(c));
+            if (name == null) {
+                return false;
+            }
+            if (spec.takesValue(name)) {
+                return true;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "Flags{" +
+                "positional=" + String.join(" ", positional) +
+                ", values=" + values +
+                '}';
+    }
+
+}
@@ -0,0 +1,236 @@
+package tsp.commands.command.help;
+
+import tsp.commands.command.AbstractCommand;
+import tsp.commands.command.permission.FilteredTree;
+import tsp.commands.command.permission.PermissionFingerprint;
+import tsp.commands.command.permission.PermissionIndex;
+import tsp.commands.command.tree.CommandNode;
+import tsp.commands.command.tree.CommandTree;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Help generated from the {@link CommandTree trees} of registered commands: one {@link HelpEntry entry} per executable node,
+ * rendered from its path, {@link tsp.commands.command.Cmd#getDescription() description} and permissions when the command registers.
+ * <p>
+ * Pages are rendered on first request for a {@link PermissionFingerprint}, listing only entries visible with it,
+ * and reused for every sender with the same fingerprint until a command is registered or unregistered.
+ *
+ * @author TheSilentPro (Silent)
+ */
+public final class CommandHelp {
+
+    private static final CommandHelp SHARED = new CommandHelp(PermissionIndex.shared(), 8);
+
+    private final PermissionIndex index;
+    private final int pageSize;
+    private final Map<String, Registered> commands = new TreeMap<>();
+    private volatile List<Registered> registered = Collections.emptyList();
+    private volatile Map<PermissionFingerprint, HelpPages> cache = new ConcurrentHashMap<>();
+    private volatile String header = "Help (%d/%d)";
+    private volatile boolean showPermissions;
+
+    /**
+     * Create a help generator.
+     *
+     * @param index The index fingerprints are computed against, the permissions of registered commands are added to it.
+     * @param pageSize The number of entries per page.
+     */
+    public CommandHelp(@Nonnull PermissionIndex index, int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be positive!");
+        }
+        this.index = Objects.requireNonNull(index, "index");
+        this.pageSize = pageSize;
+    }
+
+    @Nonnull
+    public static CommandHelp shared() {
+        return SHARED;
+    }
+
+    /**
+     * Add a command, replacing a command registered under the same name.
+     *
+     * @param command The command.
+     */
+    public synchronized void register(@Nonnull AbstractCommand<?, ?, ?> command) {
+        CommandTree<?> tree = command.getTree();
+        String permission = command.getPermission().orElse(null);
+        index.register(tree, permission);
+        commands.put(command.getName().toLowerCase(Locale.ROOT), new Registered(command, tree, permission, entries(tree, permission)));
+        invalidate();
+    }
+
+    /**
+     * Remove a command, ignored if it is not registered.
+     *
+     * @param command The command.
+     */
+    public synchronized void unregister(@Nonnull AbstractCommand<?, ?, ?> command) {
+        if (commands.values().removeIf(registered -> registered.command == command)) {
+            invalidate();
+        }
+    }
+
+    /**
+     * The pages visible with a fingerprint, rendered on first request.
+     *
+     * @param fingerprint The fingerprint of the sender.
+     * @return Pages
+     */
+    @Nonnull
+    public HelpPages pages(@Nonnull PermissionFingerprint fingerprint) {
+        // Pages rendered while commands change land in the replaced map and are dropped with it.
+        Map<PermissionFingerprint, HelpPages> cache = this.cache;
+        HelpPages pages = cache.get(fingerprint);
+        if (pages == null) {
+            pages = render(fingerprint);
+            cache.put(fingerprint, pages);
+        }
+        return pages;
+    }
+
+    /**
+     * The pages visible to a sender.
+     *
+     * @param hasPermission Tests whether the sender has a permission.
+     * @return Pages
+     */
+    @Nonnull
+    public HelpPages pages(@Nonnull Predicate<String> hasPermission) {
+        return pages(index.fingerprint(hasPermission));
+    }
+
+    /**
+     * Every entry of the registered commands, regardless of permissions.
+     *
+     * @return Entries ordered by command name, then by their position in the tree.
+     */
+    @Nonnull
+    public List<HelpEntry> getEntries() {
+        List<HelpEntry> entries = new ArrayList<>();
+        for (Registered command : registered) {
+            entries.addAll(Arrays.asList(command.entries));
+        }
+        return entries;
+    }
+
+    public String getHeader() {
+        return header;
+    }
+
+    /**
+     * Set the header of each page.
+     *
+     * @param header A {@link String#format(String, Object...) format} receiving the page number and the page count.
+     */
+    public synchronized void setHeader(@Nonnull String header) {
+        this.header = header;
+        invalidate();
+    }
+
+    public boolean isShowPermissions() {
+        return showPermissions;
+    }
+
+    public synchronized void setShowPermissions(boolean showPermissions) {
+        this.showPermissions = showPermissions;
+        invalidate();
+    }
+
+    private void invalidate() {
+        registered = List.copyOf(commands.values());
+        cache = new ConcurrentHashMap<>();
+    }
+
+    private HelpPages render(PermissionFingerprint fingerprint) {
+        List<String> lines = new ArrayList<>();
+        for (Registered command : registered) {
+            FilteredTree visible = fingerprint.filter(command.tree, command.permission);
+            for (HelpEntry entry : command.entries) {
+                if (visible.isVisible(entry.getNode())) {
+                    lines.add(entry.render(showPermissions));
+                }
+            }
+        }
+
+        int count = Math.max(1, (lines.size() + pageSize - 1) / pageSize);
+        List<String[]> pages = new ArrayList<>(count);
+        for (int page = 0; page < count; page++) {
+            int from = page * pageSize;
+            int to = Math.min(from + pageSize, lines.size());
+            String[] rendered = new String[to - from + 1];
+            rendered[0] = String.format(header, page + 1, count);
+            for (int i = from; i < to; i++) {
+                rendered[i - from + 1] = lines.get(i);
+            }
+            pages.add(rendered);
+        }
+        return new HelpPages(List.copyOf(pages), lines.size());
+    }
+
+    private static HelpEntry[] entries(CommandTree<?> tree, @Nullable String permission) {
+        List<HelpEntry> entries = new ArrayList<>();
+        collect(tree.getRoot(), permission, null, entries, Collections.newSetFromMap(new IdentityHashMap<>()));
+        return entries.toArray(new HelpEntry[0]);
+    }
+
+    /**
+     * @param inherited The description of the closest ancestor that is not executable itself, e.g. {@code give} of {@code give <item>}.
+     */
+    private static void collect(CommandNode<?> node, @Nullable String permission, @Nullable String inherited, List<HelpEntry> entries, Set<CommandNode<?>> seen) {
+        if (!seen.add(node)) {
+            // Reached again through an alias
+            return;
+        }
+
+        String description = node.getDescription().orElse(inherited);
+        if (node.isExecutable()) {
+            String[] permissions = node.getPermissions();
+            if (permission != null) {
+                permissions = new String[node.getPermissions().length + 1];
+                permissions[0] = permission;
+                System.arraycopy(node.getPermissions(), 0, permissions, 1, permissions.length - 1);
+            }
+            entries.add(new HelpEntry(node, description, permissions));
+            description = null;
+        }
+        for (CommandNode<?> literal : node.getLiterals().collect("", new ArrayList<>())) {
+            collect(literal, permission, description, entries, seen);
+        }
+        for (CommandNode<?> argument : node.getArguments()) {
+            collect(argument, permission, description, entries, seen);
+        }
+    }
+
+    private static final class Registered {
+
+        private final AbstractCommand<?, ?, ?> command;
+        private final CommandTree<?> tree;
+        private final String permission;
+        private final HelpEntry[] entries;
+
+        private Registered(AbstractCommand<?, ?, ?> command, CommandTree<?> tree, @Nullable String permission, HelpEntry[] entries) {
+            this.command = command;
+            this.tree = tree;
+            this.permission = permission;
+            this.entries = entries;
+        }
+
+    }
+
+}
@@ -0,0 +1,71 @@
+package tsp.commands.command.help;
+
+import tsp.commands.command.tree.CommandNode;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Optional;
+
+/**
+ * One line of help: an executable node of a command tree, its usage, description and the permissions it requires.
+ *
+ * @author TheSilentPro (Silent)
+ */
+public final class HelpEntry {
+
+    private final CommandNode<?> node;
+    private final String usage;
+    private final String description;
+    private final String[] permissions;
+
+    HelpEntry(CommandNode<?> node, @Nullable String description, String[] permissions) {
+        this.node = node;
+        this.usage = "/" + node.getPath();
+        this.description = description;
+        this.permissions = permissions;
+    }
+
+    @Nonnull
+    public CommandNode<?> getNode() {
+        return node;
+    }
+
+    /**
+     * @return The usage, e.g. {@code /shop give <item> <amount>}
+     */
+    @Nonnull
+    public String getUsage() {
+        return usage;
+    }
+
+    public Optional<String> getDescription() {
+        return Optional.ofNullable(description);
+    }
+
+    /**
+     * @return The permission of the command followed by those on the node's path.
+     */
+    @Nonnull
+    public String[] getPermissions() {
+        return permissions;
+    }
+
+    /**
+     * Render the entry as a line, e.g. {@code /shop give <item> <amount> - Give an item.}
+     *
+     * @param showPermissions Whether to append the permissions the entry requires.
+     * @return The line.
+     */
+    @Nonnull
+    public String render(boolean showPermissions) {
+        StringBuilder line = new StringBuilder(usage);
+        if (description != null) {
+            line.append(" - ").append(description);
+        }
+        if (showPermissions && permissions.length > 0) {
+            line.append(" (").append(String.join(", ", permissions)).append(')');
+        }
+        return line.toString();
+    }
+
+}
@@ -0,0 +1,40 @@
+package tsp.commands.command.help;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+
+/**
+ * Pre-rendered help pages, each a header followed by its entries, shared by every sender of a permission fingerprint.
+ *
+ * @author TheSilentPro (Silent)
+ */
+public final class HelpPages {
+
+    private final List<String[]> pages;
+    private final int entries;
+
+    HelpPages(List<String[]> pages, int entries) {
+        this.pages = pages;
+        this.entries = entries;
+    }
+
+    /**
+     * Retrieve a page, clamped to the available pages.
+     *
+     * @param page The page number, starting at 1.
+     * @return The lines of the page.
+     */
+    @Nonnull
+    public String[] page(int page) {
+        return pages.get(Math.min(Math.max(page, 1), pages.size()) - 1);
+    }
+
+    public int getPageCount() {
+        return pages.size();
+    }
+
+    public int getEntryCount() {
+        return entries;
+    }
+
+}
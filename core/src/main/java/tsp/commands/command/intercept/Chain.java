@@ -0,0 +1,21 @@
+package tsp.commands.command.intercept;
+
+import javax.annotation.Nonnull;
+
+/**
+ * The remainder of a node's compiled chain: the following {@link Interceptor interceptors}, then the handler.
+ *
+ * @param <C> Type of context.
+ * @author TheSilentPro (Silent)
+ */
+@FunctionalInterface
+public interface Chain<C> {
+
+    /**
+     * Continue with the next interceptor, or the handler if this is the last one.
+     *
+     * @param ctx The context, the one given to the calling interceptor.
+     */
+    void proceed(@Nonnull C ctx);
+
+}
@@ -0,0 +1,90 @@
+package tsp.commands.command.intercept;
+
+import javax.annotation.Nonnull;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Runs around the handler of a node, e.g. to check a precondition, log or time the execution, or catch its failures.
+ * An interceptor continues by calling {@link Chain#proceed(Object)}, or short-circuits the handler by returning without it.
+ * <p>
+ * Interceptors are attached {@link InterceptorRegistry#global() globally}, or per command or subcommand through
+ * {@link tsp.commands.command.tree.CommandNodeBuilder#intercept(Interceptor)}, and apply to the node and its descendants.
+ * When the tree is compiled, every executable node composes its global, inherited and own interceptors
+ * into a single chain, so dispatching resolves nothing per call.
+ *
+ * @param <C> Type of context.
+ * @author TheSilentPro (Silent)
+ */
+@FunctionalInterface
+public interface Interceptor<C> {
+
+    /**
+     * Intercept the execution of a node.
+     *
+     * @param ctx The context.
+     * @param chain The rest of the chain, to be called with the same context to continue.
+     */
+    void intercept(@Nonnull C ctx, @Nonnull Chain<C> chain);
+
+    /**
+     * An interceptor continuing only if a condition holds, e.g. {@code ctx -> ctx.isPlayer("Players only!")}.
+     *
+     * @param condition The condition, replying to the sender itself if it should be told why.
+     * @return Interceptor
+     */
+    @Nonnull
+    static <C> Interceptor<C> before(@Nonnull Predicate<? super C> condition) {
+        return (ctx, chain) -> {
+            if (condition.test(ctx)) {
+                chain.proceed(ctx);
+            }
+        };
+    }
+
+    /**
+     * An interceptor running an action once the rest of the chain completed without throwing.
+     *
+     * @param action The action.
+     * @return Interceptor
+     */
+    @Nonnull
+    static <C> Interceptor<C> after(@Nonnull Consumer<? super C> action) {
+        return (ctx, chain) -> {
+            chain.proceed(ctx);
+            action.accept(ctx);
+        };
+    }
+
+    /**
+     * An interceptor recording the time spent in the rest of the chain, even if it throws.
+     *
+     * @param timer Receives the context and the elapsed nanoseconds.
+     * @return Interceptor
+     */
+    @Nonnull
+    static <C> Interceptor<C> timed(@Nonnull Timer<? super C> timer) {
+        return (ctx, chain) -> {
+            long start = System.nanoTime();
+            try {
+                chain.proceed(ctx);
+            } finally {
+                timer.record(ctx, System.nanoTime() - start);
+            }
+        };
+    }
+
+    /**
+     * Receives the duration of a {@link #timed(Timer) timed} execution,
+     * e.g. to log slow commands where {@link tsp.commands.command.metrics.CommandMetrics metrics} are too coarse.
+     *
+     * @param <C> Type of context.
+     */
+    @FunctionalInterface
+    interface Timer<C> {
+
+        void record(@Nonnull C ctx, long nanos);
+
+    }
+
+}
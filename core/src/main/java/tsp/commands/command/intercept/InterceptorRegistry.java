@@ -0,0 +1,63 @@
+package tsp.commands.command.intercept;
+
+import tsp.commands.command.context.CommandContext;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Interceptors applied to every command, outermost first.
+ * They are part of the chains compiled with a tree, so changes only apply to trees compiled afterwards,
+ * i.e. interceptors should be added before commands are registered.
+ *
+ * @author TheSilentPro (Silent)
+ */
+public final class InterceptorRegistry {
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final Interceptor<CommandContext<?>>[] NONE = new Interceptor[0];
+    private static final InterceptorRegistry GLOBAL = new InterceptorRegistry();
+
+    private volatile Interceptor<CommandContext<?>>[] interceptors = NONE;
+
+    @Nonnull
+    public static InterceptorRegistry global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Add an interceptor, running inside those added before it.
+     *
+     * @param interceptor The interceptor.
+     */
+    public synchronized void add(@Nonnull Interceptor<CommandContext<?>> interceptor) {
+        Objects.requireNonNull(interceptor, "interceptor");
+        Interceptor<CommandContext<?>>[] interceptors = Arrays.copyOf(this.interceptors, this.interceptors.length + 1);
+        interceptors[interceptors.length - 1] = interceptor;
+        this.interceptors = interceptors;
+    }
+
+    public synchronized boolean remove(@Nonnull Interceptor<CommandContext<?>> interceptor) {
+        int index = Arrays.asList(interceptors).indexOf(interceptor);
+        if (index < 0) {
+            return false;
+        }
+
+        Interceptor<CommandContext<?>>[] remaining = Arrays.copyOf(this.interceptors, this.interceptors.length - 1);
+        System.arraycopy(this.interceptors, index + 1, remaining, index, remaining.length - index);
+        this.interceptors = remaining;
+        return true;
+    }
+
+    /**
+     * The current interceptors, outermost first. The array is shared and must not be modified.
+     *
+     * @return Interceptors
+     */
+    @Nonnull
+    public Interceptor<CommandContext<?>>[] getAll() {
+        return interceptors;
+    }
+
+}
@@ -0,0 +1,140 @@
+package tsp.commands.command.metrics;
+
+import tsp.commands.command.context.AssertionFailure;
+
+import javax.annotation.Nonnull;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Invocation counters and per {@link DispatchPhase phase} latency histograms of a single command path.
+ *
+ * @author TheSilentPro (Silent)
+ */
+public final class CommandMetrics {
+
+    private final String path;
+    private final LongAdder invocations = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder denials = new LongAdder();
+    private final LongAdder rateLimited = new LongAdder();
+    private final LongAdder[] assertionFailures = new LongAdder[AssertionFailure.values().length];
+    private final Map<DispatchPhase, LatencyHistogram> latencies = new EnumMap<>(DispatchPhase.class);
+
+    CommandMetrics(String path) {
+        this.path = path;
+        for (DispatchPhase phase : DispatchPhase.values()) {
+            latencies.put(phase, new LatencyHistogram());
+        }
+        for (int i = 0; i < assertionFailures.length; i++) {
+            assertionFailures[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * The command path these metrics belong to, e.g. {@code shop admin price set}.
+     *
+     * @return Path
+     */
+    @Nonnull
+    public String getPath() {
+        return path;
+    }
+
+    public void recordInvocation() {
+        invocations.increment();
+    }
+
+    public void recordFailure() {
+        failures.increment();
+    }
+
+    public void recordDenial() {
+        denials.increment();
+    }
+
+    public void recordRateLimited() {
+        rateLimited.increment();
+    }
+
+    public void recordAssertionFailure(@Nonnull AssertionFailure failure) {
+        assertionFailures[failure.ordinal()].increment();
+    }
+
+    public void record(@Nonnull DispatchPhase phase, long nanos) {
+        latencies.get(phase).record(nanos);
+    }
+
+    public long getInvocations() {
+        return invocations.sum();
+    }
+
+    /**
+     * @return Invocations whose handler threw.
+     */
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    /**
+     * @return Invocations rejected because the sender lacked a permission.
+     */
+    public long getDenials() {
+        return denials.sum();
+    }
+
+    /**
+     * @return Invocations rejected by a rate limit.
+     */
+    public long getRateLimited() {
+        return rateLimited.sum();
+    }
+
+    /**
+     * @param failure The failure.
+     * @return Invocations stopped by a failed assertion of the given kind.
+     */
+    public long getAssertionFailures(@Nonnull AssertionFailure failure) {
+        return assertionFailures[failure.ordinal()].sum();
+    }
+
+    /**
+     * @return Invocations stopped by any failed assertion.
+     */
+    public long getAssertionFailures() {
+        long total = 0;
+        for (LongAdder adder : assertionFailures) {
+            total += adder.sum();
+        }
+        return total;
+    }
+
+    @Nonnull
+    public LatencyHistogram getLatency(@Nonnull DispatchPhase phase) {
+        return latencies.get(phase);
+    }
+
+    public void reset() {
+        invocations.reset();
+        failures.reset();
+        denials.reset();
+        rateLimited.reset();
+        for (LongAdder adder : assertionFailures) {
+            adder.reset();
+        }
+        for (LatencyHistogram histogram : latencies.values()) {
+            histogram.reset();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CommandMetrics{" +
+                "path='" + path + '\'' +
+                ", invocations=" + getInvocations() +
+                ", failures=" + getFailures() +
+                '}';
+    }
+
+}
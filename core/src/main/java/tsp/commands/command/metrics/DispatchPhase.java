@@ -0,0 +1,30 @@
+package tsp.commands.command.metrics;
+
+/**
+ * The phases of a command invocation timed by {@link CommandMetrics}.
+ *
+ * @author TheSilentPro (Silent)
+ */
+public enum DispatchPhase {
+
+    /**
+     * Resolving the subcommand path and parsing its arguments.
+     */
+    PARSE,
+
+    /**
+     * Checking the permissions of the resolved node.
+     */
+    PERMISSION,
+
+    /**
+     * Running the handler.
+     */
+    HANDLER,
+
+    /**
+     * Computing tab completions.
+     */
+    COMPLETION
+
+}
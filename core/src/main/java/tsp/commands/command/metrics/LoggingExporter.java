@@ -0,0 +1,48 @@
+package tsp.commands.command.metrics;
+
+import javax.annotation.Nonnull;
+import java.util.Collection;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Writes a line per command path to a {@link Logger}.
+ *
+ * @author TheSilentPro (Silent)
+ */
+public class LoggingExporter implements MetricsExporter {
+
+    private final Logger logger;
+    private final Level level;
+
+    public LoggingExporter(@Nonnull Logger logger, @Nonnull Level level) {
+        this.logger = logger;
+        this.level = level;
+    }
+
+    public LoggingExporter(@Nonnull Logger logger) {
+        this(logger, Level.INFO);
+    }
+
+    @Override
+    public void export(@Nonnull Collection<CommandMetrics> metrics) {
+        if (!logger.isLoggable(level)) {
+            return;
+        }
+
+        for (CommandMetrics command : metrics) {
+            LatencyHistogram handler = command.getLatency(DispatchPhase.HANDLER);
+            logger.log(level, String.format("%s: invocations=%d failures=%d denials=%d rateLimited=%d assertions=%d handler(p50=%dus p99=%dus max=%dus)",
+                    command.getPath(),
+                    command.getInvocations(),
+                    command.getFailures(),
+                    command.getDenials(),
+                    command.getRateLimited(),
+                    command.getAssertionFailures(),
+                    handler.getPercentile(50) / 1000,
+                    handler.getPercentile(99) / 1000,
+                    handler.getMax() / 1000));
+        }
+    }
+
+}
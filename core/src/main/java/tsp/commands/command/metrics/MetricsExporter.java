@@ -0,0 +1,21 @@
+package tsp.commands.command.metrics;
+
+import javax.annotation.Nonnull;
+import java.util.Collection;
+
+/**
+ * Publishes {@link CommandMetrics} to an external system.
+ *
+ * @author TheSilentPro (Silent)
+ */
+@FunctionalInterface
+public interface MetricsExporter {
+
+    /**
+     * Export the metrics of every command path recorded so far.
+     *
+     * @param metrics The metrics.
+     */
+    void export(@Nonnull Collection<CommandMetrics> metrics);
+
+}
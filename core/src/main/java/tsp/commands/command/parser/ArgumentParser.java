@@ -0,0 +1,26 @@
+package tsp.commands.command.parser;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Parses a raw argument into a typed value.
+ * Parsers signal invalid input by returning {@code null} rather than throwing,
+ * keeping failed parses cheap on the dispatch path.
+ *
+ * @param <V> Type of value.
+ * @author TheSilentPro (Silent)
+ */
+@FunctionalInterface
+public interface ArgumentParser<V> {
+
+    /**
+     * Parse a raw argument.
+     *
+     * @param input The raw argument.
+     * @return The value, or {@code null} if the input is invalid.
+     */
+    @Nullable
+    V parse(@Nonnull String input);
+
+}
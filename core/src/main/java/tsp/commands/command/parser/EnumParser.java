@@ -0,0 +1,32 @@
+package tsp.commands.command.parser;
+
+import tsp.commands.command.util.CharTrie;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Parses enum constants by name, ignoring case.
+ *
+ * @param <E> Type of enum.
+ * @author TheSilentPro (Silent)
+ */
+public class EnumParser<E extends Enum<E>> implements ArgumentParser<E> {
+
+    private final CharTrie<E> constants;
+
+    public EnumParser(@Nonnull Class<E> type) {
+        CharTrie.Builder<E> constants = CharTrie.builder();
+        for (E constant : type.getEnumConstants()) {
+            constants.put(constant.name(), constant);
+        }
+        this.constants = constants.build();
+    }
+
+    @Nullable
+    @Override
+    public E parse(@Nonnull String input) {
+        return constants.get(input);
+    }
+
+}
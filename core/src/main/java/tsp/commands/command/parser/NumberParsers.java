@@ -0,0 +1,161 @@
+package tsp.commands.command.parser;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Exception-free number parsing.
+ * Unlike {@link Integer#parseInt(String)} and friends, invalid input yields {@code null} instead of a costly {@link NumberFormatException}.
+ *
+ * @author TheSilentPro (Silent)
+ */
+public final class NumberParsers {
+
+    private NumberParsers() {}
+
+    /**
+     * Returned by {@link #parseIntUnboxed(CharSequence)} for invalid input, it lies outside the {@code int} range.
+     */
+    public static final long INVALID_INT = Long.MIN_VALUE;
+
+    /**
+     * Marks invalid input of {@link #accumulate(CharSequence, long, long)}, which otherwise never returns a positive value.
+     */
+    private static final long INVALID = 1;
+
+    @Nullable
+    public static Integer parseInt(@Nonnull CharSequence input) {
+        long value = parseIntUnboxed(input);
+        return value == INVALID_INT ? null : (int) value;
+    }
+
+    /**
+     * Parse an {@code int} without boxing.
+     *
+     * @param input The input.
+     * @return The value, or {@link #INVALID_INT} if the input is not a valid {@code int}.
+     */
+    public static long parseIntUnboxed(@Nonnull CharSequence input) {
+        long accumulated = accumulate(input, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        return accumulated == INVALID ? INVALID_INT : apply(input, accumulated);
+    }
+
+    @Nullable
+    public static Long parseLong(@Nonnull CharSequence input) {
+        long accumulated = accumulate(input, Long.MIN_VALUE, Long.MAX_VALUE);
+        return accumulated == INVALID ? null : apply(input, accumulated);
+    }
+
+    @Nullable
+    public static Double parseDouble(@Nonnull CharSequence input) {
+        // Only plain decimal notation passes, so Double#parseDouble is guaranteed not to throw.
+        return isDecimal(input) ? Double.parseDouble(input.toString()) : null;
+    }
+
+    /**
+     * Parse a {@code double} without boxing.
+     *
+     * @param input The input.
+     * @return The value, or {@link Double#NaN} if the input is not plain decimal notation.
+     */
+    public static double parseDoubleUnboxed(@Nonnull CharSequence input) {
+        return isDecimal(input) ? Double.parseDouble(input.toString()) : Double.NaN;
+    }
+
+    @Nullable
+    public static Float parseFloat(@Nonnull CharSequence input) {
+        return isDecimal(input) ? Float.parseFloat(input.toString()) : null;
+    }
+
+    /**
+     * Accumulate a base 10 integer within bounds.
+     * Accumulates negatively, since {@code min} has a larger magnitude than {@code max}.
+     *
+     * @return The negated magnitude, or {@link #INVALID}.
+     */
+    private static long accumulate(CharSequence input, long min, long max) {
+        int length = input.length();
+        if (length == 0) {
+            return INVALID;
+        }
+
+        int i = 0;
+        boolean negative = false;
+        char first = input.charAt(0);
+        if (first == '-' || first == '+') {
+            if (length == 1) {
+                return INVALID;
+            }
+            negative = first == '-';
+            i++;
+        }
+
+        long limit = negative ? min : -max;
+        long multiplyLimit = limit / 10;
+        long result = 0;
+        for (; i < length; i++) {
+            int digit = input.charAt(i) - '0';
+            if (digit < 0 || digit > 9 || result < multiplyLimit) {
+                return INVALID;
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                return INVALID;
+            }
+            result -= digit;
+        }
+        return result;
+    }
+
+    private static long apply(CharSequence input, long accumulated) {
+        return input.charAt(0) == '-' ? accumulated : -accumulated;
+    }
+
+    /**
+     * Check for {@code [+-]digits[.digits][(e|E)[+-]digits]} with at least one mantissa digit.
+     */
+    private static boolean isDecimal(CharSequence input) {
+        int length = input.length();
+        int i = 0;
+        if (i < length && (input.charAt(i) == '-' || input.charAt(i) == '+')) {
+            i++;
+        }
+
+        int digits = 0;
+        while (i < length && isDigit(input.charAt(i))) {
+            i++;
+            digits++;
+        }
+        if (i < length && input.charAt(i) == '.') {
+            i++;
+            while (i < length && isDigit(input.charAt(i))) {
+                i++;
+                digits++;
+            }
+        }
+        if (digits == 0) {
+            return false;
+        }
+
+        if (i < length && (input.charAt(i) == 'e' || input.charAt(i) == 'E')) {
+            i++;
+            if (i < length && (input.charAt(i) == '-' || input.charAt(i) == '+')) {
+                i++;
+            }
+            int exponent = 0;
+            while (i < length && isDigit(input.charAt(i))) {
+                i++;
+                exponent++;
+            }
+            if (exponent == 0) {
+                return false;
+            }
+        }
+        return i == length;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+}
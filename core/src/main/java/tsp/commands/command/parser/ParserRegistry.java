@@ -0,0 +1,112 @@
+package tsp.commands.command.parser;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of {@link ArgumentParser parsers} keyed by the type they produce.
+ * Enum parsers are created on first lookup and cached.
+ *
+ * @author TheSilentPro (Silent)
+ */
+public class ParserRegistry {
+
+    private static final ParserRegistry GLOBAL = new ParserRegistry();
+
+    private final Map<Class<?>, ArgumentParser<?>> parsers = new ConcurrentHashMap<>();
+
+    public ParserRegistry() {
+        register(String.class, input -> input);
+        register(Integer.class, NumberParsers::parseInt);
+        register(int.class, NumberParsers::parseInt);
+        register(Long.class, NumberParsers::parseLong);
+        register(long.class, NumberParsers::parseLong);
+        register(Double.class, NumberParsers::parseDouble);
+        register(double.class, NumberParsers::parseDouble);
+        register(Float.class, NumberParsers::parseFloat);
+        register(float.class, NumberParsers::parseFloat);
+        register(Boolean.class, ParserRegistry::parseBoolean);
+        register(boolean.class, ParserRegistry::parseBoolean);
+    }
+
+    /**
+     * The registry shared by commands which do not provide their own.
+     *
+     * @return Global registry
+     */
+    @Nonnull
+    public static ParserRegistry global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Register a parser, replacing any existing parser for the type.
+     *
+     * @param type The type of value.
+     * @param parser The parser.
+     * @return Registry
+     */
+    public <V> ParserRegistry register(@Nonnull Class<V> type, @Nonnull ArgumentParser<? extends V> parser) {
+        parsers.put(Objects.requireNonNull(type, "type"), Objects.requireNonNull(parser, "parser"));
+        return this;
+    }
+
+    /**
+     * Register a parser unless one is already registered for the type.
+     *
+     * @param type The type of value.
+     * @param parser The parser.
+     * @return Registry
+     */
+    public <V> ParserRegistry registerIfAbsent(@Nonnull Class<V> type, @Nonnull ArgumentParser<? extends V> parser) {
+        parsers.putIfAbsent(Objects.requireNonNull(type, "type"), Objects.requireNonNull(parser, "parser"));
+        return this;
+    }
+
+    /**
+     * Retrieve the parser for a type.
+     *
+     * @param type The type of value.
+     * @return The parser, or {@code null} if none is registered.
+     */
+    @Nullable
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public <V> ArgumentParser<V> get(@Nonnull Class<V> type) {
+        ArgumentParser<?> parser = parsers.get(type);
+        if (parser == null && type.isEnum()) {
+            parser = parsers.computeIfAbsent(type, t -> new EnumParser(t));
+        }
+        return (ArgumentParser<V>) parser;
+    }
+
+    /**
+     * Retrieve the parser for a type, failing if there is none.
+     *
+     * @param type The type of value.
+     * @return The parser.
+     * @throws IllegalArgumentException If no parser is registered for the type.
+     */
+    @Nonnull
+    public <V> ArgumentParser<V> require(@Nonnull Class<V> type) {
+        ArgumentParser<V> parser = get(type);
+        if (parser == null) {
+            throw new IllegalArgumentException("No parser registered for type: " + type.getName());
+        }
+        return parser;
+    }
+
+    @Nullable
+    private static Boolean parseBoolean(String input) {
+        if (input.equalsIgnoreCase("true")) {
+            return Boolean.TRUE;
+        } else if (input.equalsIgnoreCase("false")) {
+            return Boolean.FALSE;
+        } else {
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,69 @@
+package tsp.commands.command.permission;
+
+import tsp.commands.command.tree.CommandNode;
+import tsp.commands.command.tree.CommandTree;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * The nodes of a {@link CommandTree} usable with a {@link PermissionFingerprint}.
+ * Read-only once built, so it is shared by every sender of the fingerprint.
+ *
+ * @author TheSilentPro (Silent)
+ */
+public final class FilteredTree {
+
+    private final Set<CommandNode<?>> visible = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    FilteredTree(PermissionFingerprint fingerprint, CommandTree<?> tree, @Nullable String permission) {
+        if (permission == null || fingerprint.grants(permission)) {
+            collect(fingerprint, tree.getRoot());
+        }
+    }
+
+    /**
+     * Whether a node is visible, i.e. the command's permission and every permission on the node's path are granted.
+     *
+     * @param node The node.
+     * @return Whether the node is visible.
+     */
+    public boolean isVisible(@Nonnull CommandNode<?> node) {
+        return visible.contains(node);
+    }
+
+    /**
+     * @return Whether nothing, not even the root, is visible.
+     */
+    public boolean isEmpty() {
+        return visible.isEmpty();
+    }
+
+    public int size() {
+        return visible.size();
+    }
+
+    private void collect(PermissionFingerprint fingerprint, CommandNode<?> node) {
+        for (String permission : node.getPermissions()) {
+            if (!fingerprint.grants(permission)) {
+                return;
+            }
+        }
+        if (!visible.add(node)) {
+            // Reached again through an alias
+            return;
+        }
+
+        for (CommandNode<?> literal : node.getLiterals().collect("", new ArrayList<>())) {
+            collect(fingerprint, literal);
+        }
+        for (CommandNode<?> argument : node.getArguments()) {
+            collect(fingerprint, argument);
+        }
+    }
+
+}
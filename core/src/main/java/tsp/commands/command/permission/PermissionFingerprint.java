@@ -0,0 +1,75 @@
+package tsp.commands.command.permission;
+
+import tsp.commands.command.tree.CommandTree;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The set of {@link PermissionIndex indexed} permissions granted to a sender, computed once per sender
+ * and shared by every sender with the same rank.
+ *
+ * @author TheSilentPro (Silent)
+ */
+public final class PermissionFingerprint {
+
+    private final Map<String, Integer> indices;
+    private final long[] bits;
+    private final int generation;
+    private final int hash;
+    private final Map<CommandTree<?>, FilteredTree> filtered = new ConcurrentHashMap<>();
+
+    PermissionFingerprint(Map<String, Integer> indices, long[] bits, int generation) {
+        this.indices = indices;
+        this.bits = bits;
+        this.generation = generation;
+        this.hash = 31 * generation + Arrays.hashCode(bits);
+    }
+
+    /**
+     * Whether the permission is granted.
+     *
+     * @param permission The permission.
+     * @return Whether it is granted, {@code false} for permissions that are not indexed.
+     */
+    public boolean grants(@Nonnull String permission) {
+        Integer index = indices.get(permission);
+        return index != null && (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * The part of a command's tree visible with this fingerprint, computed on first use.
+     *
+     * @param tree The tree.
+     * @param permission The permission of the command itself, or {@code null} for none.
+     * @return Filtered tree
+     */
+    @Nonnull
+    public FilteredTree filter(@Nonnull CommandTree<?> tree, @Nullable String permission) {
+        return filtered.computeIfAbsent(tree, key -> new FilteredTree(this, key, permission));
+    }
+
+    public int getGeneration() {
+        return generation;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PermissionFingerprint other)) {
+            return false;
+        }
+        return generation == other.generation && hash == other.hash && Arrays.equals(bits, other.bits);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+}
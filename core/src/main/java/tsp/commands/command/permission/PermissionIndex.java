@@ -0,0 +1,123 @@
+package tsp.commands.command.permission;
+
+import tsp.commands.command.tree.CommandNode;
+import tsp.commands.command.tree.CommandTree;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Indexes every permission the {@link #register(CommandTree, String) registered} commands check,
+ * so a sender's standing towards all of them is captured in one {@link PermissionFingerprint}.
+ * <p>
+ * Fingerprints are interned, senders with the same rank share one instance and with it the
+ * {@link PermissionFingerprint#filter(CommandTree, String) filtered trees} it caches.
+ * Filtering for a burst of senders then costs one pass over the index per sender and one tree walk per distinct rank.
+ * Registering a command starts a new generation, fingerprints of earlier generations must be recomputed.
+ *
+ * @author TheSilentPro (Silent)
+ */
+public final class PermissionIndex {
+
+    private static final PermissionIndex SHARED = new PermissionIndex();
+
+    private final Map<PermissionFingerprint, PermissionFingerprint> interned = new ConcurrentHashMap<>();
+    private volatile Snapshot snapshot = new Snapshot(Map.of(), new String[0], 0);
+
+    @Nonnull
+    public static PermissionIndex shared() {
+        return SHARED;
+    }
+
+    /**
+     * Index the permissions of a command, dropping every fingerprint computed so far.
+     *
+     * @param tree The compiled tree of the command.
+     * @param permission The permission of the command itself, or {@code null} for none.
+     */
+    public synchronized void register(@Nonnull CommandTree<?> tree, @Nullable String permission) {
+        Snapshot current = snapshot;
+        Map<String, Integer> indices = new HashMap<>(current.indices);
+        List<String> permissions = new ArrayList<>(List.of(current.permissions));
+        if (permission != null) {
+            add(indices, permissions, permission);
+        }
+        collect(tree.getRoot(), indices, permissions);
+
+        snapshot = new Snapshot(indices, permissions.toArray(new String[0]), current.generation + 1);
+        interned.clear();
+    }
+
+    /**
+     * Compute the fingerprint of a sender, testing each indexed permission once.
+     *
+     * @param granted Tests whether the sender has a permission.
+     * @return The fingerprint, shared with every sender granted the same indexed permissions.
+     */
+    @Nonnull
+    public PermissionFingerprint fingerprint(@Nonnull Predicate<String> granted) {
+        Snapshot snapshot = this.snapshot;
+        String[] permissions = snapshot.permissions;
+        long[] bits = new long[(permissions.length + 63) >>> 6];
+        for (int i = 0; i < permissions.length; i++) {
+            if (granted.test(permissions[i])) {
+                bits[i >>> 6] |= 1L << i;
+            }
+        }
+
+        PermissionFingerprint fingerprint = new PermissionFingerprint(snapshot.indices, bits, snapshot.generation);
+        PermissionFingerprint existing = interned.putIfAbsent(fingerprint, fingerprint);
+        return existing != null ? existing : fingerprint;
+    }
+
+    /**
+     * Whether a fingerprint was computed against the current generation of the index.
+     *
+     * @param fingerprint The fingerprint.
+     * @return Whether it is still valid.
+     */
+    public boolean isCurrent(@Nonnull PermissionFingerprint fingerprint) {
+        return fingerprint.getGeneration() == snapshot.generation;
+    }
+
+    /**
+     * @return The number of distinct fingerprints, i.e. ranks, seen in the current generation.
+     */
+    public int getFingerprintCount() {
+        return interned.size();
+    }
+
+    /**
+     * @return The number of indexed permissions.
+     */
+    public int size() {
+        return snapshot.permissions.length;
+    }
+
+    private static void collect(CommandNode<?> node, Map<String, Integer> indices, List<String> permissions) {
+        for (String permission : node.getPermissions()) {
+            add(indices, permissions, permission);
+        }
+        for (CommandNode<?> literal : node.getLiterals().collect("", new ArrayList<>())) {
+            collect(literal, indices, permissions);
+        }
+        for (CommandNode<?> argument : node.getArguments()) {
+            collect(argument, indices, permissions);
+        }
+    }
+
+    private static void add(Map<String, Integer> indices, List<String> permissions, String permission) {
+        if (indices.putIfAbsent(permission, permissions.size()) == null) {
+            permissions.add(permission);
+        }
+    }
+
+    private record Snapshot(Map<String, Integer> indices, String[] permissions, int generation) {}
+
+}
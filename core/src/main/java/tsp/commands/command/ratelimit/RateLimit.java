@@ -0,0 +1,91 @@
+package tsp.commands.command.ratelimit;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Immutable definition of a rate limit: a number of permits per period, all of which may be used in a burst.
+ *
+ * @author TheSilentPro (Silent)
+ */
+public final class RateLimit {
+
+    private final int permits;
+    private final long periodNanos;
+    private final String message;
+
+    private RateLimit(int permits, long periodNanos, String message) {
+        if (permits <= 0) {
+            throw new IllegalArgumentException("Permits must be positive: " + permits);
+        }
+        if (periodNanos <= 0) {
+            throw new IllegalArgumentException("Period must be positive: " + periodNanos);
+        }
+        if (periodNanos / permits == 0) {
+            // The interval between permits would round down to zero and every request would pass.
+            throw new IllegalArgumentException("Period must be at least one nanosecond per permit: " + permits + " permits per " + periodNanos + "ns");
+        }
+        this.permits = permits;
+        this.periodNanos = periodNanos;
+        this.message = message;
+    }
+
+    /**
+     * Create a rate limit.
+     *
+     * @param permits The number of permits per period.
+     * @param period The period.
+     * @param unit The unit of the period.
+     * @return Rate limit
+     */
+    @Nonnull
+    public static RateLimit of(int permits, long period, @Nonnull TimeUnit unit) {
+        return new RateLimit(permits, unit.toNanos(period), null);
+    }
+
+    /**
+     * Create a cooldown, allowing a single use per period.
+     *
+     * @param period The period.
+     * @param unit The unit of the period.
+     * @return Rate limit
+     */
+    @Nonnull
+    public static RateLimit cooldown(long period, @Nonnull TimeUnit unit) {
+        return of(1, period, unit);
+    }
+
+    /**
+     * Copy this rate limit with a message sent when it is exceeded.
+     *
+     * @param message The message.
+     * @return Rate limit
+     */
+    @Nonnull
+    public RateLimit message(@Nullable String message) {
+        return new RateLimit(permits, periodNanos, message);
+    }
+
+    public int getPermits() {
+        return permits;
+    }
+
+    public long getPeriodNanos() {
+        return periodNanos;
+    }
+
+    public Optional<String> getMessage() {
+        return Optional.ofNullable(message);
+    }
+
+    @Override
+    public String toString() {
+        return "RateLimit{" +
+                "permits=" + permits +
+                ", periodNanos=" + periodNanos +
+                '}';
+    }
+
+}
@@ -0,0 +1,148 @@
+package tsp.commands.command.ratelimit;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Enforces a {@link RateLimit} per key (typically a sender's id), with an optional global cap shared by all keys.
+ * <p>
+ * Implemented as a generic cell rate algorithm: the whole state of a bucket is a single {@code long},
+ * the theoretical arrival time of the next request, updated with a compare-and-set.
+ * Buckets that have fully refilled are indistinguishable from new ones and are purged periodically.
+ *
+ * @author TheSilentPro (Silent)
+ */
+public class RateLimiter {
+
+    private static final int PURGE_INTERVAL = 4096;
+    /**
+     * Marks a bucket removed by {@link #purge()}, an acquisition reading it retries on a new bucket.
+     */
+    private static final long PURGED = Long.MAX_VALUE;
+
+    private final RateLimit limit;
+    private final RateLimit globalLimit;
+    private final LongSupplier clock;
+    private final Map<Object, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong global = new AtomicLong(Long.MIN_VALUE);
+    private final AtomicInteger acquisitions = new AtomicInteger();
+
+    /**
+     * Create a rate limiter.
+     *
+     * @param limit The limit per key, or {@code null} for none.
+     * @param globalLimit The limit shared by all keys, or {@code null} for none.
+     * @param clock The source of the current time in nanoseconds, only compared to itself like {@link System#nanoTime()}.
+     */
+    public RateLimiter(@Nullable RateLimit limit, @Nullable RateLimit globalLimit, @Nonnull LongSupplier clock) {
+        this.limit = limit;
+        this.globalLimit = globalLimit;
+        this.clock = Objects.requireNonNull(clock, "clock");
+    }
+
+    public RateLimiter(@Nullable RateLimit limit, @Nullable RateLimit globalLimit) {
+        this(limit, globalLimit, System::nanoTime);
+    }
+
+    public RateLimiter(@Nonnull RateLimit limit) {
+        this(limit, null);
+    }
+
+    /**
+     * Try to acquire a permit.
+     *
+     * @param key The key, or {@code null} to only apply the global limit.
+     * @return Whether a permit was acquired.
+     */
+    public boolean tryAcquire(@Nullable Object key) {
+        long now = clock.getAsLong();
+        AtomicLong bucket = null;
+        if (limit != null && key != null) {
+            boolean acquired;
+            do {
+                bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(Long.MIN_VALUE));
+                acquired = tryAcquire(bucket, limit, now);
+            } while (!acquired && bucket.get() == PURGED);
+            if (!acquired) {
+                return false;
+            }
+        }
+
+        if (globalLimit != null && !tryAcquire(global, globalLimit, now)) {
+            if (bucket != null) {
+                // Give back the permit taken from the key's bucket.
+                bucket.addAndGet(-interval(limit));
+            }
+            return false;
+        }
+
+        if (acquisitions.incrementAndGet() % PURGE_INTERVAL == 0) {
+            purge();
+        }
+        return true;
+    }
+
+    /**
+     * The message of the limit, the per key limit's taking precedence.
+     *
+     * @return Message
+     */
+    public Optional<String> getMessage() {
+        Optional<String> message = limit != null ? limit.getMessage() : Optional.empty();
+        return message.isPresent() || globalLimit == null ? message : globalLimit.getMessage();
+    }
+
+    /**
+     * Forget the bucket of a key, e.g. when a sender disconnects.
+     *
+     * @param key The key.
+     */
+    public void reset(@Nonnull Object key) {
+        buckets.remove(key);
+    }
+
+    /**
+     * Remove buckets that have fully refilled.
+     */
+    public void purge() {
+        long now = clock.getAsLong();
+        for (Map.Entry<Object, AtomicLong> entry : buckets.entrySet()) {
+            AtomicLong bucket = entry.getValue();
+            long arrival = bucket.get();
+            // Marked before removal, so an acquisition advancing the bucket meanwhile either fails the mark or retries.
+            if (arrival != PURGED && (arrival == Long.MIN_VALUE || arrival - now <= 0) && bucket.compareAndSet(arrival, PURGED)) {
+                buckets.remove(entry.getKey(), bucket);
+            }
+        }
+    }
+
+    private static boolean tryAcquire(AtomicLong bucket, RateLimit limit, long now) {
+        long interval = interval(limit);
+        long tolerance = limit.getPeriodNanos() - interval;
+        while (true) {
+            long arrival = bucket.get();
+            if (arrival == PURGED) {
+                return false;
+            }
+            long start = arrival == Long.MIN_VALUE || arrival - now < 0 ? now : arrival;
+            if (start - now > tolerance) {
+                return false;
+            }
+            if (bucket.compareAndSet(arrival, start + interval)) {
+                return true;
+            }
+        }
+    }
+
+    private static long interval(RateLimit limit) {
+        return limit.getPeriodNanos() / limit.getPermits();
+    }
+
+}
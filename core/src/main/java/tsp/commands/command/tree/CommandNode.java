@@ -0,0 +1,256 @@
+package tsp.commands.command.tree;
+
+import tsp.commands.command.context.CommandContext;
+import tsp.commands.command.intercept.Chain;
+import tsp.commands.command.intercept.Interceptor;
+import tsp.commands.command.metrics.CommandMetrics;
+import tsp.commands.command.metrics.MetricsRegistry;
+import tsp.commands.command.parser.ArgumentParser;
+import tsp.commands.command.util.CharTrie;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * A compiled, immutable node of a {@link CommandTree}.
+ * A node is either a literal (a fixed subcommand name, matched ignoring case) or a typed argument.
+ *
+ * @param <C> Type of context.
+ * @author TheSilentPro (Silent)
+ */
+public final class CommandNode<C> {
+
+    private final String name;
+    private final String[] aliases;
+    private final String path;
+    private final Class<?> type;
+    private final ArgumentParser<?> parser;
+    private final String[] permissions;
+    private final String description;
+    private final Consumer<C> executor;
+    private final Interceptor<? super C>[] interceptors;
+    private final Chain<C> chain;
+    private final CharTrie<CommandNode<C>> literals;
+    private final CommandNode<C>[] arguments;
+    private volatile CommandMetrics metrics;
+
+    CommandNode(String name, String[] aliases, String path, Class<?> type, ArgumentParser<?> parser, String[] permissions, String description, Consumer<C> executor, Interceptor<? super C>[] interceptors, CharTrie<CommandNode<C>> literals, CommandNode<C>[] arguments) {
+        this.name = name;
+        this.aliases = aliases;
+        this.path = path;
+        this.type = type;
+        this.parser = parser;
+        this.permissions = permissions;
+        this.description = description;
+        this.executor = executor;
+        this.interceptors = interceptors;
+        this.chain = executor == null ? null : chain(interceptors, executor);
+        this.literals = literals;
+        this.arguments = arguments;
+    }
+
+    @Nonnull
+    public String getName() {
+        return name;
+    }
+
+    @Nonnull
+    public String[] getAliases() {
+        return aliases;
+    }
+
+    /**
+     * The space separated path from the root to this node, e.g. {@code shop admin price set}.
+     *
+     * @return Path
+     */
+    @Nonnull
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * The type of this argument node, or {@code null} if this is a literal.
+     *
+     * @return Argument type
+     */
+    @Nullable
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * The parser of this argument node, resolved when the tree was compiled, or {@code null} if this is a literal.
+     *
+     * @return Argument parser
+     */
+    @Nullable
+    public ArgumentParser<?> getParser() {
+        return parser;
+    }
+
+    /**
+     * The interned permissions required to use this node, its own and those of its ancestors below the root.
+     *
+     * @return Permissions
+     */
+    @Nonnull
+    public String[] getPermissions() {
+        return permissions;
+    }
+
+    /**
+     * Check whether the sender of a context may use this node.
+     *
+     * @param ctx The context.
+     * @return Whether every required permission is granted.
+     */
+    public boolean canUse(@Nonnull CommandContext<?> ctx) {
+        for (String permission : permissions) {
+            if (!ctx.hasPermission(permission)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean isLiteral() {
+        return type == null;
+    }
+
+    public Optional<String> getDescription() {
+        return Optional.ofNullable(description);
+    }
+
+    public boolean isExecutable() {
+        return executor != null;
+    }
+
+    /**
+     * The interceptors of this node, outermost first: the global ones when the tree was compiled,
+     * then those of its ancestors and its own. The array is shared and must not be modified.
+     *
+     * @return Interceptors
+     */
+    @Nonnull
+    public Interceptor<? super C>[] getInterceptors() {
+        return interceptors;
+    }
+
+    /**
+     * Execute the handler of this node through its {@link #getInterceptors() interceptors}, composed when the tree was compiled.
+     *
+     * @param ctx The context.
+     */
+    public void execute(C ctx) {
+        chain.proceed(ctx);
+    }
+
+    @Nonnull
+    public CharTrie<CommandNode<C>> getLiterals() {
+        return literals;
+    }
+
+    @Nonnull
+    public CommandNode<C>[] getArguments() {
+        return arguments;
+    }
+
+    /**
+     * Find the child matching an argument.
+     * Literals take precedence, then the first argument node whose parser accepts the input.
+     *
+     * @param arg The raw argument.
+     * @return The child node, or {@code null} if none matches.
+     */
+    @Nullable
+    public CommandNode<C> child(@Nonnull String arg) {
+        CommandNode<C> literal = literals.get(arg);
+        if (literal != null) {
+            return literal;
+        }
+        for (CommandNode<C> argument : arguments) {
+            if (argument.parser.parse(arg) != null) {
+                return argument;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Find the literal children whose name or an alias is close to a mistyped argument, e.g. {@code give} for {@code gvie}.
+     * Searches the literal trie built when the tree is compiled, rather than comparing the argument to every literal.
+     *
+     * @param arg The raw argument.
+     * @return Distinct matching literals, nearest first.
+     */
+    @Nonnull
+    public List<CommandNode<C>> similar(@Nonnull String arg) {
+        if (literals.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<CommandNode<C>> matches = literals.search(arg, maxDistance(arg.length()), new ArrayList<>());
+        List<CommandNode<C>> distinct = new ArrayList<>(matches.size());
+        for (CommandNode<C> match : matches) {
+            // Names and aliases map to the same node, keep its nearest key.
+            if (!distinct.contains(match)) {
+                distinct.add(match);
+            }
+        }
+        return distinct;
+    }
+
+    /**
+     * The edits tolerated for an argument, growing with its length so short arguments do not match every short literal.
+     */
+    static int maxDistance(int length) {
+        return length <= 5 ? 1 : 2;
+    }
+
+    /**
+     * Compose the interceptors around the handler, innermost first, into the chain run on every execution.
+     */
+    private static <C> Chain<C> chain(Interceptor<? super C>[] interceptors, Consumer<C> executor) {
+        Chain<C> chain = executor::accept;
+        for (int i = interceptors.length - 1; i >= 0; i--) {
+            chain = link(interceptors[i], chain);
+        }
+        return chain;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <C> Chain<C> link(Interceptor<? super C> interceptor, Chain<C> next) {
+        // Interceptors proceed with the context they were given, which is always a C.
+        Interceptor<C> typed = (Interceptor<C>) interceptor;
+        return ctx -> typed.intercept(ctx, next);
+    }
+
+    /**
+     * The {@link MetricsRegistry#global() metrics} of this node's path, looked up once and cached.
+     *
+     * @return Metrics
+     */
+    @Nonnull
+    public CommandMetrics getMetrics() {
+        CommandMetrics metrics = this.metrics;
+        if (metrics == null) {
+            metrics = this.metrics = MetricsRegistry.global().get(path);
+        }
+        return metrics;
+    }
+
+    @Override
+    public String toString() {
+        return "CommandNode{" +
+                "path='" + path + '\'' +
+                ", type=" + type +
+                '}';
+    }
+
+}
@@ -0,0 +1,159 @@
+package tsp.commands.command.tree;
+
+import tsp.commands.command.intercept.Interceptor;
+import tsp.commands.command.parser.ParserRegistry;
+import tsp.commands.command.util.CharTrie;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Mutable definition of a {@link CommandNode}, compiled into a {@link CommandTree}.
+ *
+ * @param <C> Type of context.
+ * @author TheSilentPro (Silent)
+ */
+public class CommandNodeBuilder<C> {
+
+    private static final String[] NO_ALIASES = new String[0];
+
+    private final String name;
+    private final Class<?> type;
+    private final List<CommandNodeBuilder<C>> children = new ArrayList<>();
+    private final List<Interceptor<? super C>> interceptors = new ArrayList<>();
+    private String[] aliases = NO_ALIASES;
+    private String permission;
+    private String description;
+    private Consumer<C> executor;
+
+    CommandNodeBuilder(@Nonnull String name, @Nullable Class<?> type) {
+        this.name = Objects.requireNonNull(name, "name");
+        this.type = type;
+    }
+
+    /**
+     * Add a literal (subcommand) child.
+     *
+     * @param name The literal, matched ignoring case.
+     * @param spec Definition of the child.
+     * @return This node
+     */
+    public CommandNodeBuilder<C> literal(@Nonnull String name, @Nonnull Consumer<CommandNodeBuilder<C>> spec) {
+        CommandNodeBuilder<C> child = new CommandNodeBuilder<>(name, null);
+        spec.accept(child);
+        children.add(child);
+        return this;
+    }
+
+    /**
+     * Add a typed argument child.
+     * Arguments are only matched when no literal sibling matches.
+     *
+     * @param name The name of the argument.
+     * @param type The type of the argument.
+     * @param spec Definition of the child.
+     * @return This node
+     */
+    public CommandNodeBuilder<C> argument(@Nonnull String name, @Nonnull Class<?> type, @Nonnull Consumer<CommandNodeBuilder<C>> spec) {
+        CommandNodeBuilder<C> child = new CommandNodeBuilder<>(name, Objects.requireNonNull(type, "type"));
+        spec.accept(child);
+        children.add(child);
+        return this;
+    }
+
+    /**
+     * Set the aliases of this literal.
+     *
+     * @param aliases The aliases, matched ignoring case.
+     * @return This node
+     */
+    public CommandNodeBuilder<C> aliases(@Nonnull String... aliases) {
+        this.aliases = aliases;
+        return this;
+    }
+
+    /**
+     * Require a permission to use this node and its children.
+     *
+     * @param permission The permission.
+     * @return This node
+     */
+    public CommandNodeBuilder<C> permission(@Nullable String permission) {
+        this.permission = permission;
+        return this;
+    }
+
+    public CommandNodeBuilder<C> description(@Nullable String description) {
+        this.description = description;
+        return this;
+    }
+
+    /**
+     * Set the handler invoked when the input resolves to this node.
+     *
+     * @param executor The handler.
+     * @return This node
+     */
+    public CommandNodeBuilder<C> executes(@Nullable Consumer<C> executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * Intercept the execution of this node and its children, inside the interceptors of the parent nodes.
+     * On the root this intercepts the whole command.
+     *
+     * @param interceptor The interceptor.
+     * @return This node
+     */
+    public CommandNodeBuilder<C> intercept(@Nonnull Interceptor<? super C> interceptor) {
+        interceptors.add(Objects.requireNonNull(interceptor, "interceptor"));
+        return this;
+    }
+
+    @Nonnull
+    public String getName() {
+        return name;
+    }
+
+    CommandNode<C> build(String parentPath, String[] parentPermissions, Interceptor<? super C>[] parentInterceptors, ParserRegistry parsers) {
+        String path = parentPath == null ? name : parentPath + " " + (type == null ? name : "<" + name + ">");
+        // The root's permission is the command's own, checked by the platform before dispatch.
+        String[] permissions = parentPermissions;
+        if (permission != null && parentPath != null) {
+            permissions = Arrays.copyOf(parentPermissions, parentPermissions.length + 1);
+            permissions[parentPermissions.length] = permission.intern();
+        }
+        Interceptor<? super C>[] applied = parentInterceptors;
+        if (!interceptors.isEmpty()) {
+            applied = Arrays.copyOf(parentInterceptors, parentInterceptors.length + interceptors.size());
+            for (int i = 0; i < interceptors.size(); i++) {
+                applied[parentInterceptors.length + i] = interceptors.get(i);
+            }
+        }
+
+        CharTrie.Builder<CommandNode<C>> literals = CharTrie.builder();
+        List<CommandNode<C>> arguments = new ArrayList<>();
+        for (CommandNodeBuilder<C> child : children) {
+            CommandNode<C> node = child.build(path, permissions, applied, parsers);
+            if (node.isLiteral()) {
+                literals.put(node.getName(), node);
+                for (String alias : node.getAliases()) {
+                    literals.put(alias, node);
+                }
+            } else {
+                arguments.add(node);
+            }
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        CommandNode<C>[] args = arguments.toArray(new CommandNode[0]);
+        return new CommandNode<>(name, aliases, path, type, type == null ? null : parsers.require(type), permissions, description, executor, applied, literals.build(), args);
+    }
+
+}
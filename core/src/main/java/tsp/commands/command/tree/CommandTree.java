@@ -0,0 +1,222 @@
+package tsp.commands.command.tree;
+
+import tsp.commands.command.Cmd;
+import tsp.commands.command.context.AssertionFailure;
+import tsp.commands.command.context.CommandContext;
+import tsp.commands.command.intercept.InterceptorRegistry;
+import tsp.commands.command.metrics.CommandMetrics;
+import tsp.commands.command.metrics.DispatchPhase;
+import tsp.commands.command.metrics.MetricsRegistry;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A compiled dispatch tree for a {@link Cmd}.
+ * Built once from {@link Cmd#tree(CommandNodeBuilder)} and walked per invocation,
+ * resolving a subcommand path in {@code O(depth)} through each node's literal trie.
+ * <p>
+ * Commands that do not define a tree compile to a single root node which executes {@link Cmd#handle(CommandContext)}.
+ * Argument parsers are resolved from {@link Cmd#getParsers()} at compile time, failing fast on unknown types.
+ * {@link tsp.commands.command.intercept.Interceptor Interceptors} are composed into each executable node's chain at compile time as well.
+ *
+ * @param <C> Type of context.
+ * @author TheSilentPro (Silent)
+ */
+public final class CommandTree<C extends CommandContext<?>> {
+
+    private final CommandNode<C> root;
+
+    private CommandTree(CommandNode<C> root) {
+        this.root = root;
+    }
+
+    /**
+     * Compile the tree of a command.
+     *
+     * @param command The command.
+     * @return Compiled tree
+     */
+    @Nonnull
+    public static <C extends CommandContext<?>> CommandTree<C> compile(@Nonnull Cmd<?, ?, C> command) {
+        CommandNodeBuilder<C> root = new CommandNodeBuilder<>(command.getName(), null);
+        root.executes(command::handle);
+        command.getDescription().ifPresent(root::description);
+        command.getAliases().ifPresent(root::aliases);
+        command.tree(root);
+        return new CommandTree<>(root.build(null, new String[0], InterceptorRegistry.global().getAll(), command.getParsers()));
+    }
+
+    @Nonnull
+    public CommandNode<C> getRoot() {
+        return root;
+    }
+
+    /**
+     * Resolve the deepest executable node matching the arguments.
+     * Unmatched trailing arguments are left for the handler, falling back to the root.
+     *
+     * @param args The raw arguments.
+     * @return The node to execute.
+     */
+    @Nonnull
+    public CommandNode<C> resolve(@Nonnull String[] args) {
+        CommandNode<C> node = root;
+        CommandNode<C> executable = root;
+        for (String arg : args) {
+            node = node.child(arg);
+            if (node == null) {
+                break;
+            }
+            if (node.isExecutable()) {
+                executable = node;
+            }
+        }
+        return executable;
+    }
+
+    /**
+     * Complete the last argument from the literals of the node the preceding arguments resolve to,
+     * leaving out literals the sender lacks the permission for.
+     *
+     * @param ctx The context, the last argument being the one being completed.
+     * @return Matching literal names, or {@code null} if the node has no literals to complete.
+     */
+    @Nullable
+    public List<String> complete(@Nonnull C ctx) {
+        String[] args = ctx.rawArgs();
+        CommandNode<C> node = root;
+        for (int i = 0; i < args.length - 1 && node != null; i++) {
+            node = node.child(args[i]);
+        }
+        if (node == null || node.getLiterals().isEmpty()) {
+            return null;
+        }
+
+        String prefix = args.length == 0 ? "" : args[args.length - 1];
+        List<CommandNode<C>> matches = node.getLiterals().collect(prefix, new ArrayList<>());
+        List<String> names = new ArrayList<>(matches.size());
+        for (CommandNode<C> match : matches) {
+            // Aliases map to the same node, suggest its name once.
+            if (match.canUse(ctx) && !names.contains(match.getName())) {
+                names.add(match.getName());
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Suggest corrections for the first argument matching no child of the node it was checked against,
+     * e.g. {@code give} for {@code /shop gvie}, leaving out literals the sender lacks the permission for.
+     *
+     * @param ctx The context.
+     * @return Names of similar literals, nearest first, empty if every argument matched or none is similar.
+     */
+    @Nonnull
+    public List<String> suggest(@Nonnull C ctx) {
+        CommandNode<C> node = root;
+        for (String arg : arguments(ctx)) {
+            CommandNode<C> child = node.child(arg);
+            if (child != null) {
+                node = child;
+                continue;
+            }
+
+            List<CommandNode<C>> similar = node.similar(arg);
+            List<String> names = new ArrayList<>(similar.size());
+            for (CommandNode<C> match : similar) {
+                if (match.canUse(ctx)) {
+                    names.add(match.getName());
+                }
+            }
+            return names;
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * Resolve and execute the node matching the context arguments, leaving out declared flags.
+     * If the sender lacks a permission of the node, the command's permission message is sent instead.
+     * When {@link MetricsRegistry#isEnabled() enabled}, each phase is timed against the node's metrics.
+     * Replies {@link CommandContext#buffer() buffered} by the handler are delivered once it completes, even if it throws.
+     *
+     * @param ctx The context.
+     */
+    public void dispatch(@Nonnull C ctx) {
+        Cmd<?, ?, ?> command = ctx.command();
+        if (command != null && command.isReplyBuffered()) {
+            ctx.buffer();
+        }
+
+        try {
+            if (MetricsRegistry.global().isEnabled()) {
+                dispatchTimed(ctx);
+            } else {
+                dispatchUntimed(ctx);
+            }
+        } finally {
+            if (ctx.isBuffering()) {
+                ctx.unbuffer();
+            }
+        }
+    }
+
+    private void dispatchUntimed(C ctx) {
+        CommandNode<C> node = resolve(arguments(ctx));
+        if (node.canUse(ctx)) {
+            node.execute(ctx);
+        } else {
+            deny(ctx);
+        }
+    }
+
+    private void dispatchTimed(C ctx) {
+        long start = System.nanoTime();
+        CommandNode<C> node = resolve(arguments(ctx));
+        long resolved = System.nanoTime();
+        boolean allowed = node.canUse(ctx);
+        long checked = System.nanoTime();
+
+        CommandMetrics metrics = node.getMetrics();
+        metrics.recordInvocation();
+        metrics.record(DispatchPhase.PARSE, resolved - start);
+        metrics.record(DispatchPhase.PERMISSION, checked - resolved);
+        if (!allowed) {
+            metrics.recordDenial();
+            deny(ctx);
+            return;
+        }
+
+        try {
+            node.execute(ctx);
+            AssertionFailure failure = ctx.failure();
+            if (failure != null) {
+                metrics.recordAssertionFailure(failure);
+            }
+        } catch (RuntimeException | Error ex) {
+            metrics.recordFailure();
+            throw ex;
+        } finally {
+            metrics.record(DispatchPhase.HANDLER, System.nanoTime() - checked);
+        }
+    }
+
+    /**
+     * The arguments to resolve, leaving out flags when the command {@link Cmd#getFlagSpec() declares} any,
+     * so flags may appear anywhere without breaking the subcommand path.
+     */
+    private String[] arguments(C ctx) {
+        Cmd<?, ?, ?> command = ctx.command();
+        return command == null || command.getFlagSpec().isEmpty() ? ctx.rawArgs() : ctx.flags().positional();
+    }
+
+    private void deny(C ctx) {
+        if (ctx.command() != null) {
+            ctx.command().getPermissionMessage().ifPresent(ctx::reply);
+        }
+    }
+
+}
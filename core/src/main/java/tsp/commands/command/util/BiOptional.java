@@ -9,12 +9,17 @@ import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 /**
+ * The class is final and its methods are kept small, so the JIT can inline chained calls
+ * and scalar replace the intermediate instances. Operations on an empty instance return it instead of allocating a new one.
+ *
  * @see java.util.Optional
+ * @see BiOptionalInt
+ * @see BiOptionalDouble
  *
  * @author Java, TheSilentPro (Silent)
  * Type parameters: <T> – the type of value, <C> - the context.
  */
-public class BiOptional<T, C> {
+public final class BiOptional<T, C> {
 
     /**
      * If non-null, the value; if null, indicates no value is present
@@ -89,7 +94,7 @@ public class BiOptional<T, C> {
      *         is non-{@code null}, otherwise an empty {@code BiOptional}
      */
     public static <T, C> BiOptional<T, C> ofNullable(T value, C context) {
-        return value == null ? new BiOptional<>(null, context) : new BiOptional<>(value, context);
+        return new BiOptional<>(value, context);
     }
 
     /**
@@ -104,7 +109,7 @@ public class BiOptional<T, C> {
      */
     public T get() {
         if (value == null) {
-            throw new NoSuchElementException("No value present");
+            throw noValue();
         }
         return value;
     }
@@ -200,10 +205,10 @@ public class BiOptional<T, C> {
      */
     public BiOptional<T, C> filter(Predicate<? super T> predicate) {
         Objects.requireNonNull(predicate);
-        if (!isPresent()) {
+        if (value == null || predicate.test(value)) {
             return this;
         } else {
-            return predicate.test(value) ? this : empty(context);
+            return empty(context);
         }
     }
 
@@ -242,10 +247,10 @@ public class BiOptional<T, C> {
      */
     public <U> BiOptional<U, C> map(Function<? super T, ? extends U> mapper) {
         Objects.requireNonNull(mapper);
-        if (!isPresent()) {
-            return empty(context);
+        if (value == null) {
+            return emptied();
         } else {
-            return BiOptional.ofNullable(mapper.apply(value), context);
+            return new BiOptional<>(mapper.apply(value), context);
         }
     }
 
@@ -270,8 +275,8 @@ public class BiOptional<T, C> {
      */
     public <U> BiOptional<U, C> flatMap(Function<? super T, ? extends BiOptional<? extends U, C>> mapper) {
         Objects.requireNonNull(mapper);
-        if (!isPresent()) {
-            return empty(context);
+        if (value == null) {
+            return emptied();
         } else {
             @SuppressWarnings("unchecked")
             BiOptional<U, C> r = (BiOptional<U, C>) mapper.apply(value);
@@ -294,7 +299,7 @@ public class BiOptional<T, C> {
      */
     public BiOptional<T, C> or(Supplier<? extends BiOptional<? extends T, C>> supplier) {
         Objects.requireNonNull(supplier);
-        if (isPresent()) {
+        if (value != null) {
             return this;
         } else {
             @SuppressWarnings("unchecked")
@@ -362,7 +367,7 @@ public class BiOptional<T, C> {
      */
     public T orElseThrow() {
         if (value == null) {
-            throw new NoSuchElementException("No value present");
+            throw noValue();
         }
         return value;
     }
@@ -392,6 +397,21 @@ public class BiOptional<T, C> {
         }
     }
 
+    /**
+     * Re-type this empty instance, it holds no value of either type.
+     */
+    @SuppressWarnings("unchecked")
+    private <U> BiOptional<U, C> emptied() {
+        return (BiOptional<U, C>) this;
+    }
+
+    /**
+     * Kept out of line so the callers stay small enough to inline.
+     */
+    static NoSuchElementException noValue() {
+        return new NoSuchElementException("No value present");
+    }
+
     /**
      * Indicates whether some other object is "equal to" this {@code BiOptional}.
      * The other object is considered equal if:
@@ -0,0 +1,183 @@
+package tsp.commands.command.util;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * A {@link BiOptional} specialized for {@code double} values, so numeric arguments are never boxed.
+ *
+ * @see java.util.OptionalDouble
+ *
+ * @author TheSilentPro (Silent)
+ * Type parameters: <C> - the context.
+ */
+public final class BiOptionalDouble<C> {
+
+    private final boolean present;
+    private final double value;
+    private final C context;
+
+    private BiOptionalDouble(boolean present, double value, C context) {
+        this.present = present;
+        this.value = value;
+        this.context = context;
+    }
+
+    public static <C> BiOptionalDouble<C> empty(C context) {
+        return new BiOptionalDouble<>(false, 0, context);
+    }
+
+    public static <C> BiOptionalDouble<C> of(double value, C context) {
+        return new BiOptionalDouble<>(true, value, context);
+    }
+
+    /**
+     * If a value is present, returns the value, otherwise throws {@code NoSuchElementException}.
+     *
+     * @return the value
+     * @throws java.util.NoSuchElementException if no value is present
+     */
+    public double getAsDouble() {
+        if (!present) {
+            throw BiOptional.noValue();
+        }
+        return value;
+    }
+
+    /**
+     * Returns the possibly null context.
+     *
+     * @return Possibly null context.
+     */
+    public C getContext() {
+        return context;
+    }
+
+    public boolean isPresent() {
+        return present;
+    }
+
+    public boolean isEmpty() {
+        return !present;
+    }
+
+    /**
+     * If a value is absent, performs the given action with the context.
+     *
+     * @param action The action to be performed, if a value is absent.
+     * @return Context
+     */
+    public C ifAbsent(Consumer<C> action) {
+        if (!present) {
+            action.accept(context);
+        }
+        return context;
+    }
+
+    public C ifPresent(DoubleConsumer action) {
+        if (present) {
+            action.accept(value);
+        }
+        return context;
+    }
+
+    public C ifPresentOrElse(DoubleConsumer action, Runnable emptyAction) {
+        if (present) {
+            action.accept(value);
+        } else {
+            emptyAction.run();
+        }
+        return context;
+    }
+
+    /**
+     * If a value is present and matches the predicate, returns this, otherwise an empty {@code BiOptionalDouble}.
+     *
+     * @param predicate the predicate to apply to a value, if present
+     * @return this or an empty {@code BiOptionalDouble}
+     */
+    public BiOptionalDouble<C> filter(DoublePredicate predicate) {
+        Objects.requireNonNull(predicate);
+        if (!present || predicate.test(value)) {
+            return this;
+        } else {
+            return empty(context);
+        }
+    }
+
+    public BiOptionalDouble<C> map(DoubleUnaryOperator mapper) {
+        Objects.requireNonNull(mapper);
+        if (!present) {
+            return this;
+        } else {
+            return of(mapper.applyAsDouble(value), context);
+        }
+    }
+
+    /**
+     * If a value is present, returns a {@link BiOptional} describing the result of applying the mapping function to it.
+     *
+     * @param mapper the mapping function to apply to a value, if present
+     * @param <U> The type of the value returned from the mapping function
+     * @return a {@code BiOptional} of the result, empty if no value is present or the result is {@code null}
+     */
+    public <U> BiOptional<U, C> mapToObj(DoubleFunction<? extends U> mapper) {
+        Objects.requireNonNull(mapper);
+        return BiOptional.ofNullable(present ? mapper.apply(value) : null, context);
+    }
+
+    public BiOptional<Double, C> boxed() {
+        return BiOptional.ofNullable(present ? value : null, context);
+    }
+
+    public double orElse(double other) {
+        return present ? value : other;
+    }
+
+    public double orElseGet(DoubleSupplier supplier) {
+        return present ? value : supplier.getAsDouble();
+    }
+
+    public double orElseThrow() {
+        return getAsDouble();
+    }
+
+    public <X extends Throwable> double orElseThrow(Supplier<? extends X> exceptionSupplier) throws X {
+        if (present) {
+            return value;
+        } else {
+            throw exceptionSupplier.get();
+        }
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        return obj instanceof BiOptionalDouble<?> other
+                && present == other.present
+                && Double.compare(value, other.value) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return present ? Double.hashCode(value) : 0;
+    }
+
+    @Override
+    public String toString() {
+        return "BiOptionalDouble{" +
+                "value=" + (present ? value : "empty") +
+                ", context=" + context +
+                '}';
+    }
+
+}
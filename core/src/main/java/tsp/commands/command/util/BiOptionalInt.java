@@ -0,0 +1,183 @@
+package tsp.commands.command.util;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * A {@link BiOptional} specialized for {@code int} values, so numeric arguments are never boxed.
+ *
+ * @see java.util.OptionalInt
+ *
+ * @author TheSilentPro (Silent)
+ * Type parameters: <C> - the context.
+ */
+public final class BiOptionalInt<C> {
+
+    private final boolean present;
+    private final int value;
+    private final C context;
+
+    private BiOptionalInt(boolean present, int value, C context) {
+        this.present = present;
+        this.value = value;
+        this.context = context;
+    }
+
+    public static <C> BiOptionalInt<C> empty(C context) {
+        return new BiOptionalInt<>(false, 0, context);
+    }
+
+    public static <C> BiOptionalInt<C> of(int value, C context) {
+        return new BiOptionalInt<>(true, value, context);
+    }
+
+    /**
+     * If a value is present, returns the value, otherwise throws {@code NoSuchElementException}.
+     *
+     * @return the value
+     * @throws java.util.NoSuchElementException if no value is present
+     */
+    public int getAsInt() {
+        if (!present) {
+            throw BiOptional.noValue();
+        }
+        return value;
+    }
+
+    /**
+     * Returns the possibly null context.
+     *
+     * @return Possibly null context.
+     */
+    public C getContext() {
+        return context;
+    }
+
+    public boolean isPresent() {
+        return present;
+    }
+
+    public boolean isEmpty() {
+        return !present;
+    }
+
+    /**
+     * If a value is absent, performs the given action with the context.
+     *
+     * @param action The action to be performed, if a value is absent.
+     * @return Context
+     */
+    public C ifAbsent(Consumer<C> action) {
+        if (!present) {
+            action.accept(context);
+        }
+        return context;
+    }
+
+    public C ifPresent(IntConsumer action) {
+        if (present) {
+            action.accept(value);
+        }
+        return context;
+    }
+
+    public C ifPresentOrElse(IntConsumer action, Runnable emptyAction) {
+        if (present) {
+            action.accept(value);
+        } else {
+            emptyAction.run();
+        }
+        return context;
+    }
+
+    /**
+     * If a value is present and matches the predicate, returns this, otherwise an empty {@code BiOptionalInt}.
+     *
+     * @param predicate the predicate to apply to a value, if present
+     * @return this or an empty {@code BiOptionalInt}
+     */
+    public BiOptionalInt<C> filter(IntPredicate predicate) {
+        Objects.requireNonNull(predicate);
+        if (!present || predicate.test(value)) {
+            return this;
+        } else {
+            return empty(context);
+        }
+    }
+
+    public BiOptionalInt<C> map(IntUnaryOperator mapper) {
+        Objects.requireNonNull(mapper);
+        if (!present) {
+            return this;
+        } else {
+            return of(mapper.applyAsInt(value), context);
+        }
+    }
+
+    /**
+     * If a value is present, returns a {@link BiOptional} describing the result of applying the mapping function to it.
+     *
+     * @param mapper the mapping function to apply to a value, if present
+     * @param <U> The type of the value returned from the mapping function
+     * @return a {@code BiOptional} of the result, empty if no value is present or the result is {@code null}
+     */
+    public <U> BiOptional<U, C> mapToObj(IntFunction<? extends U> mapper) {
+        Objects.requireNonNull(mapper);
+        return BiOptional.ofNullable(present ? mapper.apply(value) : null, context);
+    }
+
+    public BiOptional<Integer, C> boxed() {
+        return BiOptional.ofNullable(present ? value : null, context);
+    }
+
+    public int orElse(int other) {
+        return present ? value : other;
+    }
+
+    public int orElseGet(IntSupplier supplier) {
+        return present ? value : supplier.getAsInt();
+    }
+
+    public int orElseThrow() {
+        return getAsInt();
+    }
+
+    public <X extends Throwable> int orElseThrow(Supplier<? extends X> exceptionSupplier) throws X {
+        if (present) {
+            return value;
+        } else {
+            throw exceptionSupplier.get();
+        }
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        return obj instanceof BiOptionalInt<?> other
+                && present == other.present
+                && value == other.value;
+    }
+
+    @Override
+    public int hashCode() {
+        return present ? Integer.hashCode(value) : 0;
+    }
+
+    @Override
+    public String toString() {
+        return "BiOptionalInt{" +
+                "value=" + (present ? value : "empty") +
+                ", context=" + context +
+                '}';
+    }
+
+}
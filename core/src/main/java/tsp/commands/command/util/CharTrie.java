@@ -0,0 +1,280 @@
+package tsp.commands.command.util;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An immutable, case-insensitive character trie mapping {@link String} keys to values.
+ * The trie is flattened into primitive arrays when {@link Builder#build() built},
+ * so a lookup walks one sorted edge range per character without comparing or copying strings.
+ *
+ * @param <V> Type of value.
+ * @author TheSilentPro (Silent)
+ */
+public final class CharTrie<V> {
+
+    private static final CharTrie<?> EMPTY = new Builder<>().build();
+
+    /**
+     * Offset of the first edge of each node, node {@code n} owns edges {@code [start[n], start[n + 1])}.
+     */
+    private final int[] start;
+    private final char[] chars;
+    private final int[] targets;
+    private final Object[] values;
+    private final int size;
+
+    private CharTrie(int[] start, char[] chars, int[] targets, Object[] values, int size) {
+        this.start = start;
+        this.chars = chars;
+        this.targets = targets;
+        this.values = values;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <V> CharTrie<V> empty() {
+        return (CharTrie<V>) EMPTY;
+    }
+
+    public static <V> Builder<V> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Retrieve the value mapped to a key, ignoring case.
+     *
+     * @param key The key.
+     * @return The value, or {@code null} if there is none.
+     */
+    @Nullable
+    public V get(@Nonnull CharSequence key) {
+        int node = node(key);
+        return node < 0 ? null : value(node);
+    }
+
+    /**
+     * Collect every value whose key starts with the prefix, ignoring case.
+     *
+     * @param prefix The prefix.
+     * @param into The list to add the values to.
+     * @return The list.
+     */
+    @Nonnull
+    public List<V> collect(@Nonnull CharSequence prefix, @Nonnull List<V> into) {
+        int node = node(prefix);
+        if (node >= 0) {
+            collect(node, into);
+        }
+        return into;
+    }
+
+    /**
+     * Collect every value whose key is within an edit distance of the query, ignoring case.
+     * Edits are single character insertions, deletions, substitutions and swaps of adjacent characters.
+     * Each trie edge extends one row of the distance matrix, so keys sharing a prefix share its rows and
+     * a subtree is skipped as soon as its prefix alone is too far from the query.
+     *
+     * @param query The query.
+     * @param maxDistance The maximum number of edits.
+     * @param into The list to add the values to, nearest first.
+     * @return The list.
+     */
+    @Nonnull
+    public List<V> search(@Nonnull CharSequence query, int maxDistance, @Nonnull List<V> into) {
+        char[] lower = new char[query.length()];
+        for (int i = 0; i < lower.length; i++) {
+            lower[i] = Character.toLowerCase(query.charAt(i));
+        }
+        Matches matches = new Matches(lower.length + 1);
+        int[] row = matches.row(0);
+        for (int i = 0; i < row.length; i++) {
+            row[i] = i;
+        }
+        search(0, 0, '\0', lower, maxDistance, matches);
+        Arrays.sort(matches.packed, 0, matches.size);
+        for (int i = 0; i < matches.size; i++) {
+            into.add(value((int) matches.packed[i]));
+        }
+        return into;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private int node(CharSequence key) {
+        int node = 0;
+        for (int i = 0; i < key.length(); i++) {
+            int index = Arrays.binarySearch(chars, start[node], start[node + 1], Character.toLowerCase(key.charAt(i)));
+            if (index < 0) {
+                return -1;
+            }
+            node = targets[index];
+        }
+        return node;
+    }
+
+    /**
+     * @param depth The length of the node's prefix, its row of the distance matrix being {@code matches.row(depth)}.
+     * @param last The last character of the node's prefix.
+     */
+    private void search(int node, int depth, char last, char[] query, int maxDistance, Matches matches) {
+        int end = query.length;
+        int[] previous = matches.row(depth);
+        if (previous[end] <= maxDistance && values[node] != null) {
+            matches.add(previous[end], node);
+        }
+
+        int[] beforePrevious = depth > 0 ? matches.row(depth - 1) : null;
+        int[] row = matches.row(depth + 1);
+        for (int edge = start[node]; edge < start[node + 1]; edge++) {
+            char c = chars[edge];
+            row[0] = previous[0] + 1;
+            int min = row[0];
+            for (int i = 1; i <= end; i++) {
+                int cost = query[i - 1] == c ? 0 : 1;
+                row[i] = Math.min(Math.min(row[i - 1], previous[i]) + 1, previous[i - 1] + cost);
+                if (beforePrevious != null && i > 1 && query[i - 1] == last && query[i - 2] == c) {
+                    row[i] = Math.min(row[i], beforePrevious[i - 2] + 1);
+                }
+                min = Math.min(min, row[i]);
+            }
+            // No key below this prefix can come closer than the row's minimum, a swap costing at least the substitution it replaces.
+            if (min <= maxDistance) {
+                search(targets[edge], depth + 1, c, query, maxDistance, matches);
+            }
+        }
+    }
+
+    private void collect(int node, List<V> into) {
+        V value = value(node);
+        if (value != null) {
+            into.add(value);
+        }
+        for (int i = start[node]; i < start[node + 1]; i++) {
+            collect(targets[i], into);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private V value(int node) {
+        return (V) values[node];
+    }
+
+    /**
+     * Mutable builder for a {@link CharTrie}.
+     *
+     * @param <V> Type of value.
+     */
+    public static final class Builder<V> {
+
+        private final Node<V> root = new Node<>();
+        private int size;
+
+        private Builder() {}
+
+        /**
+         * Map a key to a value, replacing any previous value.
+         *
+         * @param key The key, matched ignoring case.
+         * @param value The value.
+         * @return Builder
+         */
+        public Builder<V> put(@Nonnull String key, @Nonnull V value) {
+            Node<V> node = root;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(Character.toLowerCase(key.charAt(i)), c -> new Node<>());
+            }
+            if (node.value == null) {
+                size++;
+            }
+            node.value = value;
+            return this;
+        }
+
+        public CharTrie<V> build() {
+            // Breadth-first numbering keeps every node's edges contiguous.
+            List<Node<V>> order = new ArrayList<>();
+            order.add(root);
+            int edges = 0;
+            for (int i = 0; i < order.size(); i++) {
+                Node<V> node = order.get(i);
+                node.id = i;
+                edges += node.children.size();
+                order.addAll(node.children.values());
+            }
+
+            int[] start = new int[order.size() + 1];
+            char[] chars = new char[edges];
+            int[] targets = new int[edges];
+            Object[] values = new Object[order.size()];
+            int edge = 0;
+            for (Node<V> node : order) {
+                start[node.id] = edge;
+                values[node.id] = node.value;
+                for (Map.Entry<Character, Node<V>> child : node.children.entrySet()) {
+                    chars[edge] = child.getKey();
+                    targets[edge] = child.getValue().id;
+                    edge++;
+                }
+            }
+            start[order.size()] = edge;
+            return new CharTrie<>(start, chars, targets, values, size);
+        }
+
+    }
+
+    /**
+     * The state of a {@link #search(CharSequence, int, List) search}: one reused row of the distance matrix per depth,
+     * and the matches packed as distance in the high bits and node in the low bits, so sorting orders them by distance.
+     */
+    private static final class Matches {
+
+        private final int width;
+        private int[][] rows = new int[8][];
+        private long[] packed = new long[8];
+        private int size;
+
+        private Matches(int width) {
+            this.width = width;
+        }
+
+        private int[] row(int depth) {
+            if (depth == rows.length) {
+                rows = Arrays.copyOf(rows, depth * 2);
+            }
+            int[] row = rows[depth];
+            if (row == null) {
+                row = rows[depth] = new int[width];
+            }
+            return row;
+        }
+
+        private void add(int distance, int node) {
+            if (size == packed.length) {
+                packed = Arrays.copyOf(packed, size * 2);
+            }
+            packed[size++] = ((long) distance << 32) | node;
+        }
+
+    }
+
+    private static final class Node<V> {
+
+        private final TreeMap<Character, Node<V>> children = new TreeMap<>();
+        private V value;
+        private int id;
+
+    }
+
+}
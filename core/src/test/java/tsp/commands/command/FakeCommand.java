@@ -0,0 +1,61 @@
+package tsp.commands.command;
+
+import tsp.commands.command.flag.FlagSpec;
+import tsp.commands.command.tree.CommandNodeBuilder;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A command defined by a tree spec, whose root handler replies {@link #USAGE}.
+ *
+ * @author TheSilentPro (Silent)
+ */
+public class FakeCommand extends AbstractCommand<FakeSender, Void, FakeContext> {
+
+    public static final String USAGE = "usage";
+
+    private final Consumer<CommandNodeBuilder<FakeContext>> tree;
+    private final FlagSpec flagSpec;
+
+    public FakeCommand(String permission, String permissionMessage, String name, FlagSpec flagSpec, Consumer<CommandNodeBuilder<FakeContext>> tree) {
+        super(permission, permissionMessage, name, new String[0]);
+        this.tree = tree;
+        this.flagSpec = flagSpec;
+    }
+
+    public FakeCommand(String name, Consumer<CommandNodeBuilder<FakeContext>> tree) {
+        this(null, null, name, FlagSpec.none(), tree);
+    }
+
+    @Override
+    public FlagSpec getFlagSpec() {
+        return flagSpec;
+    }
+
+    @Override
+    public void tree(CommandNodeBuilder<FakeContext> root) {
+        tree.accept(root);
+    }
+
+    @Override
+    public void handle(FakeContext ctx) {
+        ctx.reply(USAGE);
+    }
+
+    @Override
+    public void register(Void commandHandler) {}
+
+    /**
+     * Dispatch arguments as a sender.
+     *
+     * @param sender The sender.
+     * @param args The arguments.
+     * @return The messages the sender received.
+     */
+    public List<String> run(FakeSender sender, String... args) {
+        dispatch(new FakeContext(sender, this, args));
+        return sender.getMessages();
+    }
+
+}
@@ -0,0 +1,56 @@
+package tsp.commands.command;
+
+import tsp.commands.command.context.CommandContext;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A context for a {@link FakeSender}, checking permissions and delivering replies directly.
+ *
+ * @author TheSilentPro (Silent)
+ */
+public final class FakeContext implements CommandContext<FakeSender> {
+
+    private final FakeSender sender;
+    private final FakeCommand command;
+    private final String[] args;
+
+    public FakeContext(FakeSender sender, FakeCommand command, String... args) {
+        this.sender = sender;
+        this.command = command;
+        this.args = args;
+    }
+
+    @Override
+    public FakeSender sender() {
+        return sender;
+    }
+
+    @Nonnull
+    @Override
+    public String[] rawArgs() {
+        return args;
+    }
+
+    @Override
+    public Cmd<FakeSender, ?, ?> command() {
+        return command;
+    }
+
+    @Override
+    public Object senderId() {
+        return sender.getName();
+    }
+
+    @Override
+    public boolean hasPermission(@Nonnull String permission) {
+        return sender.hasPermission(permission);
+    }
+
+    @Override
+    public FakeContext reply(String message) {
+        sender.sendMessage(message);
+        return this;
+    }
+
+}
@@ -0,0 +1,39 @@
+package tsp.commands.command;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A sender without a platform, granted a fixed set of permissions and recording the messages it receives.
+ *
+ * @author TheSilentPro (Silent)
+ */
+public final class FakeSender {
+
+    private final String name;
+    private final Set<String> permissions;
+    private final List<String> messages = new ArrayList<>();
+
+    public FakeSender(String name, String... permissions) {
+        this.name = name;
+        this.permissions = Set.of(permissions);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean hasPermission(String permission) {
+        return permissions.contains(permission);
+    }
+
+    public void sendMessage(String message) {
+        messages.add(message);
+    }
+
+    public List<String> getMessages() {
+        return messages;
+    }
+
+}
@@ -0,0 +1,124 @@
+package tsp.commands.command.context;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CommandLineTest {
+
+    @Test
+    void splitsOnSpaces() {
+        CommandLine line = CommandLine.parse("  give   Notch  dirt ");
+
+        assertEquals(3, line.size());
+        assertEquals("give", line.token(0));
+        assertEquals("Notch", line.token(1));
+        assertEquals("dirt", line.token(2));
+    }
+
+    @Test
+    void quotedTokensContainSpaces() {
+        CommandLine line = CommandLine.parse("rename \"Diamond Sword\" 'of doom'");
+
+        assertEquals(3, line.size());
+        assertEquals("Diamond Sword", line.token(1));
+        assertEquals("of doom", line.token(2));
+    }
+
+    @Test
+    void quotesOnlyEndAtTheirOwnKind() {
+        CommandLine line = CommandLine.parse("say \"it's fine\" 'a \"b\"'");
+
+        assertEquals("it's fine", line.token(1));
+        assertEquals("a \"b\"", line.token(2));
+    }
+
+    @Test
+    void backslashEscapes() {
+        CommandLine line = CommandLine.parse("say a\\ b \"quote \\\" inside\"");
+
+        assertEquals(3, line.size());
+        assertEquals("a b", line.token(1));
+        assertEquals("quote \" inside", line.token(2));
+    }
+
+    @Test
+    void trailingBackslashIsKept() {
+        CommandLine line = CommandLine.parse("path C:\\");
+
+        assertEquals("C:\\", line.token(1));
+    }
+
+    @Test
+    void unterminatedQuoteExtendsToEnd() {
+        CommandLine line = CommandLine.parse("msg \"hello there");
+
+        assertEquals(2, line.size());
+        assertEquals("hello there", line.token(1));
+    }
+
+    @Test
+    void emptyQuotesAreAnEmptyToken() {
+        CommandLine line = CommandLine.parse("set \"\" value");
+
+        assertEquals(3, line.size());
+        assertEquals("", line.token(1));
+        assertEquals("value", line.token(2));
+    }
+
+    @Test
+    void tailKeepsQuotesAsTyped() {
+        CommandLine line = CommandLine.parse("broadcast \"Server\" restarting  in 5");
+
+        assertEquals("\"Server\" restarting  in 5", line.tail(1));
+        assertEquals("restarting  in 5", line.tail(2));
+    }
+
+    @Test
+    void matchesWithoutCopying() {
+        CommandLine line = CommandLine.parse("GIVE \"Notch\" a\\b");
+
+        assertTrue(line.matches(0, "give", true));
+        assertFalse(line.matches(0, "give", false));
+        assertTrue(line.matches(1, "Notch", false));
+        assertTrue(line.matches(2, "ab", false));
+        assertFalse(line.matches(2, "a", false));
+    }
+
+    @Test
+    void offsetsExcludeQuotes() {
+        CommandLine line = CommandLine.parse("a \"bc\"");
+
+        assertEquals(3, line.start(1));
+        assertEquals(5, line.end(1));
+    }
+
+    @Test
+    void missingTokensAreOutOfBounds() {
+        CommandLine line = CommandLine.parse("one");
+
+        assertThrows(IndexOutOfBoundsException.class, () -> line.token(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> line.tail(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> line.start(-1));
+    }
+
+    @Test
+    void emptyLines() {
+        assertSame(CommandLine.empty(), CommandLine.parse(""));
+        assertEquals(0, CommandLine.parse("   ").size());
+        assertEquals(0, CommandLine.parse(new String[0]).size());
+    }
+
+    @Test
+    void joinsSplitArguments() {
+        CommandLine line = CommandLine.parse(new String[]{"say", "\"hello", "world\""});
+
+        assertEquals(2, line.size());
+        assertEquals("hello world", line.token(1));
+    }
+
+}
@@ -0,0 +1,97 @@
+package tsp.commands.command.execution;
+
+import org.junit.jupiter.api.Test;
+import tsp.commands.command.FakeCommand;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AsyncDispatcherTest {
+
+    private final DirectExecutor executor = new DirectExecutor();
+    private final AsyncDispatcher dispatcher = new AsyncDispatcher(executor, ex -> {});
+    private final FakeCommand command = new FakeCommand("search", root -> {}) {
+        @Override
+        public int getConcurrencyLimit() {
+            return 1;
+        }
+    };
+
+    @Test
+    void runsAndReleasesPermit() {
+        List<String> ran = new ArrayList<>();
+
+        Future<?> first = dispatcher.submit(command, "Notch", () -> ran.add("first"));
+        Future<?> second = dispatcher.submit(command, "Notch", () -> ran.add("second"));
+
+        assertNotNull(first);
+        assertNotNull(second);
+        assertTrue(first.isDone());
+        assertEquals(List.of("first", "second"), ran);
+    }
+
+    @Test
+    void rejectedExecutionReleasesPermit() {
+        List<String> ran = new ArrayList<>();
+        executor.rejecting = true;
+
+        assertNull(dispatcher.submit(command, "Notch", () -> ran.add("rejected")));
+
+        executor.rejecting = false;
+        assertNotNull(dispatcher.submit(command, "Notch", () -> ran.add("accepted")));
+        assertEquals(List.of("accepted"), ran);
+    }
+
+    /**
+     * Runs tasks on the calling thread, or rejects them while {@link #rejecting}.
+     */
+    private static final class DirectExecutor extends AbstractExecutorService {
+
+        private boolean rejecting;
+
+        @Override
+        public void execute(Runnable command) {
+            if (rejecting) {
+                throw new RejectedExecutionException();
+            }
+            command.run();
+        }
+
+        @Override
+        public void shutdown() {
+            rejecting = true;
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            rejecting = true;
+            return List.of();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return rejecting;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return rejecting;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+
+    }
+
+}
@@ -0,0 +1,119 @@
+package tsp.commands.command.flag;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FlagsTest {
+
+    private static final FlagSpec SPEC = FlagSpec.builder()
+            .flag("all", 'a')
+            .flag("silent", 's')
+            .option("radius", 'r')
+            .option("world")
+            .build();
+
+    private static Flags parse(String... args) {
+        return Flags.parse(args, SPEC);
+    }
+
+    @Test
+    void longFlags() {
+        Flags flags = parse("--silent", "--radius", "50", "--world=nether", "target");
+
+        assertEquals("true", flags.get("silent"));
+        assertEquals("50", flags.get("radius"));
+        assertEquals("nether", flags.get("world"));
+        assertArrayEquals(new String[]{"target"}, flags.positional());
+    }
+
+    @Test
+    void shortFlagsResolveToLongNames() {
+        Flags flags = parse("-s", "-r", "10");
+
+        assertTrue(flags.has("silent"));
+        assertEquals("10", flags.get("radius"));
+        assertEquals(Set.of("silent", "radius"), flags.names());
+    }
+
+    @Test
+    void bundledShortFlags() {
+        Flags flags = parse("-as", "target");
+
+        assertTrue(flags.has("all"));
+        assertTrue(flags.has("silent"));
+        assertArrayEquals(new String[]{"target"}, flags.positional());
+    }
+
+    @Test
+    void bundleEndsWithValue() {
+        assertEquals("25", parse("-ar25").get("radius"));
+
+        Flags separate = parse("-sr", "30", "target");
+        assertTrue(separate.has("silent"));
+        assertEquals("30", separate.get("radius"));
+        assertArrayEquals(new String[]{"target"}, separate.positional());
+    }
+
+    @Test
+    void singleDashLongName() {
+        Flags flags = parse("-radius", "5", "-world", "end");
+
+        assertEquals("5", flags.get("radius"));
+        assertEquals("end", flags.get("world"));
+        assertEquals(0, flags.positional().length);
+    }
+
+    @Test
+    void undeclaredFlagsAreBoolean() {
+        Flags flags = parse("--force", "-x", "target");
+
+        assertEquals("true", flags.get("force"));
+        assertEquals("true", flags.get("x"));
+        assertArrayEquals(new String[]{"target"}, flags.positional());
+    }
+
+    @Test
+    void doubleDashEndsFlags() {
+        Flags flags = parse("-s", "--", "-a", "--radius");
+
+        assertTrue(flags.has("silent"));
+        assertFalse(flags.has("all"));
+        assertArrayEquals(new String[]{"-a", "--radius"}, flags.positional());
+    }
+
+    @Test
+    void negativeNumbersArePositional() {
+        Flags flags = parse("tp", "-12", "-0.5", "-1e3");
+
+        assertTrue(flags.isEmpty());
+        assertArrayEquals(new String[]{"tp", "-12", "-0.5", "-1e3"}, flags.positional());
+    }
+
+    @Test
+    void singleDashIsPositional() {
+        assertArrayEquals(new String[]{"-"}, parse("-").positional());
+    }
+
+    @Test
+    void missingOptionValueIsAbsent() {
+        Flags flags = parse("target", "--radius");
+
+        assertFalse(flags.has("radius"));
+        assertNull(flags.get("radius"));
+        assertArrayEquals(new String[]{"target"}, flags.positional());
+    }
+
+    @Test
+    void noArgumentsIsEmpty() {
+        assertSame(Flags.empty(), parse());
+    }
+
+}
@@ -0,0 +1,86 @@
+package tsp.commands.command.parser;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NumberParsersTest {
+
+    @Test
+    void intBounds() {
+        assertEquals(Integer.MAX_VALUE, NumberParsers.parseInt("2147483647"));
+        assertEquals(Integer.MIN_VALUE, NumberParsers.parseInt("-2147483648"));
+        assertNull(NumberParsers.parseInt("2147483648"));
+        assertNull(NumberParsers.parseInt("-2147483649"));
+        assertNull(NumberParsers.parseInt("99999999999999999999"));
+    }
+
+    @Test
+    void intSigns() {
+        assertEquals(42, NumberParsers.parseInt("+42"));
+        assertEquals(-7, NumberParsers.parseInt("-7"));
+        assertEquals(0, NumberParsers.parseInt("-0"));
+        assertEquals(8, NumberParsers.parseInt("0008"));
+        assertNull(NumberParsers.parseInt("+"));
+        assertNull(NumberParsers.parseInt("-"));
+        assertNull(NumberParsers.parseInt("--1"));
+    }
+
+    @Test
+    void invalidInts() {
+        assertNull(NumberParsers.parseInt(""));
+        assertNull(NumberParsers.parseInt(" 1"));
+        assertNull(NumberParsers.parseInt("1 "));
+        assertNull(NumberParsers.parseInt("1.0"));
+        assertNull(NumberParsers.parseInt("0x10"));
+        assertNull(NumberParsers.parseInt("\u0661\u0662"));
+    }
+
+    @Test
+    void unboxedIntMarksInvalidOutsideRange() {
+        assertEquals(Integer.MIN_VALUE, NumberParsers.parseIntUnboxed("-2147483648"));
+        assertEquals(NumberParsers.INVALID_INT, NumberParsers.parseIntUnboxed("abc"));
+        assertEquals(NumberParsers.INVALID_INT, NumberParsers.parseIntUnboxed("2147483648"));
+    }
+
+    @Test
+    void longBounds() {
+        assertEquals(Long.MAX_VALUE, NumberParsers.parseLong("9223372036854775807"));
+        assertEquals(Long.MIN_VALUE, NumberParsers.parseLong("-9223372036854775808"));
+        assertNull(NumberParsers.parseLong("9223372036854775808"));
+        assertNull(NumberParsers.parseLong("-9223372036854775809"));
+    }
+
+    @Test
+    void decimals() {
+        assertEquals(0.5, NumberParsers.parseDouble(".5"));
+        assertEquals(5.0, NumberParsers.parseDouble("5."));
+        assertEquals(-1000.0, NumberParsers.parseDouble("-1e3"));
+        assertEquals(0.025, NumberParsers.parseDouble("+2.5E-2"));
+        assertEquals(1.5f, NumberParsers.parseFloat("1.5"));
+    }
+
+    @Test
+    void invalidDecimals() {
+        assertNull(NumberParsers.parseDouble(""));
+        assertNull(NumberParsers.parseDouble("."));
+        assertNull(NumberParsers.parseDouble("-"));
+        assertNull(NumberParsers.parseDouble("1e"));
+        assertNull(NumberParsers.parseDouble("e5"));
+        assertNull(NumberParsers.parseDouble("1.2.3"));
+        assertNull(NumberParsers.parseDouble("NaN"));
+        assertNull(NumberParsers.parseDouble("Infinity"));
+        assertNull(NumberParsers.parseDouble("1d"));
+        assertNull(NumberParsers.parseDouble("0x1p3"));
+        assertNull(NumberParsers.parseFloat(" 1"));
+    }
+
+    @Test
+    void unboxedDoubleMarksInvalidAsNaN() {
+        assertEquals(2.5, NumberParsers.parseDoubleUnboxed("2.5"));
+        assertTrue(Double.isNaN(NumberParsers.parseDoubleUnboxed("abc")));
+    }
+
+}
@@ -0,0 +1,159 @@
+package tsp.commands.command.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RateLimiterTest {
+
+    /**
+     * The time in nanoseconds seen by limiters created with {@link #limiter(RateLimit, RateLimit)}.
+     */
+    private final AtomicLong clock = new AtomicLong();
+
+    private RateLimiter limiter(RateLimit limit, RateLimit globalLimit) {
+        return new RateLimiter(limit, globalLimit, clock::get);
+    }
+
+    private void advance(long duration, TimeUnit unit) {
+        clock.addAndGet(unit.toNanos(duration));
+    }
+
+    @Test
+    void allowsFullBurstThenDenies() {
+        RateLimiter limiter = new RateLimiter(RateLimit.of(3, 1, TimeUnit.HOURS));
+
+        assertTrue(limiter.tryAcquire("Notch"));
+        assertTrue(limiter.tryAcquire("Notch"));
+        assertTrue(limiter.tryAcquire("Notch"));
+        assertFalse(limiter.tryAcquire("Notch"));
+    }
+
+    @Test
+    void keysAreLimitedSeparately() {
+        RateLimiter limiter = new RateLimiter(RateLimit.cooldown(1, TimeUnit.HOURS));
+
+        assertTrue(limiter.tryAcquire("Notch"));
+        assertFalse(limiter.tryAcquire("Notch"));
+        assertTrue(limiter.tryAcquire("jeb_"));
+    }
+
+    @Test
+    void refillsOnePermitPerInterval() {
+        RateLimiter limiter = limiter(RateLimit.of(2, 200, TimeUnit.MILLISECONDS), null);
+
+        assertTrue(limiter.tryAcquire("Notch"));
+        assertTrue(limiter.tryAcquire("Notch"));
+        assertFalse(limiter.tryAcquire("Notch"));
+
+        // One interval (period / permits) later, a single permit is back.
+        advance(99, TimeUnit.MILLISECONDS);
+        assertFalse(limiter.tryAcquire("Notch"));
+        advance(1, TimeUnit.MILLISECONDS);
+        assertTrue(limiter.tryAcquire("Notch"));
+        assertFalse(limiter.tryAcquire("Notch"));
+
+        // The full burst is back after a whole period.
+        advance(200, TimeUnit.MILLISECONDS);
+        assertTrue(limiter.tryAcquire("Notch"));
+        assertTrue(limiter.tryAcquire("Notch"));
+        assertFalse(limiter.tryAcquire("Notch"));
+    }
+
+    @Test
+    void resetForgetsKey() {
+        RateLimiter limiter = new RateLimiter(RateLimit.cooldown(1, TimeUnit.HOURS));
+
+        assertTrue(limiter.tryAcquire("Notch"));
+        limiter.reset("Notch");
+        assertTrue(limiter.tryAcquire("Notch"));
+    }
+
+    @Test
+    void purgeKeepsBucketsStillRefilling() {
+        RateLimiter limiter = new RateLimiter(RateLimit.cooldown(1, TimeUnit.HOURS));
+
+        assertTrue(limiter.tryAcquire("Notch"));
+        limiter.purge();
+        assertFalse(limiter.tryAcquire("Notch"));
+    }
+
+    @Test
+    void purgedBucketIsReplaced() {
+        RateLimiter limiter = limiter(RateLimit.of(2, 1, TimeUnit.SECONDS), null);
+
+        assertTrue(limiter.tryAcquire("Notch"));
+        advance(1, TimeUnit.SECONDS);
+        limiter.purge();
+
+        assertTrue(limiter.tryAcquire("Notch"));
+        assertTrue(limiter.tryAcquire("Notch"));
+        assertFalse(limiter.tryAcquire("Notch"));
+    }
+
+    @Test
+    void globalLimitIsShared() {
+        RateLimiter limiter = new RateLimiter(null, RateLimit.of(2, 1, TimeUnit.HOURS));
+
+        assertTrue(limiter.tryAcquire("Notch"));
+        assertTrue(limiter.tryAcquire("jeb_"));
+        assertFalse(limiter.tryAcquire("Dinnerbone"));
+        assertFalse(limiter.tryAcquire(null));
+    }
+
+    @Test
+    void keyDenialDoesNotTakeGlobalPermit() {
+        RateLimiter limiter = new RateLimiter(RateLimit.cooldown(1, TimeUnit.HOURS), RateLimit.of(2, 1, TimeUnit.HOURS));
+
+        assertTrue(limiter.tryAcquire("Notch"));
+        assertFalse(limiter.tryAcquire("Notch"));
+        assertTrue(limiter.tryAcquire("jeb_"));
+        assertFalse(limiter.tryAcquire("Dinnerbone"));
+    }
+
+    @Test
+    void globalDenialGivesBackKeyPermit() {
+        RateLimiter limiter = limiter(RateLimit.of(2, 1, TimeUnit.HOURS), RateLimit.cooldown(100, TimeUnit.MILLISECONDS));
+
+        assertTrue(limiter.tryAcquire("Notch"));
+        // Denied by the global cooldown, the key's second permit is kept.
+        assertFalse(limiter.tryAcquire("Notch"));
+
+        advance(100, TimeUnit.MILLISECONDS);
+        assertTrue(limiter.tryAcquire("Notch"));
+
+        advance(100, TimeUnit.MILLISECONDS);
+        assertFalse(limiter.tryAcquire("Notch"));
+    }
+
+    @Test
+    void nullKeyOnlyAppliesGlobalLimit() {
+        RateLimiter limiter = new RateLimiter(RateLimit.cooldown(1, TimeUnit.HOURS));
+
+        assertTrue(limiter.tryAcquire(null));
+        assertTrue(limiter.tryAcquire(null));
+    }
+
+    @Test
+    void messagePrefersKeyLimit() {
+        RateLimit limit = RateLimit.cooldown(1, TimeUnit.SECONDS).message("Slow down!");
+        RateLimit global = RateLimit.of(10, 1, TimeUnit.SECONDS).message("Server busy.");
+
+        assertEquals("Slow down!", new RateLimiter(limit, global).getMessage().orElseThrow());
+        assertEquals("Server busy.", new RateLimiter(RateLimit.cooldown(1, TimeUnit.SECONDS), global).getMessage().orElseThrow());
+    }
+
+    @Test
+    void rejectsInvalidLimits() {
+        assertThrows(IllegalArgumentException.class, () -> RateLimit.of(0, 1, TimeUnit.SECONDS));
+        assertThrows(IllegalArgumentException.class, () -> RateLimit.of(1, 0, TimeUnit.SECONDS));
+        assertThrows(IllegalArgumentException.class, () -> RateLimit.of(1000, 100, TimeUnit.NANOSECONDS));
+    }
+
+}
@@ -0,0 +1,164 @@
+package tsp.commands.command.tree;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tsp.commands.command.FakeCommand;
+import tsp.commands.command.FakeContext;
+import tsp.commands.command.FakeSender;
+import tsp.commands.command.flag.FlagSpec;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CommandTreeTest {
+
+    private final List<String> executed = new ArrayList<>();
+    private FakeCommand shop;
+
+    @BeforeEach
+    void setUp() {
+        shop = new FakeCommand("shop", root -> root
+                .literal("give", give -> give
+                        .aliases("g")
+                        .argument("item", String.class, item -> item
+                                .executes(ctx -> executed.add("give " + ctx.rawArgs()[1]))
+                                .argument("amount", Integer.class, amount -> amount
+                                        .executes(ctx -> executed.add("give " + ctx.rawArgs()[1] + " x" + ctx.rawArgs()[2])))))
+                .literal("price", price -> price
+                        .literal("set", set -> set.executes(ctx -> executed.add("price set"))))
+                .literal("admin", admin -> admin
+                        .permission("shop.admin")
+                        .executes(ctx -> executed.add("admin"))
+                        .literal("reload", reload -> reload
+                                .permission("shop.admin.reload")
+                                .executes(ctx -> executed.add("reload"))))
+                .argument("page", Integer.class, page -> page.executes(ctx -> executed.add("page " + ctx.rawArgs()[0]))));
+        shop.compileTree();
+    }
+
+    @Test
+    void resolvesLiteralsIgnoringCase() {
+        shop.run(new FakeSender("Notch"), "PRICE", "Set");
+
+        assertEquals(List.of("price set"), executed);
+    }
+
+    @Test
+    void resolvesAliases() {
+        CommandTree<FakeContext> tree = shop.getTree();
+
+        assertSame(tree.resolve(new String[]{"give", "dirt"}), tree.resolve(new String[]{"g", "dirt"}));
+        shop.run(new FakeSender("Notch"), "G", "dirt");
+        assertEquals(List.of("give dirt"), executed);
+    }
+
+    @Test
+    void resolvesTypedArguments() {
+        shop.run(new FakeSender("Notch"), "give", "diamond", "64");
+        shop.run(new FakeSender("Notch"), "3");
+
+        assertEquals(List.of("give diamond x64", "page 3"), executed);
+    }
+
+    @Test
+    void invalidArgumentFallsBackToDeepestExecutableNode() {
+        CommandNode<FakeContext> node = shop.getTree().resolve(new String[]{"give", "diamond", "lots"});
+
+        assertEquals("shop give <item>", node.getPath());
+    }
+
+    @Test
+    void unmatchedInputFallsBackToRoot() {
+        FakeSender sender = new FakeSender("Notch");
+        shop.run(sender, "sell");
+        shop.run(sender, "price");
+
+        assertTrue(executed.isEmpty());
+        assertEquals(List.of(FakeCommand.USAGE, FakeCommand.USAGE), sender.getMessages());
+    }
+
+    @Test
+    void literalTakesPrecedenceOverArgument() {
+        FakeCommand command = new FakeCommand("warp", root -> root
+                .literal("list", list -> list.executes(ctx -> executed.add("list")))
+                .argument("name", String.class, name -> name.executes(ctx -> executed.add("warp " + ctx.rawArgs()[0]))));
+        command.compileTree();
+
+        command.run(new FakeSender("Notch"), "list");
+        command.run(new FakeSender("Notch"), "spawn");
+
+        assertEquals(List.of("list", "warp spawn"), executed);
+    }
+
+    @Test
+    void deniesMissingPermissionWithCommandMessage() {
+        FakeCommand command = new FakeCommand(null, "No permission.", "shop", FlagSpec.none(), root -> root
+                .literal("admin", admin -> admin.permission("shop.admin").executes(ctx -> executed.add("admin"))));
+        command.compileTree();
+
+        List<String> messages = command.run(new FakeSender("Notch"), "admin");
+
+        assertTrue(executed.isEmpty());
+        assertEquals(List.of("No permission."), messages);
+    }
+
+    @Test
+    void childPermissionsIncludeParents() {
+        FakeSender moderator = new FakeSender("Notch", "shop.admin.reload");
+        FakeSender admin = new FakeSender("jeb_", "shop.admin", "shop.admin.reload");
+
+        shop.run(moderator, "admin", "reload");
+        shop.run(admin, "admin", "reload");
+
+        assertEquals(List.of("reload"), executed);
+        assertEquals(List.of("shop.admin", "shop.admin.reload"), List.of(shop.getTree().resolve(new String[]{"admin", "reload"}).getPermissions()));
+    }
+
+    @Test
+    void flagsAreLeftOutOfThePath() {
+        FakeCommand command = new FakeCommand(null, null, "shop", FlagSpec.builder().flag("silent", 's').option("price", 'p').build(), root -> root
+                .literal("give", give -> give.argument("item", String.class, item -> item
+                        .executes(ctx -> executed.add("give " + ctx.flags().positional()[1] + " " + ctx.flags().has("silent") + " " + ctx.flags().get("price"))))));
+        command.compileTree();
+
+        command.run(new FakeSender("Notch"), "-s", "give", "--price", "5", "dirt");
+
+        assertEquals(List.of("give dirt true 5"), executed);
+    }
+
+    @Test
+    void completesLiteralsTheSenderMayUse() {
+        FakeCommand command = shop;
+        FakeSender player = new FakeSender("Notch");
+        FakeSender admin = new FakeSender("jeb_", "shop.admin");
+
+        assertEquals(List.of("price"), command.getTree().complete(new FakeContext(player, command, "p")));
+        assertEquals(List.of("admin"), command.getTree().complete(new FakeContext(admin, command, "a")));
+        assertTrue(command.getTree().complete(new FakeContext(player, command, "a")).isEmpty());
+        assertNull(command.getTree().complete(new FakeContext(player, command, "give", "")));
+    }
+
+    @Test
+    void suggestsSimilarLiterals() {
+        FakeSender player = new FakeSender("Notch");
+
+        assertEquals(List.of("give"), shop.getTree().suggest(new FakeContext(player, shop, "gvie", "dirt")));
+        assertEquals(List.of("set"), shop.getTree().suggest(new FakeContext(player, shop, "price", "sett")));
+        assertTrue(shop.getTree().suggest(new FakeContext(player, shop, "admn")).isEmpty());
+        assertTrue(shop.getTree().suggest(new FakeContext(player, shop, "give", "dirt")).isEmpty());
+    }
+
+    @Test
+    void unknownArgumentTypeFailsAtCompileTime() {
+        FakeCommand command = new FakeCommand("broken", root -> root.argument("value", StringBuilder.class, value -> value.executes(ctx -> {})));
+
+        assertThrows(IllegalArgumentException.class, command::compileTree);
+    }
+
+}
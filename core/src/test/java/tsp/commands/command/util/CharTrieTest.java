@@ -0,0 +1,98 @@
+package tsp.commands.command.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CharTrieTest {
+
+    private static CharTrie<String> trie(String... keys) {
+        CharTrie.Builder<String> builder = CharTrie.builder();
+        for (String key : keys) {
+            builder.put(key, key);
+        }
+        return builder.build();
+    }
+
+    @Test
+    void getIgnoresCase() {
+        CharTrie<String> trie = trie("give", "Gamemode");
+
+        assertEquals("give", trie.get("GIVE"));
+        assertEquals("Gamemode", trie.get("gamemode"));
+        assertEquals(2, trie.size());
+    }
+
+    @Test
+    void getRequiresWholeKey() {
+        CharTrie<String> trie = trie("give", "giveall");
+
+        assertNull(trie.get("giv"));
+        assertNull(trie.get("gives"));
+        assertNull(trie.get(""));
+        assertEquals("giveall", trie.get("giveall"));
+    }
+
+    @Test
+    void emptyTrie() {
+        CharTrie<String> trie = CharTrie.empty();
+
+        assertTrue(trie.isEmpty());
+        assertNull(trie.get("give"));
+        assertTrue(trie.collect("", new ArrayList<>()).isEmpty());
+        assertTrue(trie.search("give", 2, new ArrayList<>()).isEmpty());
+    }
+
+    @Test
+    void collectsByPrefix() {
+        CharTrie<String> trie = trie("give", "giveall", "gamemode", "tp");
+
+        List<String> matches = trie.collect("GI", new ArrayList<>());
+
+        assertEquals(2, matches.size());
+        assertTrue(matches.containsAll(List.of("give", "giveall")));
+        assertEquals(4, trie.collect("", new ArrayList<>()).size());
+        assertTrue(trie.collect("x", new ArrayList<>()).isEmpty());
+    }
+
+    @Test
+    void searchToleratesSingleEdits() {
+        CharTrie<String> trie = trie("give", "tp", "warp");
+
+        assertEquals(List.of("give"), trie.search("gve", 1, new ArrayList<>()));
+        assertEquals(List.of("give"), trie.search("giive", 1, new ArrayList<>()));
+        assertEquals(List.of("give"), trie.search("gave", 1, new ArrayList<>()));
+        assertEquals(List.of("give"), trie.search("GIVE", 0, new ArrayList<>()));
+    }
+
+    @Test
+    void searchCountsAdjacentSwapAsOneEdit() {
+        CharTrie<String> trie = trie("give");
+
+        assertEquals(List.of("give"), trie.search("gvie", 1, new ArrayList<>()));
+        assertTrue(trie.search("vgei", 1, new ArrayList<>()).isEmpty());
+    }
+
+    @Test
+    void searchRespectsMaxDistance() {
+        CharTrie<String> trie = trie("gamemode");
+
+        assertTrue(trie.search("gmaemdoe", 1, new ArrayList<>()).isEmpty());
+        assertEquals(List.of("gamemode"), trie.search("gmaemdoe", 2, new ArrayList<>()));
+        assertTrue(trie.search("gamemode", -1, new ArrayList<>()).isEmpty());
+    }
+
+    @Test
+    void searchReturnsNearestFirst() {
+        CharTrie<String> trie = trie("sethome", "home", "homes");
+
+        assertEquals(List.of("homes", "home"), trie.search("homes", 2, new ArrayList<>()).subList(0, 2));
+        assertEquals(List.of("home", "homes"), trie.search("hom", 2, new ArrayList<>()));
+    }
+
+}